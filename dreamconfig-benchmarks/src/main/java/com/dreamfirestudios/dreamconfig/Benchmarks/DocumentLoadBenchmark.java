@@ -0,0 +1,114 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Benchmarks;
+
+import com.dreamfirestudios.dreamconfig.Internal.Binary.BinaryDocument;
+import com.dreamfirestudios.dreamconfig.Internal.Reflection.DreamConfigDeSerializer;
+import com.dreamfirestudios.dreamconfig.Internal.Yaml.ParsedDocumentCache;
+import com.dreamfirestudios.dreamconfig.Internal.Yaml.YamlStreamReader;
+import com.dreamfirestudios.dreamconfig.Internal.Yaml.YamlStreamWriter;
+import com.dreamfirestudios.dreamconfig.Model.Interfaces.IDreamConfig;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/// <summary>
+/// Loads one small player document from <c>.yml</c> and from <c>.dcb</c>, following the same steps as
+/// <c>YamlConfigRepository</c> and <c>BinaryConfigRepository</c>.
+/// </summary>
+/// <remarks>
+/// The parsed-document cache is disabled so every YAML load parses the file. File sizes are printed during setup.
+/// Run with <c>java -jar dreamconfig-benchmarks/target/benchmarks.jar DocumentLoadBenchmark</c>.
+/// </remarks>
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class DocumentLoadBenchmark {
+    /// <summary>Representative per-player document.</summary>
+    public static final class PlayerDocument implements IDreamConfig {
+        public String name = "player";
+        public int level = 1;
+        public long firstJoin = 0L;
+        public double balance = 0d;
+        public boolean muted = false;
+        public List<String> homes = new ArrayList<>();
+        public Map<String, Integer> stats = new LinkedHashMap<>();
+
+        @Override public String documentID() { return "player"; }
+    }
+
+    private Path dir;
+    private Path yaml;
+    private Path binary;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        ParsedDocumentCache.configure(0, false);
+        var doc = new PlayerDocument();
+        doc.name = "Steve";
+        doc.level = 42;
+        doc.firstJoin = 1_700_000_000_000L;
+        doc.balance = 1234.56;
+        for (int i = 0; i < 5; i++) doc.homes.add("world," + (i * 100) + ",64," + (i * -50));
+        for (var stat : List.of("kills", "deaths", "blocksBroken", "blocksPlaced", "playTime")) doc.stats.put(stat, stat.length() * 97);
+
+        dir = Files.createTempDirectory("dreamconfig-bench");
+        yaml = dir.resolve("player.yml");
+        binary = dir.resolve("player.dcb");
+        YamlStreamWriter.write(yaml, doc, 1);
+        Files.write(binary, BinaryDocument.encode(doc, 1));
+        System.out.printf("%nyml: %d bytes, dcb: %d bytes%n", Files.size(yaml), Files.size(binary));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        Files.deleteIfExists(yaml);
+        Files.deleteIfExists(binary);
+        Files.deleteIfExists(dir);
+    }
+
+    @Benchmark
+    public PlayerDocument loadYaml() throws Exception {
+        var cfg = new PlayerDocument();
+        YamlStreamReader.read(yaml, cfg);
+        return cfg;
+    }
+
+    @Benchmark
+    public PlayerDocument loadBinary() throws Exception {
+        var cfg = new PlayerDocument();
+        var doc = BinaryDocument.decode(Files.readAllBytes(binary));
+        DreamConfigDeSerializer.readObject(doc.fields(), cfg.getClass(), cfg);
+        return cfg;
+    }
+}
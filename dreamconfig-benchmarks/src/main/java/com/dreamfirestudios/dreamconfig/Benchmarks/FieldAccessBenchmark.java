@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Benchmarks;
+
+import com.dreamfirestudios.dreamconfig.Internal.Reflection.FieldAccessor;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/// <summary>
+/// Reads and writes every field of a small config through <see cref="Field"/> reflection and through the
+/// <see cref="FieldAccessor"/> method handles used by <c>FieldPlan</c>.
+/// </summary>
+/// <remarks>
+/// Covers each accessor specialisation (<c>int</c>, <c>long</c>, <c>double</c>, <c>boolean</c>, reference).
+/// Run with <c>java -jar dreamconfig-benchmarks/target/benchmarks.jar FieldAccessBenchmark</c>.
+/// </remarks>
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class FieldAccessBenchmark {
+    /// <summary>Field shapes of a typical config.</summary>
+    public static final class Sample {
+        public int level = 3;
+        public long lastSeen = 1_700_000_000_000L;
+        public double balance = 12.5;
+        public boolean enabled = true;
+        public String name = "sample";
+    }
+
+    private final Sample sample = new Sample();
+    private Field[] fields;
+    private FieldAccessor[] accessors;
+    private Object[] values;
+
+    @Setup
+    public void setup() throws Exception {
+        fields = Sample.class.getFields();
+        accessors = new FieldAccessor[fields.length];
+        values = new Object[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            fields[i].setAccessible(true);
+            accessors[i] = FieldAccessor.of(fields[i]);
+            values[i] = fields[i].get(sample);
+        }
+    }
+
+    @Benchmark
+    public int reflectionGet() throws Exception {
+        int h = 0;
+        for (var f : fields) h += f.get(sample).hashCode();
+        return h;
+    }
+
+    @Benchmark
+    public int accessorGet() {
+        int h = 0;
+        for (var a : accessors) h += a.get(sample).hashCode();
+        return h;
+    }
+
+    @Benchmark
+    public Sample reflectionSet() throws Exception {
+        for (int i = 0; i < fields.length; i++) fields[i].set(sample, values[i]);
+        return sample;
+    }
+
+    @Benchmark
+    public Sample accessorSet() {
+        for (int i = 0; i < accessors.length; i++) accessors[i].set(sample, values[i]);
+        return sample;
+    }
+}
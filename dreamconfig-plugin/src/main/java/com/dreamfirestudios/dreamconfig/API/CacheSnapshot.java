@@ -0,0 +1,425 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.API;
+
+import com.dreamfirestudios.dreamconfig.DreamConfig;
+import com.dreamfirestudios.dreamconfig.Internal.Binary.BinaryDocument;
+import com.dreamfirestudios.dreamconfig.Internal.ConfigLog;
+import com.dreamfirestudios.dreamconfig.Internal.Reflection.DreamConfigDeSerializer;
+import com.dreamfirestudios.dreamconfig.Internal.Reflection.FieldPlan;
+import com.dreamfirestudios.dreamconfig.Internal.Repo.BinaryConfigRepository;
+import com.dreamfirestudios.dreamconfig.Internal.Repo.ConfigRepository;
+import com.dreamfirestudios.dreamconfig.Internal.Repo.YamlConfigRepository;
+import com.dreamfirestudios.dreamconfig.Internal.Storage.AtomicFiles;
+import com.dreamfirestudios.dreamconfig.Internal.Yaml.ParsedDocumentCache;
+import com.dreamfirestudios.dreamconfig.Model.Interfaces.IDreamConfig;
+import com.dreamfirestudios.dreamconfig.Versioning.ConfigVersions;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedOutputStream;
+
+/// <summary>
+/// Warm-restart image of <see cref="DreamConfig.STATIC_CACHE"/> and <see cref="DreamConfig.DYNAMIC_CACHE"/>.
+/// </summary>
+/// <remarks>
+/// <para>
+/// Off by default (<c>snapshot.enabled</c>). While enabled, every load and save captures the config's
+/// <see cref="BinaryDocument"/> encoding on the I/O thread that performs it, together with the size and mtime
+/// of the file as that operation read or wrote it (and the CRC32C with <c>cache.verify-hash</c>) and a
+/// fingerprint of the class's persisted fields and target version. A load stats the file before reading it and
+/// a save takes the stamp <see cref="AtomicFiles"/> returned for its own write, so a stamp can only be older
+/// than the encoded state, never newer.
+/// </para>
+/// <para>
+/// <see cref="write"/> runs on disable (after pending saves are flushed) and, with <c>snapshot.interval-seconds</c>,
+/// on a timer. It writes the captured bytes of every config still in the caches to <c>cache-snapshot.dcs</c>;
+/// it never encodes a live config or touches the source files.
+/// </para>
+/// <para>
+/// <see cref="open"/> reads the whole image in one sequential read at startup. When
+/// <see cref="DreamConfigAPI.load"/>, <see cref="DreamConfigAPI.loadMany"/> or <see cref="DreamConfigAPI.loadAll"/>
+/// later reach a document whose source file and class are unchanged, the config is bound straight from the image
+/// and parsing, migration and validation are skipped: the cached instance already went through them. Each entry
+/// is used once; stale or missing entries take the normal load path.
+/// </para>
+/// <para>
+/// Only the YAML and binary repositories are covered. MongoDB and segment storage have no per-document file to
+/// stamp, so nothing is written for them.
+/// </para>
+/// </remarks>
+public final class CacheSnapshot {
+    private static final String FILE_NAME = "cache-snapshot.dcs";
+    private static final int MAGIC = 0x44435353; // "DCSS"
+    private static final int FORMAT = 1;
+
+    private static final ConcurrentHashMap<String, Entry> IMAGE = new ConcurrentHashMap<>();
+    /// <summary>Last captured state per config instance; dropped with the instance.</summary>
+    private static final Map<IDreamConfig, Entry> CAPTURED = Collections.synchronizedMap(new WeakHashMap<>());
+    private static final AtomicLong RESTORED = new AtomicLong();
+    private static final AtomicLong STALE = new AtomicLong();
+    private static final Object WRITE_LOCK = new Object();
+    private static final ClassValue<Long> FINGERPRINTS = new ClassValue<>() {
+        @Override protected Long computeValue(Class<?> type) { return computeFingerprint(type); }
+    };
+
+    private static volatile boolean enabled;
+    private static volatile Path file;
+    private static volatile BukkitTask timer;
+
+    private CacheSnapshot() {}
+
+    /// <summary>One config as its last load or save left it on disk.</summary>
+    private record Entry(String source, long size, long modified, long hash, long schema, byte[] payload) {}
+
+    /// <summary>
+    /// Stamps and encodings gathered while one load or save runs; committed only when the operation succeeds.
+    /// </summary>
+    /// <remarks>
+    /// Obtained from <see cref="begin"/> on the thread doing the I/O, and closed on that thread. Inert while
+    /// snapshots are disabled or the repository is not file-backed.
+    /// </remarks>
+    static final class Capture implements AutoCloseable {
+        private static final Capture OFF = new Capture();
+        private final Map<IDreamConfig, Pending> configs = new IdentityHashMap<>();
+
+        /// <summary>Stat <paramref name="source"/> before <paramref name="cfg"/> is read from it.</summary>
+        void reading(IDreamConfig cfg, File source) {
+            if (this == OFF) return;
+            var pending = pendingFor(cfg, source);
+            try { pending.before = Files.readAttributes(pending.source, BasicFileAttributes.class); }
+            catch (IOException e) { pending.before = null; }
+        }
+
+        /// <summary>Encode <paramref name="cfg"/> as it was just read from or written to <paramref name="source"/>.</summary>
+        void encoded(IDreamConfig cfg, File source) {
+            if (this == OFF) return;
+            var pending = pendingFor(cfg, source);
+            try { pending.payload = BinaryDocument.encode(cfg, ConfigVersions.target(cfg.getClass())); }
+            catch (Exception e) {
+                configs.remove(cfg);
+                ConfigLog.warn("[DreamConfig] Not snapshotting " + keyOf(cfg) + ": " + e);
+            }
+        }
+
+        /// <summary>Forget <paramref name="cfg"/>, e.g. because its part of a batch failed.</summary>
+        void discard(IDreamConfig cfg) {
+            if (this != OFF) configs.remove(cfg);
+        }
+
+        /// <summary>Store everything encoded, stamped with this thread's own write of the file if it made one.</summary>
+        void commit() {
+            if (this == OFF) return;
+            var writes = AtomicFiles.takeWrites();
+            for (var e : configs.entrySet()) {
+                var pending = e.getValue();
+                var stamp = writes.getOrDefault(pending.source, pending.before);
+                if (pending.payload == null || stamp == null) continue;
+                try {
+                    CAPTURED.put(e.getKey(), entry(e.getKey(), pending, stamp));
+                } catch (IOException ex) {
+                    CAPTURED.remove(e.getKey());
+                }
+            }
+            configs.clear();
+        }
+
+        @Override
+        public void close() {
+            if (this != OFF) AtomicFiles.takeWrites();
+        }
+
+        private Pending pendingFor(IDreamConfig cfg, File source) {
+            return configs.computeIfAbsent(cfg, c -> new Pending(source.toPath().toAbsolutePath().normalize()));
+        }
+
+        private static Entry entry(IDreamConfig cfg, Pending pending, BasicFileAttributes stamp) throws IOException {
+            long hash = ParsedDocumentCache.NO_HASH;
+            if (ParsedDocumentCache.verifiesHash()) {
+                var bytes = Files.readAllBytes(pending.source);
+                var now = Files.readAttributes(pending.source, BasicFileAttributes.class);
+                // Hash only what the stamp describes; a file replaced since is simply not captured.
+                if (now.size() != stamp.size() || !now.lastModifiedTime().equals(stamp.lastModifiedTime()))
+                    throw new IOException("changed since it was stamped");
+                hash = ParsedDocumentCache.hashOf(bytes);
+            }
+            return new Entry(pending.source.toString(), stamp.size(), stamp.lastModifiedTime().toMillis(), hash,
+                    fingerprint(cfg.getClass()), pending.payload);
+        }
+    }
+
+    /// <summary>One config of a <see cref="Capture"/>.</summary>
+    private static final class Pending {
+        final Path source;
+        BasicFileAttributes before;
+        byte[] payload;
+
+        Pending(Path source) { this.source = source; }
+    }
+
+    /// <summary>
+    /// Start capturing a load or save on the calling thread.
+    /// </summary>
+    /// <example>
+    /// <code>
+    /// try (var capture = CacheSnapshot.begin()) {
+    ///     capture.reading(cfg, file);
+    ///     REPO.load(cfg, obj);
+    ///     capture.encoded(cfg, file);
+    ///     capture.commit();
+    /// }
+    /// </code>
+    /// </example>
+    static Capture begin() {
+        if (!enabled || !supports(DreamConfigAPI.getRepository())) return Capture.OFF;
+        AtomicFiles.collectWrites();
+        return new Capture();
+    }
+
+    /// <summary>
+    /// Enable or disable snapshots for <paramref name="host"/>'s data folder.
+    /// </summary>
+    /// <param name="host">DreamConfig itself; the image lives in its data folder.</param>
+    /// <param name="enable">Write the image on disable and restore from it on start.</param>
+    /// <param name="intervalSeconds">Also write it this often; 0 only writes on disable.</param>
+    public static void configure(JavaPlugin host, boolean enable, long intervalSeconds) {
+        enabled = enable;
+        if (!enable) CAPTURED.clear();
+        file = host.getDataFolder().toPath().resolve(FILE_NAME);
+        var previous = timer;
+        if (previous != null) previous.cancel();
+        timer = null;
+        if (enable && intervalSeconds > 0) {
+            long ticks = intervalSeconds * 20L;
+            timer = Bukkit.getScheduler().runTaskTimerAsynchronously(host, CacheSnapshot::writeQuietly, ticks, ticks);
+        }
+    }
+
+    /// <summary>True if snapshots are enabled.</summary>
+    public static boolean isEnabled() { return enabled; }
+
+    /// <summary>
+    /// Read the image written by the previous run and delete it.
+    /// </summary>
+    /// <returns>Number of entries available for restore; 0 if disabled, absent or unreadable.</returns>
+    /// <remarks>
+    /// The file is removed once read, so a crash later in this run can never restore entries from an older image.
+    /// </remarks>
+    public static int open() {
+        IMAGE.clear();
+        var path = file;
+        if (!enabled || path == null) return 0;
+        byte[] bytes;
+        try { bytes = Files.readAllBytes(path); }
+        catch (NoSuchFileException e) { return 0; }
+        catch (IOException e) {
+            ConfigLog.warn("[DreamConfig] Cannot read cache snapshot: " + e);
+            return 0;
+        }
+        try {
+            if (!supports(DreamConfigAPI.getRepository())) return 0;
+            var crc = new CRC32C();
+            crc.update(bytes, 0, bytes.length - 4);
+            var in = new DataInputStream(new ByteArrayInputStream(bytes));
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT) throw new IOException("bad header");
+            in.skipNBytes(bytes.length - 12);
+            if (in.readInt() != (int) crc.getValue()) throw new IOException("checksum mismatch");
+
+            in = new DataInputStream(new ByteArrayInputStream(bytes, 8, bytes.length - 12));
+            while (in.readBoolean()) {
+                var key = in.readUTF();
+                var source = in.readUTF();
+                long size = in.readLong();
+                long modified = in.readLong();
+                long hash = in.readLong();
+                long schema = in.readLong();
+                var payload = in.readNBytes(in.readInt());
+                IMAGE.put(key, new Entry(source, size, modified, hash, schema, payload));
+            }
+            ConfigLog.info("[DreamConfig] Cache snapshot: " + IMAGE.size() + " configs (" + (bytes.length >> 10) + " KiB)");
+        } catch (IOException | RuntimeException e) {
+            IMAGE.clear();
+            ConfigLog.warn("[DreamConfig] Ignoring cache snapshot " + path.getFileName() + ": " + e);
+        } finally {
+            try { Files.deleteIfExists(path); }
+            catch (IOException e) { ConfigLog.warn("[DreamConfig] Cannot delete cache snapshot: " + e); }
+        }
+        return IMAGE.size();
+    }
+
+    /// <summary>
+    /// Write the captured state of every config in the static and dynamic caches to the image.
+    /// </summary>
+    /// <returns>Number of configs written; 0 if disabled or the repository is not file-backed.</returns>
+    /// <remarks>
+    /// Configs never loaded or saved while snapshots were enabled have nothing captured and are left out. Saves
+    /// are not paused: a config saved while the image is written is simply stale at the next start.
+    /// </remarks>
+    public static int write() throws IOException {
+        var path = file;
+        var repo = DreamConfigAPI.getRepository();
+        if (!enabled || path == null || !supports(repo)) return 0;
+        synchronized (WRITE_LOCK) {
+            var configs = new ArrayList<IDreamConfig>(DreamConfig.STATIC_CACHE.size() + DreamConfig.DYNAMIC_CACHE.size());
+            configs.addAll(DreamConfig.STATIC_CACHE.values());
+            configs.addAll(DreamConfig.DYNAMIC_CACHE.values());
+            var written = new int[1];
+            AtomicFiles.write(path, channel -> {
+                var crc = new CRC32C();
+                var out = new DataOutputStream(new BufferedOutputStream(new CheckedOutputStream(Channels.newOutputStream(channel), crc), 64 * 1024));
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT);
+                var seen = new HashSet<String>();
+                for (var cfg : configs) {
+                    var key = keyOf(cfg);
+                    var entry = CAPTURED.get(cfg);
+                    if (entry == null || !seen.add(key)) continue;
+                    out.writeBoolean(true);
+                    out.writeUTF(key);
+                    out.writeUTF(entry.source());
+                    out.writeLong(entry.size());
+                    out.writeLong(entry.modified());
+                    out.writeLong(entry.hash());
+                    out.writeLong(entry.schema());
+                    out.writeInt(entry.payload().length);
+                    out.write(entry.payload());
+                    written[0]++;
+                }
+                out.writeBoolean(false);
+                out.flush();
+                out.writeInt((int) crc.getValue());
+                out.flush();
+            });
+            return written[0];
+        }
+    }
+
+    /// <summary>Stop the timer and write the image one last time.</summary>
+    public static void shutdown() {
+        var previous = timer;
+        if (previous != null) previous.cancel();
+        timer = null;
+        writeQuietly();
+        IMAGE.clear();
+        CAPTURED.clear();
+    }
+
+    /// <summary>One-line summary for logs.</summary>
+    public static String describe() {
+        return "[DreamConfig] cache snapshot: " + RESTORED.get() + " restored, " + STALE.get() + " stale, "
+                + IMAGE.size() + " unused";
+    }
+
+    /// <summary>
+    /// Bind <paramref name="cfg"/> from the image if its entry is still valid for <paramref name="source"/>.
+    /// </summary>
+    /// <returns>True if the config was restored and the caller must not load it again.</returns>
+    static boolean restore(IDreamConfig cfg, File source) {
+        if (IMAGE.isEmpty()) return false;
+        var entry = IMAGE.remove(keyOf(cfg));
+        if (entry == null) return false;
+        try {
+            if (!fresh(entry, cfg, source.toPath().toAbsolutePath().normalize())) {
+                STALE.incrementAndGet();
+                return false;
+            }
+            var doc = BinaryDocument.decode(entry.payload());
+            cfg.BeforeLoadConfig();
+            DreamConfigDeSerializer.readObject(doc.fields(), cfg.getClass(), cfg);
+            cfg.AfterLoadConfig();
+            CAPTURED.put(cfg, entry);
+            RESTORED.incrementAndGet();
+            return true;
+        } catch (Exception e) {
+            STALE.incrementAndGet();
+            ConfigLog.warn("[DreamConfig] Cache snapshot entry for " + cfg.documentID() + " unusable, loading from storage: " + e);
+            return false;
+        }
+    }
+
+    private static boolean fresh(Entry entry, IDreamConfig cfg, Path source) throws IOException {
+        if (!entry.source().equals(source.toString()) || entry.schema() != fingerprint(cfg.getClass())) return false;
+        BasicFileAttributes attrs;
+        try { attrs = Files.readAttributes(source, BasicFileAttributes.class); }
+        catch (NoSuchFileException e) { return false; }
+        if (attrs.size() != entry.size() || attrs.lastModifiedTime().toMillis() != entry.modified()) return false;
+        if (!ParsedDocumentCache.verifiesHash()) return true;
+        return entry.hash() != ParsedDocumentCache.NO_HASH
+                && ParsedDocumentCache.hashOf(Files.readAllBytes(source)) == entry.hash();
+    }
+
+    private static void writeQuietly() {
+        try {
+            int written = write();
+            if (written > 0) ConfigLog.info("[DreamConfig] Wrote cache snapshot: " + written + " configs");
+        } catch (IOException | RuntimeException e) {
+            ConfigLog.error("[DreamConfig] Failed to write cache snapshot", e);
+        }
+    }
+
+    /// <summary>Only repositories that keep one file per document at the path below can be stamped.</summary>
+    private static boolean supports(ConfigRepository repo) {
+        return repo instanceof YamlConfigRepository || repo instanceof BinaryConfigRepository;
+    }
+
+    private static String keyOf(IDreamConfig cfg) { return cfg.getClass().getName() + '#' + cfg.documentID(); }
+
+    private static long fingerprint(Class<?> type) { return FINGERPRINTS.get(type); }
+
+    /// <summary>FNV-1a over the persisted fields' names and generic types plus the target version.</summary>
+    private static long computeFingerprint(Class<?> type) {
+        var sb = new StringBuilder(type.getName()).append('@').append(ConfigVersions.target(type));
+        for (var pf : FieldPlan.of(type).fields()) {
+            sb.append(';').append(pf.saveName()).append(':').append(pf.field().getGenericType().getTypeName());
+        }
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : sb.toString().getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+}
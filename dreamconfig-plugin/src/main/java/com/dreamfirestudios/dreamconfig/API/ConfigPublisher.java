@@ -0,0 +1,132 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.API;
+
+import com.dreamfirestudios.dreamconfig.Internal.ConfigLog;
+import com.dreamfirestudios.dreamconfig.Internal.Repo.ConfigCursor;
+import com.dreamfirestudios.dreamconfig.Model.Interfaces.IDreamConfig;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/// <summary>
+/// Cold <see cref="Flow.Publisher"/> behind <see cref="DreamConfigAPI.stream"/>.
+/// </summary>
+/// <remarks>
+/// Every subscription opens its own <see cref="ConfigCursor"/> and loads a document only against
+/// outstanding demand. Work runs in a drain loop that at most one virtual thread executes at a time: a
+/// <c>request</c> or <c>cancel</c> that arrives while the loop runs is picked up by that loop, so
+/// signals stay serial and a subscriber calling <c>request</c> from <c>onNext</c> does not recurse.
+/// </remarks>
+final class ConfigPublisher implements Flow.Publisher<IDreamConfig> {
+    private final JavaPlugin plugin;
+    private final IDreamConfig typeMarker;
+
+    ConfigPublisher(JavaPlugin plugin, IDreamConfig typeMarker) {
+        this.plugin = plugin;
+        this.typeMarker = typeMarker;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super IDreamConfig> subscriber) {
+        Objects.requireNonNull(subscriber, "subscriber");
+        subscriber.onSubscribe(new CursorSubscription(subscriber));
+    }
+
+    /// <summary>Per-subscriber state; fields without <c>volatile</c> are touched only by the drain loop.</summary>
+    private final class CursorSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super IDreamConfig> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable invalidRequest;
+        private boolean done;
+        private ConfigCursor cursor;
+        private String base;
+
+        CursorSubscription(Flow.Subscriber<? super IDreamConfig> subscriber) { this.subscriber = subscriber; }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) invalidRequest = new IllegalArgumentException("Requested " + n + " documents; demand must be positive (rule 3.9)");
+            else demand.getAndUpdate(d -> d + n < 0 ? Long.MAX_VALUE : d + n);
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            schedule();
+        }
+
+        private void schedule() {
+            if (wip.getAndIncrement() == 0) Thread.ofVirtual().name("DreamConfig-Stream").start(this::drain);
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                drainOnce();
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drainOnce() {
+            if (done) return;
+            try {
+                if (cancelled) { finish(); return; }
+                if (invalidRequest != null) { finish(); subscriber.onError(invalidRequest); return; }
+                if (cursor == null) {
+                    base = DreamConfigAPI.basePath(typeMarker);
+                    cursor = DreamConfigAPI.openCursor(plugin, typeMarker);
+                }
+                while (demand.get() > 0) {
+                    if (cancelled) { finish(); return; }
+                    if (!cursor.advance()) { finish(); subscriber.onComplete(); return; }
+                    var name = cursor.documentId();
+                    IDreamConfig cfg;
+                    try { cfg = DreamConfigAPI.loadDocument(plugin, base, name, typeMarker, cursor); }
+                    catch (Exception e) {
+                        ConfigLog.warn("[DreamConfig] Stream skipped " + name + ": " + e);
+                        continue;
+                    }
+                    if (cfg == null) continue;
+                    if (demand.get() != Long.MAX_VALUE) demand.decrementAndGet();
+                    subscriber.onNext(cfg);
+                }
+            } catch (Throwable t) {
+                finish();
+                subscriber.onError(t);
+            }
+        }
+
+        private void finish() {
+            done = true;
+            if (cursor != null) cursor.close();
+        }
+    }
+}
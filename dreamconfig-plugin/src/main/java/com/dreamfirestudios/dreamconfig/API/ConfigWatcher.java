@@ -0,0 +1,327 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.API;
+
+import com.dreamfirestudios.dreamconfig.DreamConfig;
+import com.dreamfirestudios.dreamconfig.Enum.ConfigPriority;
+import com.dreamfirestudios.dreamconfig.Internal.ConfigLog;
+import com.dreamfirestudios.dreamconfig.Internal.Repo.YamlConfigRepository;
+import com.dreamfirestudios.dreamconfig.Internal.Storage.AtomicFiles;
+import com.dreamfirestudios.dreamconfig.Model.Interfaces.IDreamConfig;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/// <summary>
+/// Opt-in hot reload: watches plugin config folders and reloads cached configs whose file was edited.
+/// </summary>
+/// <remarks>
+/// <para>
+/// One <see cref="WatchService"/> thread covers every watched plugin's data folder, including sub-folders
+/// created later. Events for a file are debounced (<c>watch.debounce-ms</c>), so an editor's
+/// truncate/write/rename burst triggers a single reload once the file has been quiet for that long.
+/// </para>
+/// <para>
+/// Files DreamConfig wrote itself are recognised by size and modification time and ignored; the stamp of a
+/// write is kept only for <c>.yml</c> files under a watched folder, and only until the file's next event is
+/// handled. For an external edit, only the configs in <see cref="DreamConfig.STATIC_CACHE"/> /
+/// <see cref="DreamConfig.DYNAMIC_CACHE"/> backed by that file are reloaded, found by the document id the file
+/// name carries rather than by scanning the caches: a fresh instance is loaded through <see cref="DreamConfigAPI.load"/>
+/// (migrations, validation and <c>ConfigLoadedEvent</c> included) and swapped into the cache only if the
+/// cached instance was not replaced in the meantime. Deleted files are left alone, and a pending
+/// write-behind save of the same document is flushed first, so in-memory changes win over the edit.
+/// </para>
+/// <para>Only the YAML repository is watched.</para>
+/// </remarks>
+/// <example>
+/// <code>
+/// // config.yml: watch.enabled: true
+/// ConfigWatcher.watch(this); // done automatically by registerStatic
+/// </code>
+/// </example>
+public final class ConfigWatcher {
+    private static final Object LOCK = new Object();
+    private static final Map<JavaPlugin, Path> PLUGINS = new ConcurrentHashMap<>();
+    private static final Map<WatchKey, Registration> KEYS = new ConcurrentHashMap<>();
+    private static final Map<Path, FileStamp> OWN_WRITES = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled;
+    private static volatile long debounceNanos = TimeUnit.MILLISECONDS.toNanos(250);
+    private static WatchService service;
+    private static Thread thread;
+
+    private ConfigWatcher() {}
+
+    /// <summary>Watched directory and the plugin it belongs to.</summary>
+    private static final class Registration {
+        final JavaPlugin plugin;
+        final Path directory;
+
+        Registration(JavaPlugin plugin, Path directory) {
+            this.plugin = plugin;
+            this.directory = directory;
+        }
+    }
+
+    /// <summary>Size and modification time of a file as DreamConfig last wrote it.</summary>
+    private static final class FileStamp {
+        final long size;
+        final FileTime modified;
+
+        FileStamp(BasicFileAttributes attrs) {
+            this.size = attrs.size();
+            this.modified = attrs.lastModifiedTime();
+        }
+
+        boolean matches(BasicFileAttributes attrs) {
+            return size == attrs.size() && modified.equals(attrs.lastModifiedTime());
+        }
+    }
+
+    /// <summary>A file with events waiting for its debounce window to pass.</summary>
+    private static final class Pending {
+        final JavaPlugin plugin;
+        final long deadline;
+
+        Pending(JavaPlugin plugin, long deadline) {
+            this.plugin = plugin;
+            this.deadline = deadline;
+        }
+    }
+
+    /// <summary>Turn hot reload on or off and set the debounce window. Turning it off stops the watcher.</summary>
+    /// <param name="enable">Whether <see cref="watch"/> has any effect.</param>
+    /// <param name="debounceMillis">Quiet time after the last event for a file before it is reloaded.</param>
+    public static void configure(boolean enable, long debounceMillis) {
+        debounceNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, debounceMillis));
+        enabled = enable;
+        if (!enable) shutdown();
+    }
+
+    /// <summary>True when <c>watch.enabled</c> is set.</summary>
+    public static boolean isEnabled() { return enabled; }
+
+    /// <summary>
+    /// Start watching <paramref name="plugin"/>'s data folder. No-op when hot reload is disabled, the plugin is
+    /// already watched, or the active repository is not YAML.
+    /// </summary>
+    public static void watch(JavaPlugin plugin) {
+        if (!enabled) return;
+        if (!(DreamConfigAPI.getRepository() instanceof YamlConfigRepository)) {
+            ConfigLog.warn("[DreamConfig] Hot reload only supports the YAML repository; not watching " + plugin.getName());
+            return;
+        }
+        var root = plugin.getDataFolder().toPath().toAbsolutePath().normalize();
+        synchronized (LOCK) {
+            if (PLUGINS.putIfAbsent(plugin, root) != null) return;
+            try {
+                if (service == null) start();
+                registerTree(plugin, root);
+                ConfigLog.info("[DreamConfig] Watching " + root + " for config edits");
+            } catch (IOException e) {
+                PLUGINS.remove(plugin);
+                ConfigLog.error("[DreamConfig] Could not watch " + root, e);
+            }
+        }
+    }
+
+    /// <summary>Stop watching <paramref name="plugin"/>'s data folder.</summary>
+    public static void unwatch(JavaPlugin plugin) {
+        synchronized (LOCK) {
+            if (PLUGINS.remove(plugin) == null) return;
+            KEYS.entrySet().removeIf(e -> {
+                if (e.getValue().plugin != plugin) return false;
+                e.getKey().cancel();
+                return true;
+            });
+        }
+    }
+
+    /// <summary>Stop the watcher thread and forget every registration.</summary>
+    public static void shutdown() {
+        synchronized (LOCK) {
+            if (service == null) return;
+            AtomicFiles.observeWrites(null);
+            try { service.close(); } catch (IOException ignored) {}
+            thread.interrupt();
+            service = null;
+            thread = null;
+            PLUGINS.clear();
+            KEYS.clear();
+            OWN_WRITES.clear();
+        }
+    }
+
+    private static void start() throws IOException {
+        var ws = FileSystems.getDefault().newWatchService();
+        service = ws;
+        AtomicFiles.observeWrites(ConfigWatcher::recordOwnWrite);
+        thread = new Thread(() -> run(ws), "DreamConfig-Watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private static void registerTree(JavaPlugin plugin, Path root) throws IOException {
+        if (!Files.isDirectory(root)) return;
+        try (var dirs = Files.walk(root)) {
+            for (var dir : (Iterable<Path>) dirs.filter(Files::isDirectory)::iterator) {
+                var key = dir.register(service, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+                KEYS.put(key, new Registration(plugin, dir));
+            }
+        }
+    }
+
+    /// <summary>Remember the stamp of a write to a watched config file until its event arrives.</summary>
+    private static void recordOwnWrite(Path file, BasicFileAttributes written) {
+        var normalized = file.normalize();
+        if (!isConfigFile(normalized) || !isWatched(normalized)) return;
+        OWN_WRITES.put(normalized, new FileStamp(written));
+    }
+
+    private static boolean isWatched(Path file) {
+        for (var root : PLUGINS.values()) if (file.startsWith(root)) return true;
+        return false;
+    }
+
+    private static boolean isConfigFile(Path file) {
+        return file.getFileName().toString().endsWith(".yml") && !AtomicFiles.isTempFile(file);
+    }
+
+    /* --------------------------- watcher thread --------------------------- */
+
+    private static void run(WatchService ws) {
+        var pending = new HashMap<Path, Pending>();
+        try {
+            while (true) {
+                var key = pending.isEmpty() ? ws.take() : ws.poll(untilNext(pending), TimeUnit.NANOSECONDS);
+                while (key != null) {
+                    collect(key, pending);
+                    key = ws.poll();
+                }
+                fireDue(pending);
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // shutdown
+        }
+    }
+
+    private static long untilNext(Map<Path, Pending> pending) {
+        long next = Long.MAX_VALUE;
+        for (var p : pending.values()) next = Math.min(next, p.deadline);
+        return Math.max(0L, next - System.nanoTime());
+    }
+
+    private static void collect(WatchKey key, Map<Path, Pending> pending) {
+        var registration = KEYS.get(key);
+        if (registration == null) { key.cancel(); return; }
+        for (var event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                ConfigLog.warn("[DreamConfig] File events overflowed in " + registration.directory + "; some edits may be missed");
+                continue;
+            }
+            var child = registration.directory.resolve((Path) event.context());
+            if (event.kind() == StandardWatchEventKinds.ENTRY_CREATE && Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS)) {
+                synchronized (LOCK) {
+                    try { if (service != null && PLUGINS.containsKey(registration.plugin)) registerTree(registration.plugin, child); }
+                    catch (IOException e) { ConfigLog.warn("[DreamConfig] Could not watch " + child + ": " + e.getMessage()); }
+                }
+                continue;
+            }
+            if (event.kind() == StandardWatchEventKinds.ENTRY_DELETE) continue;
+            if (!isConfigFile(child)) continue;
+            pending.put(child, new Pending(registration.plugin, System.nanoTime() + debounceNanos));
+        }
+        if (!key.reset()) KEYS.remove(key);
+    }
+
+    private static void fireDue(Map<Path, Pending> pending) {
+        long now = System.nanoTime();
+        var it = pending.entrySet().iterator();
+        while (it.hasNext()) {
+            var entry = it.next();
+            if (entry.getValue().deadline - now > 0) continue;
+            it.remove();
+            try { changed(entry.getValue().plugin, entry.getKey()); }
+            catch (RuntimeException e) { ConfigLog.error("[DreamConfig] Hot reload failed for " + entry.getKey(), e); }
+        }
+    }
+
+    /* --------------------------- reload --------------------------- */
+
+    private static void changed(JavaPlugin plugin, Path file) {
+        // Debouncing folds the events of one write into this call, so the stamp is not needed again.
+        var own = OWN_WRITES.remove(file);
+        BasicFileAttributes attrs;
+        try { attrs = Files.readAttributes(file, BasicFileAttributes.class); }
+        catch (IOException e) { return; }
+        if (!attrs.isRegularFile()) return;
+        if (own != null && own.matches(attrs)) return;
+        var name = file.getFileName().toString();
+        var id = name.substring(0, name.length() - ".yml".length());
+        reloadMatching(plugin, file, id, DreamConfig.STATIC_CACHE, false);
+        reloadMatching(plugin, file, id, DreamConfig.DYNAMIC_CACHE, true);
+    }
+
+    /// <summary>Reload the config cached under <paramref name="id"/> if <paramref name="file"/> backs it.</summary>
+    private static <C extends IDreamConfig> void reloadMatching(JavaPlugin plugin, Path file, String id, Map<String, C> cache, boolean byId) {
+        var current = cache.get(id);
+        if (current == null || !file.equals(fileOf(plugin, current))) return;
+        C fresh;
+        try { fresh = newInstance(current, byId); }
+        catch (ReflectiveOperationException e) {
+            ConfigLog.warn("[DreamConfig] Cannot hot reload " + current.getClass().getSimpleName() + ": " + e);
+            return;
+        }
+        DreamConfigAPI.load(plugin, fresh, ConfigPriority.NORMAL, loaded -> {
+            if (cache.replace(id, current, fresh)) ConfigLog.info("[DreamConfig] Reloaded " + id + " from " + file.getFileName());
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <C extends IDreamConfig> C newInstance(C current, boolean byId) throws ReflectiveOperationException {
+        var type = current.getClass();
+        if (byId) return (C) type.getDeclaredConstructor(String.class).newInstance(current.documentID());
+        return (C) type.getDeclaredConstructor().newInstance();
+    }
+
+    private static Path fileOf(JavaPlugin plugin, IDreamConfig cfg) {
+        return plugin.getDataFolder().toPath().resolve(DreamConfigAPI.basePath(cfg)).resolve(cfg.documentID() + ".yml")
+                .toAbsolutePath().normalize();
+    }
+}
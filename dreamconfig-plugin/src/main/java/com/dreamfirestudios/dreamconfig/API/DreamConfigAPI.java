@@ -0,0 +1,949 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.API;
+
+import com.dreamfirestudios.dreamconfig.DreamConfig;
+import com.dreamfirestudios.dreamconfig.Enum.ConfigPriority;
+import com.dreamfirestudios.dreamconfig.Events.*;
+import com.dreamfirestudios.dreamconfig.Internal.Codegen.HiddenCodecFactory;
+import com.dreamfirestudios.dreamconfig.Internal.ConfigExecutor;
+import com.dreamfirestudios.dreamconfig.Internal.ConfigLog;
+import com.dreamfirestudios.dreamconfig.Internal.Metrics.MetricsTimer;
+import com.dreamfirestudios.dreamconfig.Internal.Reflection.FieldPlan;
+import com.dreamfirestudios.dreamconfig.Internal.Reflection.SerializerHelpers;
+import com.dreamfirestudios.dreamconfig.Internal.Repo.ConfigCursor;
+import com.dreamfirestudios.dreamconfig.Internal.Repo.ConfigRepository;
+import com.dreamfirestudios.dreamconfig.Internal.Repo.YamlConfigRepository;
+import com.dreamfirestudios.dreamconfig.Model.Interfaces.IDreamConfig;
+import com.dreamfirestudios.dreamconfig.Object.DreamConfigObject;
+import com.dreamfirestudios.dreamconfig.Validation.ConfigValidator;
+import com.dreamfirestudios.dreamconfig.Validation.ValidateWith;
+import com.dreamfirestudios.dreamconfig.Versioning.ConfigVersion;
+import com.dreamfirestudios.dreamconfig.Versioning.ConfigVersions;
+import com.dreamfirestudios.dreamconfig.Versioning.MigratorRegistry;
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.File;
+import java.lang.invoke.MethodHandles;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+
+/// <summary>
+/// High-level entry point for DreamConfig operations: async save/load/delete,
+/// migration, validation, and event dispatch.
+/// </summary>
+/// <remarks>
+/// This API is designed for plugin developers who want to persist configuration
+/// objects implementing <see cref="IDreamConfig"/>.  
+/// Operations are dispatched asynchronously where possible, with synchronous Bukkit events 
+/// fired on the main server thread.  
+/// Save, load and delete of one document run in the order they were called (see
+/// <see cref="ConfigExecutor.runOrdered"/>); different documents proceed in parallel. Single loads are queued as
+/// <see cref="ConfigPriority.INTERACTIVE"/>, saves and deletes as <see cref="ConfigPriority.NORMAL"/> and bulk
+/// scans as <see cref="ConfigPriority.BACKGROUND"/>; overloads taking a <see cref="ConfigPriority"/> override this.  
+/// Validation and version migrations are built-in, reducing boilerplate in config classes.
+/// </remarks>
+/// <example>
+/// <code>
+/// // Example config class
+/// @ConfigVersion(2)
+/// public class MyConfig implements IDreamConfig {
+///     private String name = "Default";
+///     public String documentID() { return "myconfig"; }
+/// }
+///
+/// // Usage in plugin
+/// DreamConfigAPI.load(this, new MyConfig(), cfg -> {
+///     getLogger().info("Loaded: " + cfg.getName());
+/// });
+/// </code>
+/// </example>
+public final class DreamConfigAPI {
+
+    private DreamConfigAPI() {}
+
+    private static volatile ConfigRepository REPO = new YamlConfigRepository();
+    private static volatile long writeBehindMillis;
+
+    /// <summary>
+    /// Saves a configuration object asynchronously.
+    /// </summary>
+    /// <typeparam name="T">Type of configuration object.</typeparam>
+    /// <param name="plugin">Owning plugin instance.</param>
+    /// <param name="cfg">Config instance to save.</param>
+    /// <param name="onSuccess">Callback executed upon successful save.</param>
+    /// <remarks>
+    /// Writes both the config data and version metadata.  
+    /// Triggers <see cref="ConfigSavedEvent"/> on completion. Runs at <see cref="ConfigPriority.NORMAL"/>.
+    /// </remarks>
+    public static <T extends IDreamConfig> void save(JavaPlugin plugin, T cfg, Consumer<T> onSuccess) {
+        save(plugin, cfg, ConfigPriority.NORMAL, onSuccess);
+    }
+
+    /// <summary>
+    /// Saves a configuration object asynchronously with an explicit scheduling class.
+    /// </summary>
+    /// <typeparam name="T">Type of configuration object.</typeparam>
+    /// <param name="plugin">Owning plugin instance.</param>
+    /// <param name="cfg">Config instance to save.</param>
+    /// <param name="priority">Scheduling class, e.g. <see cref="ConfigPriority.BACKGROUND"/> for autosaves.</param>
+    /// <param name="onSuccess">Callback executed upon successful save.</param>
+    /// <remarks>
+    /// With a write-behind delay set (see <see cref="setWriteBehindDelay"/>), the document is only marked dirty
+    /// and written once the delay elapses; further saves inside that window merge into the same write, and
+    /// <paramref name="onSuccess"/> runs when it lands.
+    /// </remarks>
+    public static <T extends IDreamConfig> void save(JavaPlugin plugin, T cfg, ConfigPriority priority, Consumer<T> onSuccess) {
+        long delay = writeBehindMillis;
+        if (delay > 0) WriteBehind.defer(plugin, cfg, priority, () -> onSuccess.accept(cfg), delay);
+        else saveNow(plugin, cfg, priority, onSuccess);
+    }
+
+    /// <summary>
+    /// Queues the write itself, bypassing write-behind. Failures are logged and complete the future exceptionally.
+    /// </summary>
+    static <T extends IDreamConfig> CompletableFuture<Void> saveNow(JavaPlugin plugin, T cfg, ConfigPriority priority, Consumer<T> onSuccess) {
+        return ConfigExecutor.<Void>supplyOrdered(cfg.documentID(), priority, () -> {
+            try (var timer = new MetricsTimer("save[" + cfg.documentID() + "]"); var capture = CacheSnapshot.begin()) {
+                var obj = objectFor(plugin, REPO.resolvePath(cfg), cfg.documentID());
+                if (REPO.isFirstLoad(cfg, obj)) cfg.FirstLoadConfig();
+
+                REPO.save(cfg, obj);
+                REPO.writeVersion(cfg, obj, ConfigVersions.target(cfg.getClass()));
+                capture.encoded(cfg, obj.getFile());
+                capture.commit();
+
+                cfg.AfterSaveConfig();
+                dispatchSync(new ConfigSavedEvent(cfg));
+                onSuccess.accept(cfg);
+                return null;
+            } catch (Exception e) {
+                throw new RuntimeException("Save failed for " + cfg.documentID(), e);
+            }
+        }).whenComplete((ignored, t) -> {
+            if (t != null) ConfigLog.error("[DreamConfig] Save failed for " + cfg.documentID(), t);
+        });
+    }
+
+    /// <summary>
+    /// Sets the write-behind delay applied by <see cref="save"/>; <c>0</c> (the default) writes immediately.
+    /// </summary>
+    /// <param name="millis">Delay in milliseconds; read from <c>save.write-behind-ms</c> in <c>config.yml</c> on enable.</param>
+    /// <remarks>
+    /// Loads and deletes flush the document's pending write first, so they always see the latest save.
+    /// Call <see cref="flushAll"/> before shutting down; DreamConfig does so in <c>onDisable</c>.
+    /// </remarks>
+    public static void setWriteBehindDelay(long millis) { writeBehindMillis = Math.max(0, millis); }
+
+    /// <summary>Current write-behind delay in milliseconds; <c>0</c> when saves are written immediately.</summary>
+    public static long getWriteBehindDelay() { return writeBehindMillis; }
+
+    /// <summary>
+    /// Lets DreamConfig generate runtime serializers for the config classes in the caller's package.
+    /// </summary>
+    /// <param name="lookup"><c>MethodHandles.lookup()</c>, called from a class in the configs' package.</param>
+    /// <remarks>
+    /// Only used when <c>codegen.enabled</c> is set in DreamConfig's <c>config.yml</c>, and only for classes
+    /// compiled without <c>dreamconfig-processor</c>. Call it in <c>onEnable</c> before loading configs.
+    /// </remarks>
+    /// <example>
+    /// <code>
+    /// DreamConfigAPI.registerCodegenLookup(MethodHandles.lookup());
+    /// </code>
+    /// </example>
+    public static void registerCodegenLookup(MethodHandles.Lookup lookup) { HiddenCodecFactory.register(lookup); }
+
+    /// <summary>
+    /// Writes any pending write-behind save of <paramref name="documentId"/> now.
+    /// </summary>
+    /// <param name="documentId">Document to flush, across all config classes using that id.</param>
+    /// <returns>Future completing when the write lands; already complete if nothing was pending.</returns>
+    public static CompletableFuture<Void> flush(String documentId) { return WriteBehind.flush(documentId); }
+
+    /// <summary>
+    /// Writes every pending write-behind save now, e.g. before shutdown or a backup.
+    /// </summary>
+    /// <returns>Future completing when all writes land.</returns>
+    public static CompletableFuture<Void> flushAll() { return WriteBehind.flushAll(); }
+
+    /// <summary>Number of documents with a pending write-behind save.</summary>
+    public static int pendingWrites() { return WriteBehind.pendingCount(); }
+
+    /// <summary>
+    /// Gets the currently active repository implementation.
+    /// </summary>
+    public static ConfigRepository getRepository() { return REPO; }
+
+    /// <summary>
+    /// Overrides the repository implementation.
+    /// </summary>
+    /// <param name="repo">New repository to use (e.g., JSON instead of YAML).</param>
+    public static void setRepository(ConfigRepository repo) {
+        if (repo != null) REPO = repo;
+    }
+
+    /// <summary>
+    /// Loads a configuration object asynchronously.
+    /// </summary>
+    /// <typeparam name="T">Type of configuration object.</typeparam>
+    /// <param name="plugin">Owning plugin instance.</param>
+    /// <param name="cfg">Config instance to load into.</param>
+    /// <param name="onSuccess">Callback executed with the loaded config.</param>
+    /// <returns>A future completing when the load finishes.</returns>
+    /// <remarks>
+    /// Handles first-load initialization, migration, and validation, unless the config is restored from the
+    /// <see cref="CacheSnapshot"/>.  
+    /// Fires <see cref="ConfigLoadedEvent"/>, <see cref="ConfigMigratedEvent"/>, or 
+    /// <see cref="ConfigValidationFailedEvent"/> as appropriate.  
+    /// Runs at <see cref="ConfigPriority.INTERACTIVE"/>, ahead of queued saves.
+    /// </remarks>
+    public static <T extends IDreamConfig> CompletableFuture<Void> load(JavaPlugin plugin, T cfg, Consumer<T> onSuccess) {
+        return load(plugin, cfg, ConfigPriority.INTERACTIVE, onSuccess);
+    }
+
+    /// <summary>
+    /// Loads a configuration object asynchronously with an explicit scheduling class.
+    /// </summary>
+    /// <typeparam name="T">Type of configuration object.</typeparam>
+    /// <param name="plugin">Owning plugin instance.</param>
+    /// <param name="cfg">Config instance to load into.</param>
+    /// <param name="priority">Scheduling class; use <see cref="ConfigPriority.BACKGROUND"/> for warm-up loads nobody waits on.</param>
+    /// <param name="onSuccess">Callback executed with the loaded config.</param>
+    /// <returns>A future completing when the load finishes.</returns>
+    public static <T extends IDreamConfig> CompletableFuture<Void> load(JavaPlugin plugin, T cfg, ConfigPriority priority, Consumer<T> onSuccess) {
+        WriteBehind.flush(cfg);
+        return ConfigExecutor.supplyOrdered(cfg.documentID(), priority, () -> {
+            try (var timer = new MetricsTimer("load[" + cfg.documentID() + "]"); var capture = CacheSnapshot.begin()) {
+                var obj = objectFor(plugin, REPO.resolvePath(cfg), cfg.documentID());
+
+                if (CacheSnapshot.restore(cfg, obj.getFile())) {
+                    // Unchanged since it was cached: already migrated and validated.
+                } else if (REPO.isFirstLoad(cfg, obj)) {
+                    cfg.FirstLoadConfig();
+                    REPO.save(cfg, obj);
+                    writeVersionMeta(cfg, obj);
+                    capture.encoded(cfg, obj.getFile());
+                    cfg.AfterSaveConfig();
+                } else {
+                    cfg.BeforeLoadConfig();
+                    capture.reading(cfg, obj.getFile());
+                    int diskVer = REPO.loadWithVersion(cfg, obj);
+                    int targetVer = ConfigVersions.target(cfg.getClass());
+
+                    if (diskVer < targetVer) {
+                        runMigrations(cfg, diskVer, targetVer);
+                        REPO.save(cfg, obj);
+                        writeVersionMeta(cfg, obj);
+                        cfg.AfterSaveConfig();
+                    }
+                    capture.encoded(cfg, obj.getFile());
+
+                    String err = runValidation(cfg);
+                    if (err != null) {
+                        dispatchSync(new ConfigValidationFailedEvent(cfg, err));
+                        ConfigLog.warn("[DreamConfig] Validation failed for " + cfg.documentID() + ": " + err);
+                    }
+
+                    cfg.AfterLoadConfig();
+                }
+
+                capture.commit();
+                dispatchSync(new ConfigLoadedEvent(cfg));
+                onSuccess.accept(cfg);
+                return null;
+            } catch (Exception e) {
+                throw new RuntimeException("Load failed for " + cfg.documentID(), e);
+            }
+        });
+    }
+
+    /// <summary>
+    /// Deletes a configuration file asynchronously.
+    /// </summary>
+    /// <typeparam name="T">Type of configuration object.</typeparam>
+    /// <param name="plugin">Owning plugin instance.</param>
+    /// <param name="cfg">Config instance representing the file to delete.</param>
+    /// <param name="onSuccess">Callback executed after deletion.</param>
+    /// <remarks>
+    /// Triggers <see cref="ConfigDeletedEvent"/> on completion. Runs at <see cref="ConfigPriority.NORMAL"/>.
+    /// </remarks>
+    public static <T extends IDreamConfig> void delete(JavaPlugin plugin, T cfg, Consumer<T> onSuccess) {
+        delete(plugin, cfg, ConfigPriority.NORMAL, onSuccess);
+    }
+
+    /// <summary>
+    /// Deletes a configuration file asynchronously with an explicit scheduling class.
+    /// </summary>
+    /// <typeparam name="T">Type of configuration object.</typeparam>
+    /// <param name="plugin">Owning plugin instance.</param>
+    /// <param name="cfg">Config instance representing the file to delete.</param>
+    /// <param name="priority">Scheduling class.</param>
+    /// <param name="onSuccess">Callback executed after deletion.</param>
+    public static <T extends IDreamConfig> void delete(JavaPlugin plugin, T cfg, ConfigPriority priority, Consumer<T> onSuccess) {
+        WriteBehind.flush(cfg);
+        ConfigExecutor.runOrdered(cfg.documentID(), priority, () -> {
+            try (var timer = new MetricsTimer("delete[" + cfg.documentID() + "]")) {
+                var obj = objectFor(plugin, REPO.resolvePath(cfg), cfg.documentID());
+                REPO.delete(cfg, obj);
+                dispatchSync(new ConfigDeletedEvent(cfg));
+                onSuccess.accept(cfg);
+            }
+            catch (Exception e) { throw new RuntimeException("Delete failed for " + cfg.documentID(), e); }
+        });
+    }
+
+    /// <summary>
+    /// Saves many configs as one batch at <see cref="ConfigPriority.NORMAL"/>.
+    /// </summary>
+    /// <param name="plugin">Owning plugin instance.</param>
+    /// <param name="cfgs">Configs to save.</param>
+    /// <returns>Future resolving to the documents that failed, with their cause; empty when all were written.</returns>
+    /// <remarks>See <see cref="saveAll(JavaPlugin, Collection, ConfigPriority)"/>.</remarks>
+    public static CompletableFuture<Map<String, Throwable>> saveAll(JavaPlugin plugin, Collection<? extends IDreamConfig> cfgs) {
+        return saveAll(plugin, cfgs, ConfigPriority.NORMAL);
+    }
+
+    /// <summary>
+    /// Saves many configs as one ordered batch and one <see cref="ConfigRepository#saveAll"/> call.
+    /// </summary>
+    /// <param name="plugin">Owning plugin instance.</param>
+    /// <param name="cfgs">Configs to save.</param>
+    /// <param name="priority">Scheduling class for the batch.</param>
+    /// <returns>Future resolving to the documents that failed, with their cause; empty when all were written.</returns>
+    /// <remarks>
+    /// Runs the same hooks as <see cref="save"/> per document, and fires the resulting
+    /// <see cref="ConfigSavedEvent"/>s in a single main-thread task. Mongo writes the batch with one
+    /// <c>bulkWrite</c>, so saving every online player at shutdown is a few round trips.  
+    /// Pending write-behind saves of these documents are folded into the batch; their callbacks run
+    /// once it lands. The batch waits for operations already queued on any of its documents, and later
+    /// ones wait for it, exactly as if it were one <see cref="save"/> per document.
+    /// </remarks>
+    public static CompletableFuture<Map<String, Throwable>> saveAll(JavaPlugin plugin, Collection<? extends IDreamConfig> cfgs, ConfigPriority priority) {
+        var batch = List.copyOf(cfgs);
+        var absorbed = new IdentityHashMap<IDreamConfig, List<Runnable>>();
+        for (var cfg : batch) {
+            var callbacks = WriteBehind.absorb(cfg);
+            if (!callbacks.isEmpty()) absorbed.put(cfg, callbacks);
+        }
+        return ConfigExecutor.supplyOrdered(idsOf(batch), priority, () -> {
+            try (var timer = new MetricsTimer("saveAll[" + batch.size() + "]"); var capture = CacheSnapshot.begin()) {
+                var objects = objectsFor(plugin, batch);
+                for (var cfg : batch) if (REPO.isFirstLoad(cfg, objects.get(cfg))) cfg.FirstLoadConfig();
+
+                var result = REPO.saveAll(batch, objects::get);
+                var events = new ArrayList<org.bukkit.event.Event>();
+                for (var cfg : batch) {
+                    if (result.isFailed(cfg.documentID())) continue;
+                    try {
+                        REPO.writeVersion(cfg, objects.get(cfg), ConfigVersions.target(cfg.getClass()));
+                        capture.encoded(cfg, objects.get(cfg).getFile());
+                        cfg.AfterSaveConfig();
+                        events.add(new ConfigSavedEvent(cfg));
+                    } catch (Exception e) {
+                        result.failed(cfg.documentID(), e);
+                        continue;
+                    }
+                    for (var callback : absorbed.getOrDefault(cfg, List.of())) {
+                        try { callback.run(); }
+                        catch (RuntimeException e) { ConfigLog.error("[DreamConfig] Save callback failed for " + cfg.documentID(), e); }
+                    }
+                }
+                capture.commit();
+                dispatchSync(events);
+                logFailures("saveAll", result.failed());
+                return result.failed();
+            }
+        });
+    }
+
+    /// <summary>
+    /// Loads many configs as one batch at <see cref="ConfigPriority.NORMAL"/>, populating each in place.
+    /// </summary>
+    /// <param name="plugin">Owning plugin instance.</param>
+    /// <param name="cfgs">Configs to load into, one per document id.</param>
+    /// <returns>Future resolving to the loaded configs and the ones that failed.</returns>
+    /// <remarks>See <see cref="loadMany(JavaPlugin, Collection, ConfigPriority)"/>.</remarks>
+    public static CompletableFuture<LoadAllResult> loadMany(JavaPlugin plugin, Collection<? extends IDreamConfig> cfgs) {
+        return loadMany(plugin, cfgs, ConfigPriority.NORMAL);
+    }
+
+    /// <summary>
+    /// Loads the documents with the given ids as instances of the marker's type.
+    /// </summary>
+    /// <param name="plugin">Owning plugin instance.</param>
+    /// <param name="typeMarker">Marker instance of the config type.</param>
+    /// <param name="ids">Document ids to load.</param>
+    /// <returns>Future resolving to the loaded configs and the ones that failed.</returns>
+    public static CompletableFuture<LoadAllResult> loadMany(JavaPlugin plugin, IDreamConfig typeMarker, Collection<String> ids) {
+        return loadMany(plugin, instancesOf(typeMarker, ids), ConfigPriority.NORMAL);
+    }
+
+    /// <summary>
+    /// Loads many configs as one ordered batch and one <see cref="ConfigRepository#loadMany"/> call.
+    /// </summary>
+    /// <param name="plugin">Owning plugin instance.</param>
+    /// <param name="cfgs">Configs to load into, one per document id.</param>
+    /// <param name="priority">Scheduling class for the batch.</param>
+    /// <returns>Future resolving to the loaded configs and the ones that failed.</returns>
+    /// <remarks>
+    /// Mirrors <see cref="load"/> per document: first-load initialization, migration and validation. Missing
+    /// and migrated documents are written back with one <see cref="ConfigRepository#saveAll"/>, and the
+    /// <see cref="ConfigLoadedEvent"/>s fire in a single main-thread task. Mongo reads the batch with
+    /// <c>find({_id: {$in: ...}})</c>. Pending write-behind saves of these documents land first, and like
+    /// <see cref="saveAll(JavaPlugin, Collection, ConfigPriority)"/> the batch is ordered with the
+    /// single-document operations on each of them.
+    /// </remarks>
+    public static CompletableFuture<LoadAllResult> loadMany(JavaPlugin plugin, Collection<? extends IDreamConfig> cfgs, ConfigPriority priority) {
+        var batch = List.copyOf(cfgs);
+        for (var cfg : batch) WriteBehind.flush(cfg);
+        return ConfigExecutor.supplyOrdered(idsOf(batch), priority, () -> {
+            try (var timer = new MetricsTimer("loadMany[" + batch.size() + "]"); var capture = CacheSnapshot.begin()) {
+                var objects = objectsFor(plugin, batch);
+                var fresh = new ArrayList<IDreamConfig>();
+                var stored = new ArrayList<IDreamConfig>();
+                for (var cfg : batch) {
+                    if (CacheSnapshot.restore(cfg, objects.get(cfg).getFile())) continue;
+                    if (REPO.isFirstLoad(cfg, objects.get(cfg))) {
+                        cfg.FirstLoadConfig();
+                        fresh.add(cfg);
+                    } else {
+                        cfg.BeforeLoadConfig();
+                        capture.reading(cfg, objects.get(cfg).getFile());
+                        stored.add(cfg);
+                    }
+                }
+
+                var loadResult = REPO.loadMany(stored, objects::get);
+                var failed = new LinkedHashMap<String, Throwable>(loadResult.failed());
+                var toWrite = new ArrayList<IDreamConfig>(fresh);
+                for (var cfg : stored) {
+                    if (failed.containsKey(cfg.documentID())) continue;
+                    try {
+                        int diskVer = loadResult.versionOf(cfg.documentID());
+                        int targetVer = ConfigVersions.target(cfg.getClass());
+                        if (diskVer < targetVer) {
+                            runMigrations(cfg, diskVer, targetVer);
+                            toWrite.add(cfg);
+                        } else {
+                            capture.encoded(cfg, objects.get(cfg).getFile());
+                        }
+                        String err = runValidation(cfg);
+                        if (err != null) {
+                            dispatchSync(new ConfigValidationFailedEvent(cfg, err));
+                            ConfigLog.warn("[DreamConfig] Validation failed for " + cfg.documentID() + ": " + err);
+                        }
+                        cfg.AfterLoadConfig();
+                    } catch (Exception e) {
+                        failed.put(cfg.documentID(), e);
+                    }
+                }
+
+                if (!toWrite.isEmpty()) {
+                    var saveResult = REPO.saveAll(toWrite, objects::get);
+                    failed.putAll(saveResult.failed());
+                    for (var cfg : toWrite) {
+                        if (failed.containsKey(cfg.documentID())) continue;
+                        try {
+                            writeVersionMeta(cfg, objects.get(cfg));
+                            capture.encoded(cfg, objects.get(cfg).getFile());
+                            cfg.AfterSaveConfig();
+                        } catch (Exception e) {
+                            failed.put(cfg.documentID(), e);
+                        }
+                    }
+                }
+
+                var loaded = new LinkedHashMap<String, IDreamConfig>();
+                var events = new ArrayList<org.bukkit.event.Event>();
+                for (var cfg : batch) {
+                    if (failed.containsKey(cfg.documentID())) {
+                        capture.discard(cfg);
+                        continue;
+                    }
+                    loaded.put(cfg.documentID(), cfg);
+                    events.add(new ConfigLoadedEvent(cfg));
+                }
+                capture.commit();
+                dispatchSync(events);
+                logFailures("loadMany", failed);
+                return new LoadAllResult(loaded, failed);
+            }
+        });
+    }
+
+    /// <summary>
+    /// Deletes many stored documents as one batch at <see cref="ConfigPriority.NORMAL"/>.
+    /// </summary>
+    /// <param name="plugin">Owning plugin instance.</param>
+    /// <param name="cfgs">Configs whose documents are deleted.</param>
+    /// <returns>Future resolving to the documents that failed, with their cause; empty when all were deleted.</returns>
+    /// <remarks>
+    /// One ordered batch and one <see cref="ConfigRepository#deleteMany"/> call (a <c>deleteMany</c> with
+    /// <c>$in</c> on Mongo); the <see cref="ConfigDeletedEvent"/>s fire in a single main-thread task.
+    /// Pending write-behind saves of these documents land first, as with <see cref="delete"/>, and a save
+    /// queued after the batch cannot be overtaken by it.
+    /// </remarks>
+    public static CompletableFuture<Map<String, Throwable>> deleteMany(JavaPlugin plugin, Collection<? extends IDreamConfig> cfgs) {
+        var batch = List.copyOf(cfgs);
+        for (var cfg : batch) WriteBehind.flush(cfg);
+        return ConfigExecutor.supplyOrdered(idsOf(batch), ConfigPriority.NORMAL, () -> {
+            try (var timer = new MetricsTimer("deleteMany[" + batch.size() + "]")) {
+                var objects = objectsFor(plugin, batch);
+                var result = REPO.deleteMany(batch, objects::get);
+                var events = new ArrayList<org.bukkit.event.Event>();
+                for (var cfg : batch) if (!result.isFailed(cfg.documentID())) events.add(new ConfigDeletedEvent(cfg));
+                dispatchSync(events);
+                logFailures("deleteMany", result.failed());
+                return result.failed();
+            }
+        });
+    }
+
+    /// <summary>
+    /// Deletes the documents with the given ids for the marker's type.
+    /// </summary>
+    /// <param name="plugin">Owning plugin instance.</param>
+    /// <param name="typeMarker">Marker instance of the config type.</param>
+    /// <param name="ids">Document ids to delete.</param>
+    /// <returns>Future resolving to the documents that failed, with their cause.</returns>
+    public static CompletableFuture<Map<String, Throwable>> deleteMany(JavaPlugin plugin, IDreamConfig typeMarker, Collection<String> ids) {
+        return deleteMany(plugin, instancesOf(typeMarker, ids));
+    }
+
+    /// <summary>
+    /// Renders a config object to console for debugging.
+    /// </summary>
+    /// <typeparam name="T">Type of configuration object.</typeparam>
+    /// <param name="cfg">Config instance to display.</param>
+    /// <param name="onSuccess">Callback executed after display.</param>
+    /// <remarks>
+    /// Uses the cached <see cref="FieldPlan"/> to print all fields and values in YAML-like format.
+    /// </remarks>
+    public static <T extends IDreamConfig> void display(T cfg, Consumer<T> onSuccess) {
+        ConfigExecutor.runAsync(() -> {
+            try {
+                var sb = new StringBuilder(String.format("==========[%s / PULSE CONFIG]==========\n{\n", cfg.documentID()));
+                for (var field : FieldPlan.of(cfg.getClass()).fields()) {
+                    var rendered = REPO.renderConsole(field.resolve(cfg), 2);
+                    if (rendered == null) continue;
+                    sb.append(String.format("%s%s:%s\n", REPO.indent(1), field.saveName(), rendered));
+                }
+                sb.append("}\n==========[END]==========");
+                Bukkit.getConsoleSender().sendMessage(sb.toString());
+                onSuccess.accept(cfg);
+            } catch (Exception e) {
+                throw new RuntimeException("Display failed for " + cfg.documentID(), e);
+            }
+        });
+    }
+
+    /// <summary>
+    /// Loads all config files of a given type asynchronously.
+    /// </summary>
+    /// <param name="plugin">Owning plugin instance.</param>
+    /// <param name="typeMarker">Marker instance of the config type.</param>
+    /// <returns>Future resolving to a map of document IDs to config instances.</returns>
+    /// <remarks>
+    /// Applies migration and validation per file. Each file is parsed once: the same
+    /// <see cref="DreamConfigObject"/> serves the load, the version read and any migration write-back.  
+    /// Useful for bulk-loading player configs or similar multi-instance setups.
+    /// Runs at <see cref="ConfigPriority.BACKGROUND"/>.
+    /// </remarks>
+    public static CompletableFuture<Map<String, IDreamConfig>> loadAll(JavaPlugin plugin, IDreamConfig typeMarker) {
+        return ConfigExecutor.supplyAsync(ConfigPriority.BACKGROUND, () -> {
+            try (var timer = new MetricsTimer("loadAll[" + typeMarker.getClass().getSimpleName() + "]")) {
+                var results = new HashMap<String, IDreamConfig>();
+                var base = REPO.resolvePath(typeMarker);
+                try (var files = REPO.streamConfigFiles(plugin, new File(base))) {
+                    for (var it = files.iterator(); it.hasNext(); ) {
+                        var name = REPO.fileToDocumentId(it.next());
+                        var cfg = loadDocument(plugin, base, name, typeMarker);
+                        if (cfg != null) results.put(name, cfg);
+                    }
+                }
+                return results;
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            }
+        });
+    }
+
+    /// <summary>
+    /// Loads all config files of a given type on parallel workers, isolating failures per document.
+    /// </summary>
+    /// <param name="plugin">Owning plugin instance.</param>
+    /// <param name="typeMarker">Marker instance of the config type.</param>
+    /// <returns>Future resolving to the loaded documents and the ones that failed.</returns>
+    /// <remarks>
+    /// Uses <see cref="defaultLoadParallelism"/> workers. See <see cref="loadAllParallel(JavaPlugin, IDreamConfig, int)"/>.
+    /// </remarks>
+    public static CompletableFuture<LoadAllResult> loadAllParallel(JavaPlugin plugin, IDreamConfig typeMarker) {
+        return loadAllParallel(plugin, typeMarker, defaultLoadParallelism());
+    }
+
+    /// <summary>
+    /// Loads all config files of a given type on up to <paramref name="parallelism"/> virtual threads.
+    /// </summary>
+    /// <param name="plugin">Owning plugin instance.</param>
+    /// <param name="typeMarker">Marker instance of the config type.</param>
+    /// <param name="parallelism">Maximum number of documents loaded at once.</param>
+    /// <returns>Future resolving to the loaded documents and the ones that failed.</returns>
+    /// <remarks>
+    /// Each document goes through the same load, migration and validation steps as <see cref="loadAll"/>.
+    /// An exception in one document is recorded in <see cref="LoadAllResult.failed"/> and the rest keep loading;
+    /// the future itself only fails if the documents cannot be listed.
+    /// Documents whose class has no usable constructor are reported as failures rather than skipped.
+    /// Workers start on the first documents while the directory is still being scanned.
+    /// </remarks>
+    public static CompletableFuture<LoadAllResult> loadAllParallel(JavaPlugin plugin, IDreamConfig typeMarker, int parallelism) {
+        return ConfigExecutor.supplyAsync(ConfigPriority.BACKGROUND, () -> {
+            try (var timer = new MetricsTimer("loadAllParallel[" + typeMarker.getClass().getSimpleName() + "]")) {
+                var base = REPO.resolvePath(typeMarker);
+                // Slots are appended in scan order as workers claim them, so results keep directory order.
+                var slots = new ArrayList<Slot>();
+                try (var files = REPO.streamConfigFiles(plugin, new File(base))) {
+                    var claimed = files.map(file -> {
+                        var slot = new Slot(REPO.fileToDocumentId(file));
+                        slots.add(slot);
+                        return slot;
+                    }).iterator();
+                    ConfigExecutor.forEachParallel(claimed, parallelism, slot -> {
+                        try {
+                            slot.config = loadDocument(plugin, base, slot.name, typeMarker);
+                            if (slot.config == null) slot.error = new IllegalStateException("No usable constructor on " + typeMarker.getClass().getName());
+                        } catch (Throwable t) {
+                            slot.error = t;
+                        }
+                    });
+                }
+
+                var loaded = new LinkedHashMap<String, IDreamConfig>();
+                var failed = new LinkedHashMap<String, Throwable>();
+                for (var slot : slots) {
+                    if (slot.config != null) loaded.put(slot.name, slot.config);
+                    else if (slot.error != null) {
+                        failed.put(slot.name, slot.error);
+                        ConfigLog.warn("[DreamConfig] Load failed for " + slot.name + ": " + slot.error);
+                    }
+                }
+                return new LoadAllResult(loaded, failed);
+            }
+        });
+    }
+
+    /// <summary>
+    /// Default worker count for <see cref="loadAllParallel"/>: the number of available processors,
+    /// overridable with <c>-Ddreamconfig.loadAll.parallelism</c>.
+    /// </summary>
+    public static int defaultLoadParallelism() {
+        return Math.max(1, Integer.getInteger("dreamconfig.loadAll.parallelism", Runtime.getRuntime().availableProcessors()));
+    }
+
+    /// <summary>
+    /// Streams every stored document of a config type as a <see cref="Flow.Publisher"/>, loading each one
+    /// only when the subscriber has requested it.
+    /// </summary>
+    /// <param name="plugin">Owning plugin instance.</param>
+    /// <param name="typeMarker">Marker instance of the config type.</param>
+    /// <returns>A cold publisher; each subscription opens its own <see cref="ConfigCursor"/>.</returns>
+    /// <remarks>
+    /// Unlike <see cref="loadAll"/>, nothing is collected: memory stays flat however many documents exist,
+    /// as long as the subscriber lets go of what it has processed. Documents are read through
+    /// <see cref="ConfigRepository#openCursor"/> (a directory scan for YAML, a server-side cursor for Mongo)
+    /// and go through the same migration and validation as <see cref="loadAll"/>.  
+    /// Signals arrive on a virtual thread, never on the server thread. A document that fails to load is
+    /// logged and skipped; <c>onError</c> is reserved for failures of the scan itself.
+    /// </remarks>
+    /// <example>
+    /// <code>
+    /// DreamConfigAPI.stream(plugin, new PlayerData()).subscribe(new Flow.Subscriber&lt;&gt;() {
+    ///     Flow.Subscription s;
+    ///     public void onSubscribe(Flow.Subscription s) { (this.s = s).request(64); }
+    ///     public void onNext(IDreamConfig cfg) { board.offer((PlayerData) cfg); s.request(1); }
+    ///     public void onError(Throwable t) { getLogger().warning(t.toString()); }
+    ///     public void onComplete() { board.publish(); }
+    /// });
+    /// </code>
+    /// </example>
+    public static Flow.Publisher<IDreamConfig> stream(JavaPlugin plugin, IDreamConfig typeMarker) {
+        return new ConfigPublisher(plugin, typeMarker);
+    }
+
+    /// <summary>Opens a cursor over the active repository for <see cref="ConfigPublisher"/>.</summary>
+    static ConfigCursor openCursor(JavaPlugin plugin, IDreamConfig typeMarker) throws Exception {
+        return REPO.openCursor(plugin, typeMarker);
+    }
+
+    /// <summary>Base path handed to <see cref="DreamConfigObject"/> for documents of the marker's type.</summary>
+    static String basePath(IDreamConfig typeMarker) { return REPO.resolvePath(typeMarker); }
+
+    /// <summary>
+    /// Lists the documents of a config type whose stored version is older than the declared
+    /// <see cref="ConfigVersion"/>, without deserializing them.
+    /// </summary>
+    /// <param name="plugin">Owning plugin instance.</param>
+    /// <param name="typeMarker">Marker instance of the config type.</param>
+    /// <returns>Future resolving to document IDs mapped to their stored version.</returns>
+    /// <remarks>
+    /// Uses <see cref="ConfigRepository#readVersion"/>, which only reads <c>__meta.version</c>.
+    /// Like <see cref="loadAll"/>, enumerates documents lazily through <see cref="ConfigRepository#streamConfigFiles"/>.
+    /// </remarks>
+    public static CompletableFuture<Map<String, Integer>> findOutdated(JavaPlugin plugin, IDreamConfig typeMarker) {
+        return ConfigExecutor.supplyAsync(ConfigPriority.BACKGROUND, () -> {
+            try (var timer = new MetricsTimer("findOutdated[" + typeMarker.getClass().getSimpleName() + "]")) {
+                var outdated = new LinkedHashMap<String, Integer>();
+                int targetVer = ConfigVersions.target(typeMarker.getClass());
+                var base = REPO.resolvePath(typeMarker);
+                try (var files = REPO.streamConfigFiles(plugin, new File(base))) {
+                    for (var it = files.iterator(); it.hasNext(); ) {
+                        var name = REPO.fileToDocumentId(it.next());
+                        var inst = SerializerHelpers.createInstanceWithId(name, typeMarker.getClass());
+                        if (inst == null) continue;
+                        awaitOwnWrites((IDreamConfig) inst);
+                        int diskVer = REPO.readVersion((IDreamConfig) inst, objectFor(plugin, base, name));
+                        if (diskVer < targetVer) outdated.put(name, diskVer);
+                    }
+                }
+                return outdated;
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            }
+        });
+    }
+
+    /* --------------------------- helpers --------------------------- */
+
+    /// <summary>One document of a <see cref="loadAllParallel"/> run: its id and the config or failure it produced.</summary>
+    private static final class Slot {
+        final String name;
+        IDreamConfig config;
+        Throwable error;
+
+        Slot(String name) { this.name = name; }
+    }
+
+    /// <summary>
+    /// Loads, migrates and validates one stored document of the marker's type.
+    /// </summary>
+    /// <returns>The loaded config, or null if the type cannot be instantiated.</returns>
+    /// <remarks>
+    /// Shared by <see cref="loadAll"/> and <see cref="loadAllParallel"/>. Each call owns its own
+    /// <see cref="DreamConfigObject"/>, so calls for different documents may run concurrently.  
+    /// A pending write-behind save of the document is flushed and waited for first, like <see cref="load"/>.
+    /// An outdated document is migrated and written back on its lane (<see cref="migrateOrdered"/>), ordered
+    /// with the saves queued for it.
+    /// </remarks>
+    private static IDreamConfig loadDocument(JavaPlugin plugin, String base, String name, IDreamConfig typeMarker) throws Exception {
+        return loadDocument(plugin, base, name, typeMarker, null);
+    }
+
+    /// <summary>
+    /// As <see cref="loadDocument(JavaPlugin, String, String, IDreamConfig)"/>, reading the document from
+    /// <paramref name="cursor"/>'s current position when one is given.
+    /// </summary>
+    static IDreamConfig loadDocument(JavaPlugin plugin, String base, String name, IDreamConfig typeMarker, ConfigCursor cursor) throws Exception {
+        var inst = SerializerHelpers.createInstanceWithId(name, typeMarker.getClass());
+        if (inst == null) return null;
+        var cfg = (IDreamConfig) inst;
+        // The cursor's copy predates any write we had to wait for; read the document again instead.
+        if (awaitOwnWrites(cfg)) cursor = null;
+        var obj = objectFor(plugin, base, name);
+        if (cursor == null && CacheSnapshot.restore(cfg, obj.getFile())) return cfg;
+        boolean outdated;
+        try (var capture = CacheSnapshot.begin()) {
+            // A cursor has already read the document, so only a direct read can be stamped beforehand.
+            if (cursor == null) capture.reading(cfg, obj.getFile());
+            int diskVer = cursor != null ? cursor.load(cfg, obj) : REPO.loadWithVersion(cfg, obj);
+            outdated = diskVer < ConfigVersions.target(cfg.getClass());
+            if (!outdated) {
+                capture.encoded(cfg, obj.getFile());
+                capture.commit();
+            }
+        }
+        if (outdated) migrateOrdered(cfg, obj);
+        String err = runValidation(cfg);
+        if (err != null) {
+            dispatchSync(new ConfigValidationFailedEvent(cfg, err));
+        }
+        return cfg;
+    }
+
+    /// <summary>
+    /// Migrates an outdated document and writes it back from its document lane, then waits for that.
+    /// </summary>
+    /// <remarks>
+    /// The document is read again on the lane: a save queued after the first read may already have written a
+    /// newer copy, which the migrated older state must not overwrite.
+    /// </remarks>
+    private static void migrateOrdered(IDreamConfig cfg, DreamConfigObject obj) throws Exception {
+        var migrated = ConfigExecutor.supplyOrdered(cfg.documentID(), ConfigPriority.BACKGROUND, () -> {
+            try (var capture = CacheSnapshot.begin()) {
+                obj.invalidate();
+                capture.reading(cfg, obj.getFile());
+                int diskVer = REPO.loadWithVersion(cfg, obj);
+                int targetVer = ConfigVersions.target(cfg.getClass());
+                if (diskVer < targetVer) {
+                    runMigrations(cfg, diskVer, targetVer);
+                    REPO.save(cfg, obj);
+                    writeVersionMeta(cfg, obj);
+                }
+                capture.encoded(cfg, obj.getFile());
+                capture.commit();
+            }
+            return null;
+        });
+        try { ConfigExecutor.await(migrated); }
+        catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) throw cause;
+            throw e;
+        }
+    }
+
+    /// <summary>
+    /// Flushes a pending write-behind save of <paramref name="cfg"/> and waits until its document lane has
+    /// drained, so a bulk read sees what single-document calls queued before it.
+    /// </summary>
+    /// <returns>True if there was anything to wait for.</returns>
+    private static boolean awaitOwnWrites(IDreamConfig cfg) throws InterruptedException, ExecutionException {
+        var id = cfg.documentID();
+        if (!WriteBehind.isPending(cfg) && !ConfigExecutor.hasOrdered(id)) return false;
+        WriteBehind.flush(cfg);
+        ConfigExecutor.await(ConfigExecutor.supplyOrdered(id, ConfigPriority.BACKGROUND, () -> null));
+        return true;
+    }
+
+    /// <summary>
+    /// Dispatches a Bukkit event on the main thread.
+    /// </summary>
+    /// <remarks>
+    /// Dropped once DreamConfig is disabled: writes flushed from <c>onDisable</c> cannot schedule tasks.
+    /// </remarks>
+    private static void dispatchSync(org.bukkit.event.Event event) {
+        var host = DreamConfig.get();
+        if (host == null || !host.isEnabled()) return;
+        Bukkit.getScheduler().runTask(host, () -> Bukkit.getPluginManager().callEvent(event));
+    }
+
+    /// <summary>
+    /// Dispatches several Bukkit events in one main-thread task.
+    /// </summary>
+    private static void dispatchSync(List<org.bukkit.event.Event> events) {
+        if (events.isEmpty()) return;
+        var host = DreamConfig.get();
+        if (host == null || !host.isEnabled()) return;
+        Bukkit.getScheduler().runTask(host, () -> events.forEach(Bukkit.getPluginManager()::callEvent));
+    }
+
+    /// <summary>Repository object wrapper for one document, using the active repository's file extension.</summary>
+    private static DreamConfigObject objectFor(JavaPlugin plugin, String base, String documentId) {
+        return new DreamConfigObject(plugin, base, documentId, REPO.fileExtension());
+    }
+
+    /// <summary>
+    /// Repository object wrapper per config of a batch, keyed by identity.
+    /// </summary>
+    private static Map<IDreamConfig, DreamConfigObject> objectsFor(JavaPlugin plugin, List<? extends IDreamConfig> batch) {
+        var objects = new IdentityHashMap<IDreamConfig, DreamConfigObject>();
+        for (var cfg : batch) objects.put(cfg, objectFor(plugin, REPO.resolvePath(cfg), cfg.documentID()));
+        return objects;
+    }
+
+    /// <summary>
+    /// Instances of the marker's type for each id; ids the type cannot be constructed with are skipped and logged.
+    /// </summary>
+    private static List<IDreamConfig> instancesOf(IDreamConfig typeMarker, Collection<String> ids) {
+        var out = new ArrayList<IDreamConfig>(ids.size());
+        for (var id : ids) {
+            var inst = SerializerHelpers.createInstanceWithId(id, typeMarker.getClass());
+            if (inst instanceof IDreamConfig cfg) out.add(cfg);
+            else ConfigLog.warn("[DreamConfig] Cannot construct " + typeMarker.getClass().getSimpleName() + " for " + id);
+        }
+        return out;
+    }
+
+    /// <summary>
+    /// Document ids of a batch, the ordering keys it is queued under.
+    /// </summary>
+    private static List<String> idsOf(List<? extends IDreamConfig> batch) {
+        var ids = new ArrayList<String>(batch.size());
+        for (var cfg : batch) ids.add(cfg.documentID());
+        return ids;
+    }
+
+    /// <summary>
+    /// Logs each failed document of a batch.
+    /// </summary>
+    private static void logFailures(String op, Map<String, Throwable> failed) {
+        failed.forEach((id, t) -> ConfigLog.warn("[DreamConfig] " + op + " failed for " + id + ": " + t));
+    }
+
+    /// <summary>
+    /// Writes version metadata for a config.
+    /// </summary>
+    private static void writeVersionMeta(IDreamConfig cfg, DreamConfigObject obj) throws Exception {
+        REPO.writeVersion(cfg, obj, ConfigVersions.target(cfg.getClass()));
+    }
+
+    /// <summary>
+    /// Runs registered migrations from a starting version to a target version.
+    /// </summary>
+    /// <typeparam name="T">Type of configuration object.</typeparam>
+    /// <param name="cfg">Config instance to migrate.</param>
+    /// <param name="from">Starting version.</param>
+    /// <param name="to">Target version.</param>
+    private static <T extends IDreamConfig> void runMigrations(T cfg, int from, int to) throws Exception {
+        var list = MigratorRegistry.get((Class<T>) cfg.getClass());
+        int current = from;
+        for (var m : list) {
+            if (m.fromVersion() == current && m.toVersion() == current + 1) {
+                try (var timer = new MetricsTimer("migrate[" + cfg.documentID() + " " + current + "->" + (current + 1) + "]")) {
+                    m.migrate(cfg);
+                }
+                current++;
+                dispatchSync(new ConfigMigratedEvent(cfg, m.fromVersion(), m.toVersion()));
+                if (current == to) break;
+            }
+        }
+        if (current != to) {
+            ConfigLog.warn("[DreamConfig] Missing migrators to reach version " + to + " from " + from + " for " + cfg.getClass().getSimpleName());
+        }
+    }
+
+    /// <summary>
+    /// Runs validation if <see cref="ValidateWith"/> is present.
+    /// </summary>
+    /// <param name="cfg">Config instance.</param>
+    /// <returns>Error message if validation fails, or null if valid.</returns>
+    private static String runValidation(IDreamConfig cfg) throws Exception {
+        var ann = cfg.getClass().getAnnotation(ValidateWith.class);
+        if (ann == null) return null;
+        @SuppressWarnings("unchecked")
+        var validator = (ConfigValidator<IDreamConfig>) ann.value().getDeclaredConstructor().newInstance();
+        return validator.validate(cfg);
+    }
+}
\ No newline at end of file
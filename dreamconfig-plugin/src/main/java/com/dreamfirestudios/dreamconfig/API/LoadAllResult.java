@@ -0,0 +1,64 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.API;
+
+import com.dreamfirestudios.dreamconfig.Model.Interfaces.IDreamConfig;
+
+import java.util.Collections;
+import java.util.Map;
+
+/// <summary>
+/// Outcome of a parallel <see cref="DreamConfigAPI.loadAllParallel"/> run.
+/// </summary>
+/// <remarks>
+/// Documents that loaded are in <see cref="loaded"/>; documents that threw are in <see cref="failed"/>
+/// with the exception that stopped them. One bad file never hides the others.  
+/// Both maps keep the order in which the repository listed the documents and are unmodifiable.
+/// </remarks>
+/// <example>
+/// <code>
+/// DreamConfigAPI.loadAllParallel(plugin, new PlayerData()).thenAccept(result -> {
+///     result.loaded().forEach((id, cfg) -> cache.put(id, (PlayerData) cfg));
+///     result.failed().forEach((id, err) -> getLogger().warning(id + ": " + err));
+/// });
+/// </code>
+/// </example>
+public final class LoadAllResult {
+    private final Map<String, IDreamConfig> loaded;
+    private final Map<String, Throwable> failed;
+
+    LoadAllResult(Map<String, IDreamConfig> loaded, Map<String, Throwable> failed) {
+        this.loaded = Collections.unmodifiableMap(loaded);
+        this.failed = Collections.unmodifiableMap(failed);
+    }
+
+    /// <summary>Documents that loaded, keyed by document id.</summary>
+    public Map<String, IDreamConfig> loaded() { return loaded; }
+
+    /// <summary>Documents that failed, keyed by document id, with the cause.</summary>
+    public Map<String, Throwable> failed() { return failed; }
+
+    /// <summary>True when every listed document loaded.</summary>
+    public boolean isComplete() { return failed.isEmpty(); }
+}
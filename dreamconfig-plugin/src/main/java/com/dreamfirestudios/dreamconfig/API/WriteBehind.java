@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.API;
+
+import com.dreamfirestudios.dreamconfig.Enum.ConfigPriority;
+import com.dreamfirestudios.dreamconfig.Internal.ConfigLog;
+import com.dreamfirestudios.dreamconfig.Model.Interfaces.IDreamConfig;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/// <summary>
+/// Write-behind buffer behind <see cref="DreamConfigAPI.save"/> when a write-behind delay is set.
+/// </summary>
+/// <remarks>
+/// The first save of a document registers it as dirty and arms a timer. Saves that arrive before the timer
+/// fires only update the pending entry: the latest instance is written, at the most urgent priority
+/// requested, and every caller's callback runs once that single write lands.  
+/// Entries are keyed by config class and document id. A flush removes the entry before writing, so a save
+/// that arrives during the write starts a new window instead of being lost.
+/// </remarks>
+final class WriteBehind {
+    private static final ConcurrentHashMap<String, Pending> PENDING = new ConcurrentHashMap<>();
+
+    private WriteBehind() {}
+
+    /// <summary>Dirty document waiting for its flush.</summary>
+    private static final class Pending {
+        final String documentId;
+        JavaPlugin plugin;
+        IDreamConfig cfg;
+        ConfigPriority priority;
+        final List<Runnable> callbacks = new ArrayList<>();
+
+        Pending(String documentId) { this.documentId = documentId; }
+    }
+
+    /// <summary>Record a save and arm the flush timer if the document was clean.</summary>
+    static <T extends IDreamConfig> void defer(JavaPlugin plugin, T cfg, ConfigPriority priority, Runnable callback, long delayMillis) {
+        var key = keyOf(cfg);
+        var armed = new boolean[1];
+        var entry = PENDING.compute(key, (k, e) -> {
+            if (e == null) {
+                e = new Pending(cfg.documentID());
+                e.priority = priority;
+                armed[0] = true;
+            } else if (priority.compareTo(e.priority) < 0) {
+                e.priority = priority;
+            }
+            e.plugin = plugin;
+            e.cfg = cfg;
+            e.callbacks.add(callback);
+            return e;
+        });
+        if (armed[0]) {
+            CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS).execute(() -> write(key, entry));
+        }
+    }
+
+    /// <summary>Write pending saves of <paramref name="documentId"/> now.</summary>
+    /// <returns>Future completing when the writes land; already complete if nothing was pending.</returns>
+    static CompletableFuture<Void> flush(String documentId) {
+        var writes = new ArrayList<CompletableFuture<Void>>();
+        PENDING.forEach((key, entry) -> {
+            if (entry.documentId.equals(documentId)) writes.add(write(key, entry));
+        });
+        return CompletableFuture.allOf(writes.toArray(new CompletableFuture[0]));
+    }
+
+    /// <summary>Write every pending save now.</summary>
+    static CompletableFuture<Void> flushAll() {
+        var writes = new ArrayList<CompletableFuture<Void>>();
+        PENDING.forEach((key, entry) -> writes.add(write(key, entry)));
+        return CompletableFuture.allOf(writes.toArray(new CompletableFuture[0]));
+    }
+
+    /// <summary>Write the pending save of this exact config (class and id) now, if any.</summary>
+    static CompletableFuture<Void> flush(IDreamConfig cfg) {
+        var key = keyOf(cfg);
+        var entry = PENDING.get(key);
+        return entry == null ? CompletableFuture.completedFuture(null) : write(key, entry);
+    }
+
+    /// <summary>
+    /// Take over the pending save of <paramref name="cfg"/>, if any, because a batch is about to write it.
+    /// </summary>
+    /// <returns>The callbacks of the absorbed saves, to run once the batch write lands; empty if none.</returns>
+    static List<Runnable> absorb(IDreamConfig cfg) {
+        var entry = PENDING.remove(keyOf(cfg));
+        return entry == null ? List.of() : entry.callbacks;
+    }
+
+    /// <summary>True if <paramref name="cfg"/> (class and id) has a save waiting for its flush.</summary>
+    static boolean isPending(IDreamConfig cfg) { return PENDING.containsKey(keyOf(cfg)); }
+
+    /// <summary>Number of documents with a pending write.</summary>
+    static int pendingCount() { return PENDING.size(); }
+
+    private static String keyOf(IDreamConfig cfg) { return cfg.getClass().getName() + '#' + cfg.documentID(); }
+
+    /// <summary>Claim <paramref name="entry"/> and queue its write; a no-op if a flush or the timer got there first.</summary>
+    private static CompletableFuture<Void> write(String key, Pending entry) {
+        if (!PENDING.remove(key, entry)) return CompletableFuture.completedFuture(null);
+        var callbacks = entry.callbacks;
+        return DreamConfigAPI.saveNow(entry.plugin, entry.cfg, entry.priority, ignored -> {
+            for (var callback : callbacks) {
+                try { callback.run(); }
+                catch (RuntimeException e) { ConfigLog.error("[DreamConfig] Save callback failed for " + entry.documentId, e); }
+            }
+        });
+    }
+}
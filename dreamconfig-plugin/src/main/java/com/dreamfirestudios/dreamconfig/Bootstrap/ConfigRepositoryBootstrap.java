@@ -24,6 +24,8 @@
 package com.dreamfirestudios.dreamconfig.Bootstrap;
 
 import com.dreamfirestudios.dreamconfig.API.DreamConfigAPI;
+import com.dreamfirestudios.dreamconfig.Internal.Repo.BinaryConfigRepository;
+import com.dreamfirestudios.dreamconfig.Internal.Repo.SegmentConfigRepository;
 import com.dreamfirestudios.dreamconfig.Internal.Repo.MongoConfigRepository;
 import com.dreamfirestudios.dreamconfig.Internal.Repo.ConfigRepository;
 import com.mongodb.client.MongoClient;
@@ -35,7 +37,8 @@ import org.bukkit.plugin.java.JavaPlugin;
 /// for <see cref="DreamConfigAPI"/>.
 /// </summary>
 /// <remarks>
-/// By default, YAML storage is used.  
+/// By default, YAML storage is used; <c>storage.format: binary</c> in DreamConfig's <c>config.yml</c> selects
+/// <see cref="BinaryConfigRepository"/> instead and <c>storage.format: segment</c> selects <see cref="SegmentConfigRepository"/>.  
 /// If MongoDB environment variables are provided, the repository will be switched to MongoDB.
 /// This enables server admins to scale config persistence without code changes.
 /// <br/>
@@ -69,7 +72,7 @@ public final class ConfigRepositoryBootstrap {
     /// </summary>
     /// <param name="plugin">Owning plugin instance, used for logging and task scheduling.</param>
     /// <remarks>
-    /// - If environment variables are missing, YAML is used (default).  
+    /// - If environment variables are missing, YAML is used (default), or the binary/segment format if configured.  
     /// - If environment variables are present, MongoDB is attempted.  
     /// - On MongoDB initialization failure, falls back to YAML.
     /// </remarks>
@@ -87,7 +90,16 @@ public final class ConfigRepositoryBootstrap {
         var coll = System.getenv("DREAMCONFIG_MONGO_COLLECTION");
 
         if (uri == null || db == null || coll == null) {
-            plugin.getLogger().info("[DreamConfig] Using YAML repository (env not present).");
+            var format = plugin.getConfig().getString("storage.format", "yaml");
+            if ("binary".equalsIgnoreCase(format)) {
+                DreamConfigAPI.setRepository(new BinaryConfigRepository());
+                plugin.getLogger().info("[DreamConfig] Using binary repository (storage.format: binary).");
+            } else if ("segment".equalsIgnoreCase(format)) {
+                DreamConfigAPI.setRepository(new SegmentConfigRepository());
+                plugin.getLogger().info("[DreamConfig] Using segment repository (storage.format: segment).");
+            } else {
+                plugin.getLogger().info("[DreamConfig] Using YAML repository (env not present).");
+            }
             return;
         }
 
@@ -21,10 +21,15 @@
  */
 package com.dreamfirestudios.dreamconfig;
 
+import com.dreamfirestudios.dreamconfig.API.CacheSnapshot;
+import com.dreamfirestudios.dreamconfig.API.ConfigWatcher;
 import com.dreamfirestudios.dreamconfig.API.DreamConfigAPI;
 import com.dreamfirestudios.dreamconfig.Bootstrap.ConfigRepositoryBootstrap;
+import com.dreamfirestudios.dreamconfig.Internal.Codegen.HiddenCodecFactory;
 import com.dreamfirestudios.dreamconfig.Internal.ConfigExecutor;
 import com.dreamfirestudios.dreamconfig.Internal.ConfigLog;
+import com.dreamfirestudios.dreamconfig.Internal.Storage.AtomicFiles;
+import com.dreamfirestudios.dreamconfig.Internal.Yaml.ParsedDocumentCache;
 import com.dreamfirestudios.dreamconfig.Model.DynamicPulseConfig;
 import com.dreamfirestudios.dreamconfig.Model.StaticPulseConfig;
 import com.dreamfirestudios.dreamcore.DreamChat.DreamChat;
@@ -35,13 +40,14 @@ import org.bukkit.plugin.java.JavaPlugin;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /// <summary>
 /// Plugin entrypoint for the DreamConfig system. Manages static/dynamic config caches and bootstraps auto‑registration.
 /// </summary>
 /// <remarks>
-/// On enable: initializes logging, executors, repository bootstrap, and registers discovered static configs.  
-/// On disable: gracefully shuts down the executor. Caches are exposed via <see cref="DYNAMIC_CACHE"/> and <see cref="STATIC_CACHE"/>.
+/// On enable: initializes logging, executors (mode and limits from <c>config.yml</c>), repository bootstrap, reads the cache snapshot, and registers discovered static configs.  
+/// On disable: flushes pending write-behind saves, writes the cache snapshot and gracefully shuts down the executor. Caches are exposed via <see cref="DYNAMIC_CACHE"/> and <see cref="STATIC_CACHE"/>.
 /// </remarks>
 /// <example>
 /// <code>
@@ -66,25 +72,56 @@ public final class DreamConfig extends JavaPlugin {
     @Override public void onEnable() {
         instance = this;
         ConfigLog.init(getLogger());
-        ConfigExecutor.init();
+        saveDefaultConfig();
+        ConfigExecutor.init(ConfigExecutor.Settings.from(getConfig().getConfigurationSection("executor")));
+        DreamConfigAPI.setWriteBehindDelay(getConfig().getLong("save.write-behind-ms", 0L));
+        AtomicFiles.configure(AtomicFiles.WriteMode.from(getConfig().getString("save.write-mode", "atomic")),
+                getConfig().getLong("save.group-commit-ms", 2L));
+        ParsedDocumentCache.configure(getConfig().getInt("cache.max-documents", 512), getConfig().getBoolean("cache.verify-hash", false));
+        HiddenCodecFactory.setEnabled(getConfig().getBoolean("codegen.enabled", HiddenCodecFactory.isEnabled()));
         ConfigRepositoryBootstrap.initialize(this);
+        ConfigWatcher.configure(getConfig().getBoolean("watch.enabled", false), getConfig().getLong("watch.debounce-ms", 250L));
+        CacheSnapshot.configure(this, getConfig().getBoolean("snapshot.enabled", false), getConfig().getLong("snapshot.interval-seconds", 0L));
+        CacheSnapshot.open();
         registerStatic(this, false);
     }
 
-    /// <summary>Plugin shutdown hook (graceful).</summary>
-    @Override public void onDisable() { ConfigExecutor.shutdown(); }
+    /// <summary>
+    /// Plugin shutdown hook (graceful): stops hot reload, writes pending write-behind saves, stops the executor
+    /// and waits for the saves, loads and deletes it already accepted, then writes the <see cref="CacheSnapshot"/>
+    /// and closes the repository.
+    /// </summary>
+    @Override public void onDisable() {
+        ConfigWatcher.shutdown();
+        try { DreamConfigAPI.flushAll().get(30, TimeUnit.SECONDS); }
+        catch (Exception e) { ConfigLog.error("[DreamConfig] Pending saves did not finish before shutdown", e); }
+        ConfigExecutor.shutdown();
+        try {
+            if (!ConfigExecutor.awaitTermination(30, TimeUnit.SECONDS))
+                ConfigLog.warn("[DreamConfig] Queued config work did not finish within 30s of shutdown");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        CacheSnapshot.shutdown();
+        if (DreamConfigAPI.getRepository() instanceof AutoCloseable closeable) {
+            try { closeable.close(); }
+            catch (Exception e) { ConfigLog.error("[DreamConfig] Failed to close repository", e); }
+        }
+    }
 
     /// <summary>
     /// Register all <see cref="StaticPulseConfig"/> subclasses discovered by <see cref="DreamfireJavaAPI"/>.
     /// </summary>
     /// <param name="plugin">Host plugin.</param>
     /// <param name="reset">If true, delete and recreate stored configs for these classes.</param>
+    /// <remarks>With <c>watch.enabled</c>, also starts hot reload for the plugin's folder (<see cref="ConfigWatcher"/>).</remarks>
     /// <example>
     /// <code>
     /// getServer().getScheduler().runTask(this, () -> DreamConfig.get().registerStatic(this, false));
     /// </code>
     /// </example>
     public void registerStatic(JavaPlugin plugin, boolean reset) {
+        ConfigWatcher.watch(plugin);
         try { registerStaticRaw(plugin, reset); }
         catch (Exception e) { throw new RuntimeException("Failed to register static configs", e); }
     }
@@ -0,0 +1,65 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Enum;
+
+/// <summary>
+/// Scheduling class of a config operation queued on <c>ConfigExecutor</c>.
+/// </summary>
+/// <remarks>
+/// Queued work is ordered by deadline: the time it was queued plus <see cref="maxDelayMillis"/>.
+/// An interactive load therefore goes ahead of saves queued just before it. A save still runs once
+/// it has waited its own delay, however many interactive loads keep arriving, so no class starves.
+/// </remarks>
+/// <example>
+/// <code>
+/// DreamConfigAPI.load(plugin, profile, ConfigPriority.INTERACTIVE, loaded -> player.sendMessage("Welcome back"));
+/// DreamConfigAPI.save(plugin, stats, ConfigPriority.BACKGROUND, saved -> {});
+/// </code>
+/// </example>
+public enum ConfigPriority {
+
+    /// <summary>
+    /// Someone is waiting on the result, e.g. a player join. Default for single-document loads.
+    /// </summary>
+    INTERACTIVE(0),
+
+    /// <summary>
+    /// Ordinary writes. Default for saves, deletes and other async work.
+    /// </summary>
+    NORMAL(500),
+
+    /// <summary>
+    /// Bulk or housekeeping work such as <c>loadAll</c> or autosaves.
+    /// </summary>
+    BACKGROUND(5_000);
+
+    private final long maxDelayMillis;
+
+    ConfigPriority(long maxDelayMillis) { this.maxDelayMillis = maxDelayMillis; }
+
+    /// <summary>
+    /// How long work of this class may be overtaken by more urgent work before it runs first.
+    /// </summary>
+    public long maxDelayMillis() { return maxDelayMillis; }
+}
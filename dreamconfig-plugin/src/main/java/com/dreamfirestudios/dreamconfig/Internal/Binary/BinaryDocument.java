@@ -0,0 +1,386 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Internal.Binary;
+
+import com.dreamfirestudios.dreamconfig.Internal.Reflection.FieldPlan;
+import com.dreamfirestudios.dreamconfig.Model.Interfaces.IDreamConfig;
+import com.dreamfirestudios.dreamconfig.Model.Serialization.CodecRegistry;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/// <summary>
+/// Encoder/decoder for the compact <c>.dcb</c> config format used by the binary repository.
+/// </summary>
+/// <remarks>
+/// <para>
+/// Layout: the magic <c>DCB</c> and a format byte, the document's <c>__meta.version</c> as a varint, the config
+/// class name, a dictionary of every map key in first-use order, the root field map, and a CRC32C of all
+/// preceding bytes. Map keys are written as dictionary indexes; integers are zig-zag varints; doubles are
+/// 8 raw bytes; strings, lists and maps are length-prefixed, strings as raw UTF-8.
+/// </para>
+/// <para>
+/// Values come from the same <see cref="FieldPlan"/> and <see cref="CodecRegistry"/> output the YAML writer
+/// uses, and decode to the plain values the YAML loader would produce (<c>Integer</c>/<c>Long</c>/<c>BigInteger</c>,
+/// <c>Double</c>, <c>String</c>, <c>Boolean</c>, <c>LinkedHashMap</c> with string keys, <c>ArrayList</c>), so
+/// Saveable collections and custom codecs read a binary document exactly like a YAML one.
+/// </para>
+/// </remarks>
+/// <example>
+/// <code>
+/// byte[] bytes = BinaryDocument.encode(cfg, ConfigVersions.target(cfg.getClass()));
+/// BinaryDocument.Decoded doc = BinaryDocument.decode(bytes);
+/// DreamConfigDeSerializer.readObject(doc.fields(), cfg.getClass(), cfg);
+/// </code>
+/// </example>
+public final class BinaryDocument {
+    /// <summary>Current layout version, stored after the magic.</summary>
+    public static final int FORMAT = 1;
+
+    private static final byte[] MAGIC = {'D', 'C', 'B'};
+    private static final int HEADER = MAGIC.length + 1;
+    private static final int MAX_POOLED_BYTES = 1 << 20;
+
+    private static final int NULL = 0, FALSE = 1, TRUE = 2, INT = 3, BIG = 4, DOUBLE = 5, STRING = 6, LIST = 7, MAP = 8;
+
+    private static final ThreadLocal<Out> BODY = ThreadLocal.withInitial(() -> new Out(8 * 1024));
+
+    private BinaryDocument() {}
+
+    /// <summary>A decoded document.</summary>
+    public static final class Decoded {
+        private final int version;
+        private final String type;
+        private final Map<Object, Object> fields;
+
+        Decoded(int version, String type, Map<Object, Object> fields) {
+            this.version = version;
+            this.type = type;
+            this.fields = fields;
+        }
+
+        /// <summary>Stored <c>__meta.version</c>.</summary>
+        public int version() { return version; }
+
+        /// <summary>Config class name recorded at save time (empty for imported documents).</summary>
+        public String type() { return type; }
+
+        /// <summary>Field values keyed by save name.</summary>
+        public Map<Object, Object> fields() { return fields; }
+    }
+
+    /// <summary>Encode <paramref name="cfg"/>'s saved fields.</summary>
+    /// <param name="cfg">Config to encode.</param>
+    /// <param name="version">Value stored as <c>__meta.version</c>.</param>
+    public static byte[] encode(IDreamConfig cfg, int version) throws Exception {
+        var fields = new LinkedHashMap<Object, Object>();
+        for (var pf : FieldPlan.of(cfg.getClass()).fields()) {
+            var value = pf.resolve(cfg);
+            if (value != null) fields.put(pf.saveName(), CodecRegistry.write(value));
+        }
+        return encode(cfg.getClass().getName(), version, fields);
+    }
+
+    /// <summary>Encode an already-serialized field map (e.g. one imported from YAML).</summary>
+    /// <param name="type">Class name to record, or empty.</param>
+    /// <param name="version">Value stored as <c>__meta.version</c>.</param>
+    /// <param name="fields">Plain values keyed by save name.</param>
+    public static byte[] encode(String type, int version, Map<?, ?> fields) {
+        var body = BODY.get();
+        body.reset();
+        try {
+            var dictionary = new LinkedHashMap<String, Integer>();
+            map(body, dictionary, fields);
+
+            var out = new Out(body.length + 64 + dictionary.size() * 12);
+            out.bytes(MAGIC, 0, MAGIC.length);
+            out.raw(FORMAT);
+            out.varint(version);
+            out.string(type == null ? "" : type);
+            out.varint(dictionary.size());
+            for (var key : dictionary.keySet()) out.string(key);
+            out.bytes(body.buffer, 0, body.length);
+            var crc = new CRC32C();
+            crc.update(out.buffer, 0, out.length);
+            out.int32((int) crc.getValue());
+            return out.toByteArray();
+        } finally {
+            if (body.buffer.length > MAX_POOLED_BYTES) BODY.remove();
+        }
+    }
+
+    /// <summary>Decode a whole document, verifying its checksum.</summary>
+    /// <exception cref="IOException">If the bytes are not a valid <c>.dcb</c> document.</exception>
+    public static Decoded decode(byte[] bytes) throws IOException {
+        checkHeader(bytes);
+        if (bytes.length < HEADER + 4) throw new IOException("Truncated binary config");
+        int end = bytes.length - 4;
+        var crc = new CRC32C();
+        crc.update(bytes, 0, end);
+        int stored = ((bytes[end] & 0xff) << 24) | ((bytes[end + 1] & 0xff) << 16) | ((bytes[end + 2] & 0xff) << 8) | (bytes[end + 3] & 0xff);
+        if (stored != (int) crc.getValue()) throw new IOException("Binary config checksum mismatch");
+        try {
+            var in = new In(bytes, HEADER, end);
+            int version = (int) in.varint();
+            var type = in.string();
+            var dictionary = new String[(int) in.varint()];
+            for (int i = 0; i < dictionary.length; i++) dictionary[i] = in.string();
+            if (in.tag() != MAP) throw new IOException("Binary config root is not a map");
+            var fields = in.map(dictionary);
+            return new Decoded(version, type, fields);
+        } catch (IndexOutOfBoundsException | NegativeArraySizeException e) {
+            throw new IOException("Corrupt binary config", e);
+        }
+    }
+
+    /// <summary>Read only <c>__meta.version</c> from the start of a document.</summary>
+    /// <param name="prefix">At least the first 9 bytes of the file (fewer is fine for short files).</param>
+    public static int readVersion(byte[] prefix) throws IOException {
+        checkHeader(prefix);
+        try { return (int) new In(prefix, HEADER, prefix.length).varint(); }
+        catch (IndexOutOfBoundsException e) { throw new IOException("Truncated binary config", e); }
+    }
+
+    private static void checkHeader(byte[] bytes) throws IOException {
+        if (bytes.length < HEADER || bytes[0] != MAGIC[0] || bytes[1] != MAGIC[1] || bytes[2] != MAGIC[2])
+            throw new IOException("Not a binary config document");
+        if (bytes[3] != FORMAT) throw new IOException("Unsupported binary config format " + bytes[3]);
+    }
+
+    /* --------------------------- encoding --------------------------- */
+
+    private static void value(Out out, Map<String, Integer> dictionary, Object v) {
+        if (v == null) out.raw(NULL);
+        else if (v instanceof Boolean b) out.raw(b ? TRUE : FALSE);
+        else if (v instanceof Integer || v instanceof Long || v instanceof Short || v instanceof Byte) {
+            out.raw(INT);
+            out.zigzag(((Number) v).longValue());
+        } else if (v instanceof BigInteger big) {
+            if (big.bitLength() < 64) {
+                out.raw(INT);
+                out.zigzag(big.longValue());
+            } else {
+                var bytes = big.toByteArray();
+                out.raw(BIG);
+                out.varint(bytes.length);
+                out.bytes(bytes, 0, bytes.length);
+            }
+        } else if (v instanceof Double d) {
+            out.raw(DOUBLE);
+            out.int64(Double.doubleToRawLongBits(d));
+        } else if (v instanceof Float f) {
+            // Match YAML, which writes Float.toString and reads the text back as a double.
+            out.raw(DOUBLE);
+            out.int64(Double.doubleToRawLongBits(Double.parseDouble(f.toString())));
+        } else if (v instanceof Map<?, ?> map) {
+            map(out, dictionary, map);
+        } else if (v instanceof List<?> list) {
+            out.raw(LIST);
+            out.varint(list.size());
+            for (var item : list) value(out, dictionary, item);
+        } else if (v instanceof Enum<?> e) {
+            out.raw(STRING);
+            out.string(e.name());
+        } else {
+            out.raw(STRING);
+            out.string(String.valueOf(v));
+        }
+    }
+
+    private static void map(Out out, Map<String, Integer> dictionary, Map<?, ?> map) {
+        int count = 0;
+        for (var e : map.entrySet()) if (isData(e.getKey(), e.getValue())) count++;
+        out.raw(MAP);
+        out.varint(count);
+        for (var e : map.entrySet()) {
+            if (!isData(e.getKey(), e.getValue())) continue;
+            var key = String.valueOf(e.getKey());
+            var index = dictionary.get(key);
+            if (index == null) dictionary.put(key, index = dictionary.size());
+            out.varint(index);
+            value(out, dictionary, e.getValue());
+        }
+    }
+
+    /// <summary>Null values and storage comments (<c>"# +..."</c> keys) are not stored, as in YAML.</summary>
+    private static boolean isData(Object key, Object value) {
+        if (value == null) return false;
+        return !(key instanceof String s && s.startsWith("# +") && value instanceof String);
+    }
+
+    /* --------------------------- buffers --------------------------- */
+
+    /// <summary>Growable output buffer.</summary>
+    private static final class Out {
+        byte[] buffer;
+        int length;
+
+        Out(int capacity) { buffer = new byte[Math.max(16, capacity)]; }
+
+        void reset() { length = 0; }
+
+        private void ensure(int extra) {
+            if (length + extra > buffer.length) buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extra));
+        }
+
+        void raw(int b) {
+            ensure(1);
+            buffer[length++] = (byte) b;
+        }
+
+        void bytes(byte[] src, int offset, int count) {
+            ensure(count);
+            System.arraycopy(src, offset, buffer, length, count);
+            length += count;
+        }
+
+        void varint(long v) {
+            ensure(10);
+            while ((v & ~0x7FL) != 0) {
+                buffer[length++] = (byte) ((v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            buffer[length++] = (byte) v;
+        }
+
+        void zigzag(long v) { varint((v << 1) ^ (v >> 63)); }
+
+        void int32(int v) {
+            ensure(4);
+            buffer[length++] = (byte) (v >>> 24);
+            buffer[length++] = (byte) (v >>> 16);
+            buffer[length++] = (byte) (v >>> 8);
+            buffer[length++] = (byte) v;
+        }
+
+        void int64(long v) {
+            int32((int) (v >>> 32));
+            int32((int) v);
+        }
+
+        void string(String s) {
+            var bytes = s.getBytes(StandardCharsets.UTF_8);
+            varint(bytes.length);
+            bytes(bytes, 0, bytes.length);
+        }
+
+        byte[] toByteArray() { return length == buffer.length ? buffer : Arrays.copyOf(buffer, length); }
+    }
+
+    /// <summary>Cursor over an encoded document.</summary>
+    private static final class In {
+        private final byte[] bytes;
+        private final int end;
+        private int pos;
+
+        In(byte[] bytes, int pos, int end) {
+            this.bytes = bytes;
+            this.pos = pos;
+            this.end = end;
+        }
+
+        private int next() {
+            if (pos >= end) throw new IndexOutOfBoundsException("end of document");
+            return bytes[pos++];
+        }
+
+        int tag() { return next() & 0xff; }
+
+        long varint() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = next();
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) return result;
+            }
+            throw new IndexOutOfBoundsException("varint too long");
+        }
+
+        private int length() {
+            long n = varint();
+            if (n < 0 || n > end - pos) throw new IndexOutOfBoundsException("length " + n);
+            return (int) n;
+        }
+
+        long int64() {
+            long v = 0;
+            for (int i = 0; i < 8; i++) v = (v << 8) | (next() & 0xff);
+            return v;
+        }
+
+        String string() {
+            int n = length();
+            var s = new String(bytes, pos, n, StandardCharsets.UTF_8);
+            pos += n;
+            return s;
+        }
+
+        Object value(String[] dictionary) {
+            int tag = tag();
+            switch (tag) {
+                case NULL: return null;
+                case FALSE: return Boolean.FALSE;
+                case TRUE: return Boolean.TRUE;
+                case INT: {
+                    long raw = varint();
+                    long v = (raw >>> 1) ^ -(raw & 1);
+                    return v == (int) v ? (Object) (int) v : (Object) v;
+                }
+                case BIG: {
+                    int n = length();
+                    var big = new BigInteger(Arrays.copyOfRange(bytes, pos, pos + n));
+                    pos += n;
+                    return big;
+                }
+                case DOUBLE: return Double.longBitsToDouble(int64());
+                case STRING: return string();
+                case LIST: {
+                    int n = length();
+                    var list = new ArrayList<Object>(n);
+                    for (int i = 0; i < n; i++) list.add(value(dictionary));
+                    return list;
+                }
+                case MAP: return map(dictionary);
+                default: throw new IndexOutOfBoundsException("unknown tag " + tag);
+            }
+        }
+
+        Map<Object, Object> map(String[] dictionary) {
+            int n = length();
+            Map<Object, Object> map = new LinkedHashMap<>(Math.max(4, (int) (n / 0.75f) + 1));
+            for (int i = 0; i < n; i++) {
+                var key = dictionary[(int) varint()];
+                map.put(key, value(dictionary));
+            }
+            return map;
+        }
+    }
+}
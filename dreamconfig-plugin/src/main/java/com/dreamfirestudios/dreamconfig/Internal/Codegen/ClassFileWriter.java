@@ -0,0 +1,191 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Internal.Codegen;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/// <summary>
+/// Minimal class-file emitter for the straight-line classes produced by <see cref="HiddenCodecFactory"/>.
+/// </summary>
+/// <remarks>
+/// Supports only what the generated codecs need: a constant pool (UTF8, Class, NameAndType, Field/Method refs),
+/// instance fields, and methods with a <c>Code</c> attribute that contain no branches or exception handlers,
+/// so no <c>StackMapTable</c> is required.
+/// </remarks>
+final class ClassFileWriter {
+    static final int ACC_PUBLIC = 0x0001;
+    static final int ACC_PRIVATE = 0x0002;
+    static final int ACC_STATIC = 0x0008;
+    static final int ACC_FINAL = 0x0010;
+    static final int ACC_SUPER = 0x0020;
+
+    /// <summary>Class-file major version emitted (Java 21).</summary>
+    private static final int MAJOR_VERSION = 65;
+
+    private final ByteArrayOutputStream poolBytes = new ByteArrayOutputStream();
+    private final DataOutputStream pool = new DataOutputStream(poolBytes);
+    private final Map<String, Integer> poolIndex = new HashMap<>();
+    private int poolCount = 1;
+
+    private final List<byte[]> fields = new ArrayList<>();
+    private final List<byte[]> methods = new ArrayList<>();
+
+    /* --------------------------- constant pool --------------------------- */
+
+    int utf8(String value) {
+        return entry("U" + value, out -> { out.writeByte(1); out.writeUTF(value); });
+    }
+
+    int classRef(String internalName) {
+        int name = utf8(internalName);
+        return entry("C" + internalName, out -> { out.writeByte(7); out.writeShort(name); });
+    }
+
+    int fieldRef(String owner, String name, String descriptor) {
+        int cls = classRef(owner), nat = nameAndType(name, descriptor);
+        return entry("F" + owner + '.' + name + ':' + descriptor, out -> { out.writeByte(9); out.writeShort(cls); out.writeShort(nat); });
+    }
+
+    int methodRef(String owner, String name, String descriptor) {
+        int cls = classRef(owner), nat = nameAndType(name, descriptor);
+        return entry("M" + owner + '.' + name + descriptor, out -> { out.writeByte(10); out.writeShort(cls); out.writeShort(nat); });
+    }
+
+    private int nameAndType(String name, String descriptor) {
+        int n = utf8(name), d = utf8(descriptor);
+        return entry("N" + name + ':' + descriptor, out -> { out.writeByte(12); out.writeShort(n); out.writeShort(d); });
+    }
+
+    private interface PoolWriter { void write(DataOutputStream out) throws IOException; }
+
+    private int entry(String key, PoolWriter writer) {
+        var existing = poolIndex.get(key);
+        if (existing != null) return existing;
+        try { writer.write(pool); }
+        catch (IOException e) { throw new UncheckedIOException(e); }
+        int index = poolCount++;
+        poolIndex.put(key, index);
+        return index;
+    }
+
+    /* --------------------------- members --------------------------- */
+
+    void field(int access, String name, String descriptor) {
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new DataOutputStream(bytes)) {
+            out.writeShort(access);
+            out.writeShort(utf8(name));
+            out.writeShort(utf8(descriptor));
+            out.writeShort(0);
+        } catch (IOException e) { throw new UncheckedIOException(e); }
+        fields.add(bytes.toByteArray());
+    }
+
+    void method(int access, String name, String descriptor, int maxStack, int maxLocals, Code code) {
+        var body = code.bytes();
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new DataOutputStream(bytes)) {
+            out.writeShort(access);
+            out.writeShort(utf8(name));
+            out.writeShort(utf8(descriptor));
+            out.writeShort(1);
+            out.writeShort(utf8("Code"));
+            out.writeInt(12 + body.length);
+            out.writeShort(maxStack);
+            out.writeShort(maxLocals);
+            out.writeInt(body.length);
+            out.write(body);
+            out.writeShort(0); // exception table
+            out.writeShort(0); // attributes
+        } catch (IOException e) { throw new UncheckedIOException(e); }
+        methods.add(bytes.toByteArray());
+    }
+
+    /// <summary>Assemble the final class file.</summary>
+    byte[] toByteArray(int access, String thisName, String superName, String... interfaces) {
+        int thisIndex = classRef(thisName);
+        int superIndex = classRef(superName);
+        var interfaceIndexes = new int[interfaces.length];
+        for (int i = 0; i < interfaces.length; i++) interfaceIndexes[i] = classRef(interfaces[i]);
+
+        var bytes = new ByteArrayOutputStream();
+        try (var out = new DataOutputStream(bytes)) {
+            out.writeInt(0xCAFEBABE);
+            out.writeShort(0);
+            out.writeShort(MAJOR_VERSION);
+            out.writeShort(poolCount);
+            pool.flush();
+            poolBytes.writeTo(out);
+            out.writeShort(access);
+            out.writeShort(thisIndex);
+            out.writeShort(superIndex);
+            out.writeShort(interfaceIndexes.length);
+            for (var i : interfaceIndexes) out.writeShort(i);
+            out.writeShort(fields.size());
+            for (var f : fields) out.write(f);
+            out.writeShort(methods.size());
+            for (var m : methods) out.write(m);
+            out.writeShort(0); // class attributes
+        } catch (IOException e) { throw new UncheckedIOException(e); }
+        return bytes.toByteArray();
+    }
+
+    /// <summary>Bytecode buffer with the handful of instructions the generator emits.</summary>
+    static final class Code {
+        static final int ICONST_0 = 0x03, BIPUSH = 0x10, SIPUSH = 0x11;
+        static final int ALOAD_0 = 0x2a, ALOAD_1 = 0x2b, ALOAD_2 = 0x2c, ASTORE_2 = 0x4d;
+        static final int AALOAD = 0x32, DUP = 0x59;
+        static final int ARETURN = 0xb0, RETURN = 0xb1;
+        static final int GETFIELD = 0xb4, PUTFIELD = 0xb5;
+        static final int INVOKEVIRTUAL = 0xb6, INVOKESPECIAL = 0xb7, INVOKESTATIC = 0xb8;
+        static final int NEW = 0xbb, CHECKCAST = 0xc0;
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        Code op(int opcode) { bytes.write(opcode); return this; }
+
+        Code op(int opcode, int u2) {
+            bytes.write(opcode);
+            bytes.write((u2 >>> 8) & 0xff);
+            bytes.write(u2 & 0xff);
+            return this;
+        }
+
+        /// <summary>Push a small non-negative int constant.</summary>
+        Code pushInt(int value) {
+            if (value <= 5) return op(ICONST_0 + value);
+            if (value <= Byte.MAX_VALUE) { bytes.write(BIPUSH); bytes.write(value); return this; }
+            return op(SIPUSH, value);
+        }
+
+        byte[] bytes() { return bytes.toByteArray(); }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Internal.Codegen;
+
+import com.dreamfirestudios.dreamconfig.Internal.Reflection.DreamConfigDeSerializer;
+import com.dreamfirestudios.dreamconfig.Internal.Reflection.FieldAccessor;
+import com.dreamfirestudios.dreamconfig.Internal.Reflection.DreamConfigSerializer;
+import com.dreamfirestudios.dreamconfig.Internal.Reflection.FieldPlan.PlannedField;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/// <summary>
+/// Static entry points invoked from runtime-generated codecs (see <see cref="HiddenCodecFactory"/>).
+/// </summary>
+/// <remarks>
+/// Generated bytecode only performs the field reads/writes; defaulting, comment banners and value
+/// (de)serialization are delegated here so the generated methods stay branch-free and behave exactly like
+/// the reflection path. Public only because generated classes live in the config's own package.
+/// </remarks>
+public final class CodegenSupport {
+    private CodegenSupport() {}
+
+    /// <summary>Serialize one directly-read field value into <paramref name="out"/>.</summary>
+    /// <param name="out">Target map.</param>
+    /// <param name="pf">Planned field.</param>
+    /// <param name="instance">Owning object (used for defaulting).</param>
+    /// <param name="value">Value read by the generated code (boxed for primitives).</param>
+    public static void write(LinkedHashMap<String, Object> out, PlannedField pf, Object instance, Object value) throws Exception {
+        if (value == null) value = pf.resolve(instance);
+        if (value == null) return;
+        if (pf.comment() != null) out.put("# +------------------" + pf.comment(), "------------------+ #");
+        out.put(pf.saveName(), DreamConfigSerializer.writeValue(value));
+    }
+
+    /// <summary>Serialize a field the generated code cannot read directly.</summary>
+    public static void writeIndirect(LinkedHashMap<String, Object> out, PlannedField pf, Object instance) throws Exception {
+        write(out, pf, instance, pf.get(instance));
+    }
+
+    /// <summary>
+    /// Compute the value the generated code stores back into a directly-written field.
+    /// </summary>
+    /// <returns>
+    /// The deserialized value when present and storable (see <see cref="FieldAccessor.convert"/>), otherwise <paramref name="current"/>
+    /// (matching the "keep current on failure" rule of the reflection path).
+    /// </returns>
+    public static Object read(PlannedField pf, Map<Object, Object> data, Object target, Object current) throws Exception {
+        if (current == null) current = pf.resolve(target);
+        if (current == null || !data.containsKey(pf.saveName())) return current;
+        var des = DreamConfigDeSerializer.readValue(current.getClass(), current, data.get(pf.saveName()));
+        return FieldAccessor.convert(pf.type(), des, current);
+    }
+
+    /// <summary>Deserialize a field the generated code cannot write directly (final or inaccessible).</summary>
+    public static void readIndirect(PlannedField pf, Map<Object, Object> data, Object target) throws Exception {
+        var current = pf.resolve(target);
+        if (current == null || !data.containsKey(pf.saveName())) return;
+        var des = DreamConfigDeSerializer.readValue(current.getClass(), current, data.get(pf.saveName()));
+        pf.assign(target, des);
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Internal.Codegen;
+
+import com.dreamfirestudios.dreamconfig.Internal.ConfigLog;
+import com.dreamfirestudios.dreamconfig.Internal.Reflection.FieldPlan;
+import com.dreamfirestudios.dreamconfig.Internal.Reflection.FieldPlan.PlannedField;
+import com.dreamfirestudios.dreamconfig.Internal.Reflection.GeneratedCodec;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.dreamfirestudios.dreamconfig.Internal.Codegen.ClassFileWriter.*;
+import static com.dreamfirestudios.dreamconfig.Internal.Codegen.ClassFileWriter.Code.*;
+
+/// <summary>
+/// Generates <see cref="GeneratedCodec"/> implementations at runtime as hidden classes, for config types that
+/// were compiled without the <c>dreamconfig-processor</c> annotation processor.
+/// </summary>
+/// <remarks>
+/// <para>
+/// The generated class lives in the config's own package and reads/writes accessible, non-final fields with
+/// plain <c>getfield</c>/<c>putfield</c>; everything else goes through the field's
+/// <see cref="com.dreamfirestudios.dreamconfig.Internal.Reflection.FieldAccessor"/>. Value conversion is
+/// delegated to <see cref="CodegenSupport"/> so behaviour matches the reflection path exactly.
+/// </para>
+/// <para>
+/// <c>Lookup.defineHiddenClass</c> needs a full-privilege lookup in the config's package, which DreamConfig
+/// cannot obtain across plugin class loaders. The owning plugin hands one in with <see cref="register"/>
+/// (<c>DreamConfigAPI.registerCodegenLookup(MethodHandles.lookup())</c>); packages without one use reflection.
+/// Nothing is defined in the plugin's packages besides the hidden codecs themselves.
+/// </para>
+/// <para>
+/// Codegen is off by default. Enable it with <c>codegen.enabled</c> in <c>config.yml</c>,
+/// <c>-Ddreamconfig.codegen=true</c> or <see cref="setEnabled(boolean)"/>; any generation failure is logged once
+/// and the type falls back to reflection. Codecs and lookups are held in <see cref="ClassValue"/>s of the config
+/// and host classes, so they never keep a plugin class loader alive.
+/// </para>
+/// </remarks>
+public final class HiddenCodecFactory {
+    private static final String CODEC_INTERFACE = GeneratedCodec.class.getName().replace('.', '/');
+    private static final String SUPPORT = CodegenSupport.class.getName().replace('.', '/');
+    private static final String PLANNED_FIELD = PlannedField.class.getName().replace('.', '/');
+    private static final String PLAN_ARRAY = "[L" + PLANNED_FIELD + ";";
+
+    private static volatile boolean enabled = Boolean.getBoolean("dreamconfig.codegen");
+
+    private static final ClassValue<Optional<GeneratedCodec<?>>> CODECS = new ClassValue<>() {
+        @Override protected Optional<GeneratedCodec<?>> computeValue(Class<?> type) { return Optional.ofNullable(generate(type)); }
+    };
+
+    /// <summary>Registered lookup, stored on its own lookup class.</summary>
+    private static final ClassValue<AtomicReference<MethodHandles.Lookup>> LOOKUPS = new ClassValue<>() {
+        @Override protected AtomicReference<MethodHandles.Lookup> computeValue(Class<?> type) { return new AtomicReference<>(); }
+    };
+
+    /// <summary>Lookup classes registered per package name; weak so plugin class loaders can unload.</summary>
+    private static final Map<String, List<WeakReference<Class<?>>>> HOSTS = new HashMap<>();
+
+    private HiddenCodecFactory() {}
+
+    /// <summary>Whether runtime codegen is used.</summary>
+    public static boolean isEnabled() { return enabled; }
+
+    /// <summary>Turn runtime codegen on or off; already generated codecs are kept but unused while off.</summary>
+    /// <param name="value"><c>false</c> forces the reflection path.</param>
+    public static void setEnabled(boolean value) { enabled = value; }
+
+    /// <summary>
+    /// Allow codecs to be generated for config classes in the package of <paramref name="lookup"/>'s class.
+    /// </summary>
+    /// <param name="lookup">A full-privilege lookup, i.e. <c>MethodHandles.lookup()</c> called in that package.</param>
+    /// <remarks>
+    /// Register before the package's configs are first loaded or saved: a class seen earlier keeps using
+    /// reflection.
+    /// </remarks>
+    /// <exception cref="IllegalArgumentException">If the lookup does not have full privilege access.</exception>
+    public static void register(MethodHandles.Lookup lookup) {
+        if (!lookup.hasFullPrivilegeAccess())
+            throw new IllegalArgumentException("Codegen needs a full-privilege lookup, got " + lookup);
+        var host = lookup.lookupClass();
+        LOOKUPS.get(host).set(lookup);
+        synchronized (HOSTS) {
+            var hosts = HOSTS.computeIfAbsent(host.getPackageName(), k -> new ArrayList<>());
+            hosts.removeIf(ref -> ref.get() == null || ref.get() == host);
+            hosts.add(new WeakReference<>(host));
+        }
+    }
+
+    /// <summary>
+    /// Return the runtime codec for <paramref name="type"/>, or <c>null</c> if codegen is off or unavailable.
+    /// </summary>
+    /// <param name="type">Concrete config or pulse class.</param>
+    @SuppressWarnings("unchecked")
+    public static <T> GeneratedCodec<T> find(Class<T> type) {
+        if (!enabled) return null;
+        return (GeneratedCodec<T>) CODECS.get(type).orElse(null);
+    }
+
+    private static GeneratedCodec<?> generate(Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.isInterface() || type.isHidden()
+                || type.getClassLoader() == null) return null;
+        var lookup = packageLookup(type);
+        if (lookup == null) return null;
+        try {
+            var plan = FieldPlan.of(type);
+            var bytes = emit(type, plan.fields().toArray(new PlannedField[0]));
+            var hidden = lookup.defineHiddenClass(bytes, true);
+            var ctor = hidden.findConstructor(hidden.lookupClass(), MethodType.methodType(void.class, PlannedField[].class));
+            return (GeneratedCodec<?>) ctor.invoke(plan.fields().toArray(new PlannedField[0]));
+        } catch (Throwable t) {
+            ConfigLog.warn("[DreamConfig] Runtime codegen unavailable for " + type.getName() + ", using reflection: " + t);
+            return null;
+        }
+    }
+
+    /// <summary>A registered lookup from the same package and class loader as <paramref name="type"/>.</summary>
+    private static MethodHandles.Lookup packageLookup(Class<?> type) {
+        synchronized (HOSTS) {
+            var hosts = HOSTS.get(type.getPackageName());
+            if (hosts == null) return null;
+            hosts.removeIf(ref -> ref.get() == null);
+            for (var ref : hosts) {
+                var host = ref.get();
+                if (host != null && host.getClassLoader() == type.getClassLoader()) return LOOKUPS.get(host).get();
+            }
+            return null;
+        }
+    }
+
+    /* --------------------------- codec class --------------------------- */
+
+    private static byte[] emit(Class<?> type, PlannedField[] fields) {
+        var pkg = type.getPackageName();
+        var name = (pkg.isEmpty() ? "" : pkg.replace('.', '/') + "/") + type.getSimpleName() + "$$DreamCodec";
+        var cw = new ClassFileWriter();
+        int planRef = cw.fieldRef(name, "plan", PLAN_ARRAY);
+        cw.field(ACC_PRIVATE | ACC_FINAL, "plan", PLAN_ARRAY);
+
+        cw.method(ACC_PUBLIC, "<init>", "(" + PLAN_ARRAY + ")V", 2, 2, new Code()
+                .op(ALOAD_0).op(INVOKESPECIAL, cw.methodRef("java/lang/Object", "<init>", "()V"))
+                .op(ALOAD_0).op(ALOAD_1).op(PUTFIELD, planRef)
+                .op(RETURN));
+
+        var write = new Code()
+                .op(NEW, cw.classRef("java/util/LinkedHashMap")).op(DUP)
+                .op(INVOKESPECIAL, cw.methodRef("java/util/LinkedHashMap", "<init>", "()V"))
+                .op(ASTORE_2);
+        var read = new Code();
+        for (int i = 0; i < fields.length; i++) {
+            var f = fields[i].field();
+            var owner = internalName(f.getDeclaringClass());
+            int ref = cw.fieldRef(owner, f.getName(), f.getType().descriptorString());
+
+            write.op(ALOAD_2).op(ALOAD_0).op(GETFIELD, planRef).pushInt(i).op(AALOAD).op(ALOAD_1);
+            if (readable(type, f)) {
+                write.op(ALOAD_1).op(CHECKCAST, cw.classRef(owner)).op(GETFIELD, ref);
+                box(cw, write, f.getType());
+                write.op(INVOKESTATIC, cw.methodRef(SUPPORT, "write",
+                        "(Ljava/util/LinkedHashMap;L" + PLANNED_FIELD + ";Ljava/lang/Object;Ljava/lang/Object;)V"));
+            } else {
+                write.op(INVOKESTATIC, cw.methodRef(SUPPORT, "writeIndirect",
+                        "(Ljava/util/LinkedHashMap;L" + PLANNED_FIELD + ";Ljava/lang/Object;)V"));
+            }
+
+            if (writable(type, f)) {
+                read.op(ALOAD_2).op(CHECKCAST, cw.classRef(owner))
+                        .op(ALOAD_0).op(GETFIELD, planRef).pushInt(i).op(AALOAD)
+                        .op(ALOAD_1).op(ALOAD_2)
+                        .op(ALOAD_2).op(CHECKCAST, cw.classRef(owner)).op(GETFIELD, ref);
+                box(cw, read, f.getType());
+                read.op(INVOKESTATIC, cw.methodRef(SUPPORT, "read",
+                        "(L" + PLANNED_FIELD + ";Ljava/util/Map;Ljava/lang/Object;Ljava/lang/Object;)Ljava/lang/Object;"));
+                unbox(cw, read, f.getType());
+                read.op(PUTFIELD, ref);
+            } else {
+                read.op(ALOAD_0).op(GETFIELD, planRef).pushInt(i).op(AALOAD).op(ALOAD_1).op(ALOAD_2)
+                        .op(INVOKESTATIC, cw.methodRef(SUPPORT, "readIndirect",
+                                "(L" + PLANNED_FIELD + ";Ljava/util/Map;Ljava/lang/Object;)V"));
+            }
+        }
+        write.op(ALOAD_2).op(ARETURN);
+        read.op(RETURN);
+
+        cw.method(ACC_PUBLIC, "write", "(Ljava/lang/Object;)Ljava/util/LinkedHashMap;", 8, 3, write);
+        cw.method(ACC_PUBLIC, "read", "(Ljava/util/Map;Ljava/lang/Object;)V", 8, 3, read);
+        return cw.toByteArray(ACC_PUBLIC | ACC_FINAL | ACC_SUPER, name, "java/lang/Object", CODEC_INTERFACE);
+    }
+
+    /* --------------------------- accessibility --------------------------- */
+
+    private static boolean readable(Class<?> host, Field f) {
+        var mods = f.getModifiers();
+        if (Modifier.isPrivate(mods) || Modifier.isProtected(mods)) return false;
+        if (!visible(host, f.getDeclaringClass())) return false;
+        return Modifier.isPublic(mods) || samePackage(host, f.getDeclaringClass());
+    }
+
+    private static boolean writable(Class<?> host, Field f) {
+        return readable(host, f) && !Modifier.isFinal(f.getModifiers()) && visible(host, f.getType());
+    }
+
+    private static boolean visible(Class<?> host, Class<?> type) {
+        while (type.isArray()) type = type.getComponentType();
+        if (type.isPrimitive()) return true;
+        if (type.isHidden()) return false;
+        for (var c = type; c != null; c = c.getEnclosingClass()) {
+            if (!Modifier.isPublic(c.getModifiers()) && !samePackage(host, c)) return false;
+        }
+        return true;
+    }
+
+    private static boolean samePackage(Class<?> a, Class<?> b) {
+        return a.getClassLoader() == b.getClassLoader() && a.getPackageName().equals(b.getPackageName());
+    }
+
+    private static String internalName(Class<?> type) {
+        return type.isArray() ? type.descriptorString() : type.getName().replace('.', '/');
+    }
+
+    /* --------------------------- boxing --------------------------- */
+
+    private static void box(ClassFileWriter cw, Code code, Class<?> type) {
+        if (!type.isPrimitive()) return;
+        var wrapper = wrapper(type);
+        code.op(INVOKESTATIC, cw.methodRef(wrapper, "valueOf", "(" + type.descriptorString() + ")L" + wrapper + ";"));
+    }
+
+    private static void unbox(ClassFileWriter cw, Code code, Class<?> type) {
+        if (!type.isPrimitive()) {
+            code.op(CHECKCAST, cw.classRef(internalName(type)));
+            return;
+        }
+        var wrapper = wrapper(type);
+        code.op(CHECKCAST, cw.classRef(wrapper))
+                .op(INVOKEVIRTUAL, cw.methodRef(wrapper, type.getName() + "Value", "()" + type.descriptorString()));
+    }
+
+    private static String wrapper(Class<?> primitive) {
+        return MethodType.methodType(primitive).wrap().returnType().getName().replace('.', '/');
+    }
+}
@@ -0,0 +1,743 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Internal;
+
+import com.dreamfirestudios.dreamconfig.Enum.ConfigPriority;
+import com.dreamfirestudios.dreamconfig.Internal.Metrics.AdmissionMetrics;
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/// <summary>
+/// Executor for config I/O tasks to avoid blocking the main thread.
+/// </summary>
+/// <remarks>
+/// Tasks are tagged with a <see cref="ConfigPriority"/> and wait in a deadline-ordered queue; only as many
+/// as the carrier can run are handed to it, so an interactive load never sits behind a backlog of saves
+/// in a FIFO. The carrier depends on the mode chosen by <see cref="Settings"/> (the <c>executor</c> section
+/// of DreamConfig's <c>config.yml</c>):
+/// <list type="bullet">
+/// <item><description><see cref="Mode.PLATFORM"/> (default) – up to <see cref="Settings.maxThreads"/> (2) daemon
+/// threads named "DreamConfig-IO", plus one per task parked in <see cref="await"/>, released after 30 s idle.</description></item>
+/// <item><description><see cref="Mode.VIRTUAL"/> – one virtual thread per task, at most
+/// <see cref="Settings.maxConcurrentIo"/> running at once, so a blocked Mongo server or slow disk parks cheap
+/// virtual threads instead of stalling the whole pool.</description></item>
+/// </list>
+/// A task is never run by its submitter. Past <see cref="Settings.queueSize"/> queued tasks, main-thread and
+/// I/O-thread submitters still enqueue at once (counted as overflow), other threads wait up to
+/// <see cref="Settings.admissionWaitMillis"/> for the queue to drain first; see <see cref="AdmissionMetrics"/>.  
+/// Work for one document goes through <see cref="runOrdered"/> / <see cref="supplyOrdered"/>, which keep it in
+/// submission order while different documents proceed in parallel; a batch spanning several documents is
+/// ordered against all of them through <see cref="supplyOrdered(Collection, ConfigPriority, Callable)"/>.
+/// </remarks>
+/// <example>
+/// <code>
+/// ConfigExecutor.init();
+/// ConfigExecutor.runAsync(() -> { /* background work */ });
+/// CompletableFuture&lt;String&gt; f = ConfigExecutor.supplyAsync(ConfigPriority.INTERACTIVE, () -> "result");
+/// </code>
+/// </example>
+public final class ConfigExecutor {
+    private static volatile ExecutorService EXEC;
+    private static volatile Dispatcher DISPATCH;
+    /// <summary>Dispatcher shut down but possibly still running accepted work.</summary>
+    private static volatile Dispatcher DRAINING;
+    private static volatile Mode MODE = Mode.PLATFORM;
+    /// <summary>Serial queue per ordering key, present only while the key has queued or running work.</summary>
+    private static volatile ConcurrentHashMap<String, Lane> LANES;
+    /// <summary>Tasks a lane runs before yielding its thread back to the executor.</summary>
+    private static final int LANE_BATCH = 32;
+    /// <summary>
+    /// Dispatcher whose task the current thread is running, so re-submissions from it never wait and
+    /// <see cref="await"/> can hand its slot back while blocked.
+    /// </summary>
+    private static final ThreadLocal<Dispatcher> CURRENT = new ThreadLocal<>();
+    private ConfigExecutor() {}
+
+    /// <summary>Threading model used for config I/O.</summary>
+    public enum Mode {
+        /// <summary>Bounded pool of platform threads.</summary>
+        PLATFORM,
+        /// <summary>Virtual thread per task, limited to a number of concurrent tasks.</summary>
+        VIRTUAL
+    }
+
+    /// <summary>
+    /// Executor mode and limits, normally read from the <c>executor</c> section of <c>config.yml</c>.
+    /// </summary>
+    /// <example>
+    /// <code>
+    /// executor:
+    ///   mode: virtual
+    ///   max-concurrent-io: 64
+    /// </code>
+    /// </example>
+    public static final class Settings {
+        /// <summary>Defaults matching the historical pool: platform mode, 2 threads, 256-slot queue.</summary>
+        public static final Settings DEFAULTS = new Settings(Mode.PLATFORM, 2, 256, 64, 50);
+
+        private final Mode mode;
+        private final int maxThreads;
+        private final int queueSize;
+        private final int maxConcurrentIo;
+        private final long admissionWaitMillis;
+
+        /// <summary>Create settings; limits below 1 are raised to 1.</summary>
+        /// <param name="mode">Threading model.</param>
+        /// <param name="maxThreads">Platform mode: upper bound on threads.</param>
+        /// <param name="queueSize">Queued tasks before submissions count as overflow.</param>
+        /// <param name="maxConcurrentIo">Virtual mode: tasks allowed to run at once.</param>
+        /// <param name="admissionWaitMillis">How long a non-main thread waits for queue space before overflowing.</param>
+        public Settings(Mode mode, int maxThreads, int queueSize, int maxConcurrentIo, long admissionWaitMillis) {
+            this.mode = mode == null ? Mode.PLATFORM : mode;
+            this.maxThreads = Math.max(1, maxThreads);
+            this.queueSize = Math.max(1, queueSize);
+            this.maxConcurrentIo = Math.max(1, maxConcurrentIo);
+            this.admissionWaitMillis = Math.max(0, admissionWaitMillis);
+        }
+
+        /// <summary>
+        /// Read settings from a config section; missing keys keep <see cref="DEFAULTS"/>, an unknown mode
+        /// is logged and treated as <c>platform</c>.
+        /// </summary>
+        /// <param name="section">The <c>executor</c> section, or null.</param>
+        public static Settings from(ConfigurationSection section) {
+            if (section == null) return DEFAULTS;
+            var d = DEFAULTS;
+            var raw = section.getString("mode", d.mode.name());
+            Mode mode;
+            try { mode = Mode.valueOf(raw.trim().toUpperCase(Locale.ROOT)); }
+            catch (IllegalArgumentException e) {
+                ConfigLog.warn("[DreamConfig] Unknown executor.mode '" + raw + "', using platform.");
+                mode = Mode.PLATFORM;
+            }
+            return new Settings(mode,
+                    section.getInt("max-threads", d.maxThreads),
+                    section.getInt("queue-size", d.queueSize),
+                    section.getInt("max-concurrent-io", d.maxConcurrentIo),
+                    section.getLong("admission-wait-ms", d.admissionWaitMillis));
+        }
+
+        /// <summary>Threading model.</summary>
+        public Mode mode() { return mode; }
+        /// <summary>Platform mode: upper bound on threads.</summary>
+        public int maxThreads() { return maxThreads; }
+        /// <summary>Queued tasks before submissions count as overflow.</summary>
+        public int queueSize() { return queueSize; }
+        /// <summary>Virtual mode: tasks allowed to run at once.</summary>
+        public int maxConcurrentIo() { return maxConcurrentIo; }
+        /// <summary>How long a non-main thread waits for queue space before overflowing.</summary>
+        public long admissionWaitMillis() { return admissionWaitMillis; }
+    }
+
+    /// <summary>Initialize the executor with <see cref="Settings.DEFAULTS"/> if not already initialized.</summary>
+    public static void init() { init(Settings.DEFAULTS); }
+
+    /// <summary>Initialize the executor with the given settings if not already initialized.</summary>
+    /// <param name="settings">Mode and limits.</param>
+    public static synchronized void init(Settings settings) {
+        if (EXEC != null) return;
+        MODE = settings.mode();
+        int slots;
+        if (settings.mode() == Mode.VIRTUAL) {
+            slots = settings.maxConcurrentIo();
+            EXEC = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("DreamConfig-IO-", 0).factory());
+        } else {
+            slots = settings.maxThreads();
+            // The dispatcher caps running tasks at slots; the pool only grows past that while tasks are parked in await.
+            var pool = new ThreadPoolExecutor(slots, Integer.MAX_VALUE, 30L, TimeUnit.SECONDS, new SynchronousQueue<>(), r -> {
+                var t = new Thread(r, "DreamConfig-IO");
+                t.setDaemon(true);
+                return t;
+            });
+            pool.allowCoreThreadTimeOut(true);
+            EXEC = pool;
+        }
+        var dispatch = new Dispatcher(EXEC, slots, settings.queueSize(), settings.admissionWaitMillis());
+        DISPATCH = dispatch;
+        LANES = new ConcurrentHashMap<>();
+    }
+
+    /// <summary>Mode the executor was initialized with.</summary>
+    public static Mode mode() { return MODE; }
+
+    /// <summary>Shut down gracefully: queued tasks still run, new submissions are rejected.</summary>
+    /// <remarks>
+    /// Tasks already accepted may still queue follow-up work (e.g. the next task of their lane) until the
+    /// executor drains; wait for that with <see cref="awaitTermination"/>.
+    /// </remarks>
+    public static synchronized void shutdown() {
+        if (EXEC == null) return;
+        DISPATCH.shutdown();
+        DRAINING = DISPATCH;
+        EXEC = null;
+    }
+
+    /// <summary>
+    /// After <see cref="shutdown"/>, wait until every accepted task, including queued lane work, has finished.
+    /// </summary>
+    /// <param name="timeout">Longest time to wait.</param>
+    /// <param name="unit">Unit of <paramref name="timeout"/>.</param>
+    /// <returns><c>true</c> if the executor drained, <c>false</c> if the timeout elapsed first.</returns>
+    public static boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        var dispatch = DRAINING;
+        if (dispatch == null) return true;
+        if (!dispatch.awaitTermination(timeout, unit)) return false;
+        synchronized (ConfigExecutor.class) {
+            if (DRAINING == dispatch) DRAINING = null;
+            if (DISPATCH == dispatch) {
+                DISPATCH = null;
+                LANES = null;
+            }
+        }
+        return true;
+    }
+
+    /// <summary>
+    /// Submit a runnable to execute asynchronously at <see cref="ConfigPriority.NORMAL"/>.
+    /// </summary>
+    /// <param name="r">Task to run.</param>
+    public static void runAsync(Runnable r) { runAsync(ConfigPriority.NORMAL, r); }
+
+    /// <summary>
+    /// Submit a runnable to execute asynchronously.
+    /// </summary>
+    /// <param name="priority">Scheduling class.</param>
+    /// <param name="r">Task to run.</param>
+    public static void runAsync(ConfigPriority priority, Runnable r) { dispatcher().submit(priority, r); }
+
+    /// <summary>
+    /// Submit a callable returning a value asynchronously at <see cref="ConfigPriority.NORMAL"/>.
+    /// </summary>
+    /// <param name="c">Callable task.</param>
+    /// <typeparam name="T">Return type.</typeparam>
+    /// <returns>CompletableFuture representing the result.</returns>
+    public static <T> CompletableFuture<T> supplyAsync(Callable<T> c) { return supplyAsync(ConfigPriority.NORMAL, c); }
+
+    /// <summary>
+    /// Submit a callable returning a value asynchronously.
+    /// </summary>
+    /// <param name="priority">Scheduling class.</param>
+    /// <param name="c">Callable task.</param>
+    /// <typeparam name="T">Return type.</typeparam>
+    /// <returns>CompletableFuture representing the result.</returns>
+    public static <T> CompletableFuture<T> supplyAsync(ConfigPriority priority, Callable<T> c) {
+        var f = new CompletableFuture<T>();
+        dispatcher().submit(priority, complete(f, c));
+        return f;
+    }
+
+    /// <summary>
+    /// Submit a runnable at <see cref="ConfigPriority.NORMAL"/> that must run in order with every other task
+    /// for the same <paramref name="key"/>.
+    /// </summary>
+    /// <param name="key">Ordering key, normally a document id.</param>
+    /// <param name="r">Task to run.</param>
+    public static void runOrdered(String key, Runnable r) { runOrdered(key, ConfigPriority.NORMAL, r); }
+
+    /// <summary>
+    /// Submit a runnable that must run in order with every other task for the same <paramref name="key"/>.
+    /// </summary>
+    /// <param name="key">Ordering key, normally a document id.</param>
+    /// <param name="priority">Scheduling class.</param>
+    /// <param name="r">Task to run.</param>
+    /// <remarks>
+    /// Each key has its own lane, created on first use and dropped once drained. A lane runs its tasks one at a
+    /// time in submission order; different keys never wait for each other. A task that throws is logged and
+    /// does not stop its lane.  
+    /// Priority decides when a lane gets a thread, not the order inside it: a load queued behind a save of
+    /// the same document still runs after that save, but never behind work for other documents.
+    /// </remarks>
+    public static void runOrdered(String key, ConfigPriority priority, Runnable r) { submitOrdered(key, priority, r); }
+
+    /// <summary>
+    /// Submit a callable at <see cref="ConfigPriority.NORMAL"/> that must run in order with every other task
+    /// for the same <paramref name="key"/>.
+    /// </summary>
+    /// <param name="key">Ordering key, normally a document id.</param>
+    /// <param name="c">Callable task.</param>
+    /// <typeparam name="T">Return type.</typeparam>
+    /// <returns>CompletableFuture representing the result.</returns>
+    public static <T> CompletableFuture<T> supplyOrdered(String key, Callable<T> c) {
+        return supplyOrdered(key, ConfigPriority.NORMAL, c);
+    }
+
+    /// <summary>
+    /// Submit a callable that must run in order with every other task for the same <paramref name="key"/>.
+    /// </summary>
+    /// <param name="key">Ordering key, normally a document id.</param>
+    /// <param name="priority">Scheduling class.</param>
+    /// <param name="c">Callable task.</param>
+    /// <typeparam name="T">Return type.</typeparam>
+    /// <returns>CompletableFuture representing the result.</returns>
+    public static <T> CompletableFuture<T> supplyOrdered(String key, ConfigPriority priority, Callable<T> c) {
+        var f = new CompletableFuture<T>();
+        submitOrdered(key, priority, complete(f, c));
+        return f;
+    }
+
+    /// <summary>
+    /// Submit a callable that must run in order with the tasks of every key in <paramref name="keys"/>, as if it
+    /// were queued on each of their lanes at once.
+    /// </summary>
+    /// <param name="keys">Ordering keys, normally the document ids of a batch.</param>
+    /// <param name="priority">Scheduling class.</param>
+    /// <param name="c">Callable task.</param>
+    /// <typeparam name="T">Return type.</typeparam>
+    /// <returns>CompletableFuture representing the result.</returns>
+    /// <remarks>
+    /// A gate is queued on each lane. A lane that reaches its gate holds there without occupying a thread;
+    /// once every lane has, the task runs once and then releases them all. Work for these keys submitted
+    /// earlier runs before the task, work submitted later after it. Gates of different batches are queued
+    /// under one lock, so two batches sharing keys always meet them in the same order and cannot deadlock;
+    /// the wait for queue space happens before that lock is taken, so a full queue never stalls other batches.
+    /// </remarks>
+    public static <T> CompletableFuture<T> supplyOrdered(Collection<String> keys, ConfigPriority priority, Callable<T> c) {
+        var f = new CompletableFuture<T>();
+        var distinct = new LinkedHashSet<String>();
+        for (var key : keys) distinct.add(key == null ? "" : key);
+        if (distinct.isEmpty()) {
+            dispatcher().submit(priority, complete(f, c));
+            return f;
+        }
+        var dispatch = dispatcher();
+        dispatch.checkOpen();
+        dispatch.admitIfFull();
+        var gate = new Gate(distinct.size(), priority, complete(f, c), dispatch);
+        synchronized (Gate.class) {
+            for (var key : distinct) submitOrdered(key, priority, gate, false);
+        }
+        return f;
+    }
+
+    /// <summary>
+    /// True if <paramref name="key"/> has ordered work queued or running.
+    /// </summary>
+    /// <param name="key">Ordering key, normally a document id.</param>
+    public static boolean hasOrdered(String key) {
+        var lanes = LANES;
+        return lanes != null && lanes.containsKey(key == null ? "" : key);
+    }
+
+    /// <summary>
+    /// Waits for <paramref name="future"/>; called from a config I/O task, the task's slot is handed to
+    /// queued work while it waits.
+    /// </summary>
+    /// <param name="future">Result to wait for.</param>
+    /// <typeparam name="T">Result type.</typeparam>
+    /// <returns>The result.</returns>
+    /// <remarks>
+    /// Lets a bulk task wait for work it queued on a document lane: with every slot held by tasks blocked
+    /// like this, the lanes they wait on could otherwise never run. On other threads this is a plain
+    /// <c>get()</c>.
+    /// </remarks>
+    public static <T> T await(Future<T> future) throws InterruptedException, ExecutionException {
+        var dispatch = CURRENT.get();
+        if (dispatch == null || future.isDone()) return future.get();
+        dispatch.park();
+        try { return future.get(); }
+        finally { dispatch.unpark(); }
+    }
+
+    /// <summary>As <see cref="await"/>, for the bulk helpers waiting on their workers.</summary>
+    private static void await(CountDownLatch latch) throws InterruptedException {
+        var dispatch = CURRENT.get();
+        if (dispatch == null) {
+            latch.await();
+            return;
+        }
+        dispatch.park();
+        try { latch.await(); }
+        finally { dispatch.unpark(); }
+    }
+
+    private static <T> Runnable complete(CompletableFuture<T> f, Callable<T> c) {
+        return () -> {
+            try { f.complete(c.call()); }
+            catch (Throwable t) { f.completeExceptionally(t); }
+        };
+    }
+
+    private static Dispatcher dispatcher() {
+        var d = DISPATCH;
+        if (d == null) throw new RejectedExecutionException("DreamConfig executor is not running");
+        return d;
+    }
+
+    private static void submitOrdered(String key, ConfigPriority priority, Runnable r) {
+        submitOrdered(key, priority, r, true);
+    }
+
+    /// <summary>
+    /// Queue on <paramref name="key"/>'s lane; <paramref name="admit"/> is false when the caller already waited
+    /// for queue space through <see cref="Dispatcher.admitIfFull"/>.
+    /// </summary>
+    private static void submitOrdered(String key, ConfigPriority priority, Runnable r, boolean admit) {
+        var lanes = LANES;
+        var dispatch = DISPATCH;
+        if (lanes == null || dispatch == null) throw new RejectedExecutionException("DreamConfig executor is not running");
+        dispatch.checkOpen();
+        var laneKey = key == null ? "" : key;
+        var start = new boolean[1];
+        var lane = lanes.compute(laneKey, (k, existing) -> {
+            var l = existing != null ? existing : new Lane(k, lanes, dispatch);
+            start[0] = l.add(priority, r);
+            return l;
+        });
+        if (start[0]) lane.schedule(admit);
+    }
+
+    /// <summary>
+    /// Serial queue for one key, drained through the dispatcher. <c>pending</c> counts tasks queued but not
+    /// finished; whoever moves it off zero schedules the drain, so at most one drain per lane runs at a time.
+    /// The drain is queued at the most urgent priority submitted since the lane was last scheduled, and the
+    /// lane removes itself from the map when it runs dry.
+    /// </summary>
+    private static final class Lane implements Runnable {
+        private static final int NONE = Integer.MAX_VALUE;
+        private final ConcurrentLinkedQueue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicInteger urgency = new AtomicInteger(NONE);
+        private final String key;
+        private final ConcurrentHashMap<String, Lane> owner;
+        private final Dispatcher dispatch;
+
+        Lane(String key, ConcurrentHashMap<String, Lane> owner, Dispatcher dispatch) {
+            this.key = key;
+            this.owner = owner;
+            this.dispatch = dispatch;
+        }
+
+        /// <summary>Queue a task (called under the map's lock for <c>key</c>); true if the lane must be scheduled.</summary>
+        boolean add(ConfigPriority priority, Runnable r) {
+            tasks.add(r);
+            urgency.accumulateAndGet(priority.ordinal(), Math::min);
+            return pending.getAndIncrement() == 0;
+        }
+
+        private void schedule() { schedule(true); }
+
+        private void schedule(boolean admit) {
+            int u = urgency.getAndSet(NONE);
+            var priority = u == NONE ? ConfigPriority.NORMAL : ConfigPriority.values()[u];
+            if (admit) dispatch.enqueue(priority, this);
+            else dispatch.enqueueAdmitted(priority, this);
+        }
+
+        @Override
+        public void run() {
+            for (int ran = 1; ; ran++) {
+                var task = tasks.poll();
+                if (task instanceof Gate gate) {
+                    // Held until the gate's task is done; the gate still counts as pending meanwhile.
+                    gate.arrive(this);
+                    return;
+                }
+                try { task.run(); }
+                catch (Throwable t) { ConfigLog.error("[DreamConfig] Ordered task failed", t); }
+                if (finish()) return;
+                if (ran == LANE_BATCH) {
+                    schedule();
+                    return;
+                }
+            }
+        }
+
+        /// <summary>Continue past a gate.</summary>
+        void resume() {
+            if (!finish()) schedule();
+        }
+
+        /// <summary>Count one task done; true (and the lane dropped from the map) if it was the last.</summary>
+        private boolean finish() {
+            if (pending.decrementAndGet() != 0) return false;
+            owner.computeIfPresent(key, (k, l) -> l == this && pending.get() == 0 ? null : l);
+            return true;
+        }
+    }
+
+    /// <summary>
+    /// Multi-key barrier queued by <see cref="supplyOrdered(Collection, ConfigPriority, Callable)"/>: the last
+    /// lane to arrive queues the task, which releases every held lane when it ends.
+    /// </summary>
+    private static final class Gate implements Runnable {
+        private final AtomicInteger missing;
+        private final ConcurrentLinkedQueue<Lane> held = new ConcurrentLinkedQueue<>();
+        private final ConfigPriority priority;
+        private final Runnable task;
+        private final Dispatcher dispatch;
+
+        Gate(int lanes, ConfigPriority priority, Runnable task, Dispatcher dispatch) {
+            this.missing = new AtomicInteger(lanes);
+            this.priority = priority;
+            this.task = task;
+            this.dispatch = dispatch;
+        }
+
+        void arrive(Lane lane) {
+            held.add(lane);
+            if (missing.decrementAndGet() == 0) dispatch.enqueue(priority, this);
+        }
+
+        @Override
+        public void run() {
+            try { task.run(); }
+            finally {
+                for (Lane lane; (lane = held.poll()) != null; ) lane.resume();
+            }
+        }
+    }
+
+    /// <summary>
+    /// Deadline-ordered waiting room in front of the carrier executor, which never holds more than
+    /// <c>slots</c> tasks. Each finished task pulls the next most urgent one.
+    /// </summary>
+    private static final class Dispatcher {
+        private final ExecutorService carrier;
+        private final PriorityBlockingQueue<Queued> queue = new PriorityBlockingQueue<>();
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger parked = new AtomicInteger();
+        private final AtomicLong sequence = new AtomicLong();
+        private final int slots;
+        private final int queueSize;
+        private final long waitNanos;
+        private volatile boolean shutdown;
+
+        Dispatcher(ExecutorService carrier, int slots, int queueSize, long waitMillis) {
+            this.carrier = carrier;
+            this.slots = slots;
+            this.queueSize = queueSize;
+            this.waitNanos = TimeUnit.MILLISECONDS.toNanos(waitMillis);
+        }
+
+        void submit(ConfigPriority priority, Runnable task) {
+            checkOpen();
+            enqueue(priority, task);
+        }
+
+        /// <summary>Reject work after <see cref="shutdown"/>, except follow-up work from tasks already running.</summary>
+        void checkOpen() {
+            if (shutdown && CURRENT.get() != this) throw new RejectedExecutionException("DreamConfig executor is shut down");
+        }
+
+        /// <summary>Queue without the shutdown check; lanes use it to finish work accepted before shutdown.</summary>
+        void enqueue(ConfigPriority priority, Runnable task) {
+            admitIfFull();
+            enqueueAdmitted(priority, task);
+        }
+
+        /// <summary>Queue a task whose submitter already went through <see cref="admitIfFull"/>.</summary>
+        void enqueueAdmitted(ConfigPriority priority, Runnable task) {
+            long now = System.nanoTime();
+            queue.add(new Queued(now + TimeUnit.MILLISECONDS.toNanos(priority.maxDelayMillis()), sequence.getAndIncrement(), task));
+            pump();
+        }
+
+        /// <summary>Apply <see cref="admit"/> if the queue is past its soft bound.</summary>
+        void admitIfFull() {
+            if (queue.size() >= queueSize) admit();
+        }
+
+        /// <summary>Queue is past its soft bound: the main thread and I/O threads overflow, others wait a little.</summary>
+        private void admit() {
+            boolean main = isPrimaryThread();
+            if (!main && CURRENT.get() == null && waitNanos > 0) {
+                long end = System.nanoTime() + waitNanos;
+                while (queue.size() >= queueSize && System.nanoTime() < end) LockSupport.parkNanos(1_000_000L);
+                boolean admitted = queue.size() < queueSize;
+                AdmissionMetrics.recordWait(admitted);
+                if (admitted) return;
+            }
+            AdmissionMetrics.recordOverflow(main);
+        }
+
+        private void pump() {
+            for (;;) {
+                int n = inFlight.get();
+                if (n >= slots || queue.isEmpty()) return;
+                if (!inFlight.compareAndSet(n, n + 1)) continue;
+                var next = queue.poll();
+                if (next == null) {
+                    inFlight.decrementAndGet();
+                    continue;
+                }
+                try { carrier.execute(() -> run(next)); }
+                catch (RejectedExecutionException e) {
+                    inFlight.decrementAndGet();
+                    throw e;
+                }
+            }
+        }
+
+        private void run(Queued queued) {
+            CURRENT.set(this);
+            try { queued.task.run(); }
+            catch (Throwable t) { ConfigLog.error("[DreamConfig] Async task failed", t); }
+            finally {
+                CURRENT.remove();
+                inFlight.decrementAndGet();
+                pump();
+                if (shutdown && idle()) carrier.shutdown();
+            }
+        }
+
+        /// <summary>The calling task blocks: give its slot to the next queued task.</summary>
+        void park() {
+            parked.incrementAndGet();
+            inFlight.decrementAndGet();
+            pump();
+        }
+
+        /// <summary>The calling task resumes; it may briefly run above <c>slots</c> until others finish.</summary>
+        void unpark() {
+            inFlight.incrementAndGet();
+            parked.decrementAndGet();
+        }
+
+        private boolean idle() { return inFlight.get() == 0 && parked.get() == 0 && queue.isEmpty(); }
+
+        void shutdown() {
+            shutdown = true;
+            if (idle()) carrier.shutdown();
+        }
+
+        boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+            return carrier.awaitTermination(timeout, unit);
+        }
+
+        private static boolean isPrimaryThread() {
+            try { return Bukkit.isPrimaryThread(); }
+            catch (RuntimeException e) { return false; }
+        }
+    }
+
+    /// <summary>Queued task; earliest deadline first, ties in submission order.</summary>
+    private static final class Queued implements Comparable<Queued> {
+        private final long deadline;
+        private final long seq;
+        private final Runnable task;
+
+        Queued(long deadline, long seq, Runnable task) {
+            this.deadline = deadline;
+            this.seq = seq;
+            this.task = task;
+        }
+
+        @Override public int compareTo(Queued o) {
+            int c = Long.compare(deadline - o.deadline, 0);
+            return c != 0 ? c : Long.compare(seq, o.seq);
+        }
+    }
+
+    /// <summary>
+    /// Runs <paramref name="task"/> for every item using at most <paramref name="parallelism"/> virtual threads,
+    /// and returns once all items are done.
+    /// </summary>
+    /// <param name="items">Work list; each item is handed to exactly one worker.</param>
+    /// <param name="parallelism">Upper bound on concurrent workers (values below 1 are treated as 1).</param>
+    /// <param name="task">Per-item action. It should handle its own failures; an escaping exception only ends that item.</param>
+    /// <typeparam name="I">Item type.</typeparam>
+    /// <remarks>
+    /// Workers claim the next unclaimed index from a shared cursor instead of taking fixed slices,
+    /// so one slow document does not leave the other workers idle.  
+    /// Runs outside <see cref="EXEC"/>; bulk work never crowds the priority queue. Called from a config I/O task,
+    /// the caller's slot is free for other work until the workers finish.
+    /// </remarks>
+    public static <I> void forEachParallel(List<I> items, int parallelism, Consumer<? super I> task) throws InterruptedException {
+        int workers = Math.min(Math.max(1, parallelism), items.size());
+        if (workers == 0) return;
+        var cursor = new AtomicInteger();
+        var factory = Thread.ofVirtual().name("DreamConfig-Bulk-", 0).factory();
+        var done = new CountDownLatch(workers);
+        for (int w = 0; w < workers; w++) {
+            factory.newThread(() -> {
+                try {
+                    for (int i; (i = cursor.getAndIncrement()) < items.size(); ) {
+                        try { task.accept(items.get(i)); }
+                        catch (Throwable t) { ConfigLog.warn("[DreamConfig] Bulk task failed: " + t); }
+                    }
+                } finally { done.countDown(); }
+            }).start();
+        }
+        await(done);
+    }
+
+    /// <summary>
+    /// Runs <paramref name="task"/> for every item of a lazily produced sequence using at most
+    /// <paramref name="parallelism"/> virtual threads, and returns once the sequence is exhausted and all items are done.
+    /// </summary>
+    /// <param name="items">Work source; workers take the next item under a lock, so it need not be thread-safe.</param>
+    /// <param name="parallelism">Upper bound on concurrent workers (values below 1 are treated as 1).</param>
+    /// <param name="task">Per-item action. It should handle its own failures; an escaping exception only ends that item.</param>
+    /// <typeparam name="I">Item type.</typeparam>
+    /// <remarks>
+    /// Work starts with the first item, before the source (e.g. a directory scan) has been read to the end.
+    /// If the source itself throws, workers stop taking items and the exception is rethrown once running items finish.
+    /// </remarks>
+    public static <I> void forEachParallel(Iterator<? extends I> items, int parallelism, Consumer<? super I> task) throws InterruptedException {
+        int workers = Math.max(1, parallelism);
+        var failure = new AtomicReference<RuntimeException>();
+        // Not synchronized: a directory listing does I/O in hasNext(), which would pin the worker's carrier.
+        var lock = new ReentrantLock();
+        var factory = Thread.ofVirtual().name("DreamConfig-Bulk-", 0).factory();
+        var done = new CountDownLatch(workers);
+        for (int w = 0; w < workers; w++) {
+            factory.newThread(() -> {
+                try {
+                    while (true) {
+                        I item;
+                        lock.lock();
+                        try {
+                            if (failure.get() != null || !items.hasNext()) return;
+                            item = items.next();
+                        } catch (RuntimeException e) {
+                            // DirectoryStream reports listing errors from hasNext() as well as next().
+                            failure.compareAndSet(null, e);
+                            return;
+                        } finally {
+                            lock.unlock();
+                        }
+                        try { task.accept(item); }
+                        catch (Throwable t) { ConfigLog.warn("[DreamConfig] Bulk task failed: " + t); }
+                    }
+                } finally { done.countDown(); }
+            }).start();
+        }
+        await(done);
+        var error = failure.get();
+        if (error != null) throw error;
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Internal.Metrics;
+
+import com.dreamfirestudios.dreamconfig.Internal.ConfigLog;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/// <summary>
+/// Counters for tasks submitted while the <c>ConfigExecutor</c> queue was past <c>executor.queue-size</c>.
+/// </summary>
+/// <remarks>
+/// A full queue never makes the submitting thread run the task. Main-thread submitters overflow
+/// at once; other threads wait up to <c>executor.admission-wait-ms</c> for space first.
+/// These counters show how often that happens. A warning is logged on the 1st, 2nd, 4th, 8th… overflow,
+/// so a save storm is visible without flooding the console.
+/// </remarks>
+/// <example>
+/// <code>
+/// getLogger().info(AdmissionMetrics.describe());
+/// // [DreamConfig] admission: overflowed=12 (main thread 9), waited=40, wait timeouts=3
+/// </code>
+/// </example>
+public final class AdmissionMetrics {
+    private static final LongAdder OVERFLOWED = new LongAdder();
+    private static final LongAdder OVERFLOWED_MAIN = new LongAdder();
+    private static final LongAdder WAITED = new LongAdder();
+    private static final LongAdder WAIT_TIMEOUTS = new LongAdder();
+
+    private AdmissionMetrics() {}
+
+    /// <summary>Record a task moved to the overflow queue.</summary>
+    /// <param name="mainThread">True if it was submitted from the server main thread.</param>
+    public static void recordOverflow(boolean mainThread) {
+        OVERFLOWED.increment();
+        if (mainThread) OVERFLOWED_MAIN.increment();
+        long n = OVERFLOWED.sum();
+        if (Long.bitCount(n) == 1) ConfigLog.warn(describe() + " (I/O queue full)");
+    }
+
+    /// <summary>Record a non-main submitter that waited for queue space.</summary>
+    /// <param name="admitted">False if the wait timed out and the task overflowed.</param>
+    public static void recordWait(boolean admitted) {
+        WAITED.increment();
+        if (!admitted) WAIT_TIMEOUTS.increment();
+    }
+
+    /// <summary>Total tasks sent to the overflow queue.</summary>
+    public static long overflowed() { return OVERFLOWED.sum(); }
+
+    /// <summary>Tasks sent to the overflow queue from the server main thread.</summary>
+    public static long overflowedFromMainThread() { return OVERFLOWED_MAIN.sum(); }
+
+    /// <summary>Non-main submissions that had to wait for queue space.</summary>
+    public static long waited() { return WAITED.sum(); }
+
+    /// <summary>Waits that timed out and overflowed.</summary>
+    public static long waitTimeouts() { return WAIT_TIMEOUTS.sum(); }
+
+    /// <summary>One-line summary for logs.</summary>
+    public static String describe() {
+        return "[DreamConfig] admission: overflowed=" + overflowed() + " (main thread " + overflowedFromMainThread()
+                + "), waited=" + waited() + ", wait timeouts=" + waitTimeouts();
+    }
+}
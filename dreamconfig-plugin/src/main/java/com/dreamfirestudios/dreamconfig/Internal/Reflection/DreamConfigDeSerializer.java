@@ -23,12 +23,10 @@
  */
 package com.dreamfirestudios.dreamconfig.Internal.Reflection;
 
-import com.dreamfirestudios.dreamconfig.Enum.StorageType;
 import com.dreamfirestudios.dreamconfig.Model.Interfaces.*;
 import com.dreamfirestudios.dreamconfig.Object.DreamConfigObject;
-import com.dreamfirestudios.dreamconfig.Saveable.*;
-import com.dreamfirestudios.dreamconfig.Model.Serialization.CustomSerialize;
-import com.dreamfirestudios.dreamcore.DreamVariable.DreamVariableTestAPI;
+import com.dreamfirestudios.dreamconfig.Model.Serialization.Codec;
+import com.dreamfirestudios.dreamconfig.Model.Serialization.CodecRegistry;
 
 import java.util.*;
 
@@ -56,21 +54,26 @@ public final class DreamConfigDeSerializer {
     }
 
     /// <summary>
-    /// Reads a map into an object instance using reflection.
+    /// Reads a map into an object instance using its build-time <see cref="GeneratedCodec"/> when present,
+    /// otherwise the cached <see cref="FieldPlan"/> of <paramref name="type"/>.
     /// </summary>
     /// <param name="data">Map of field values.</param>
     /// <param name="type">Target class type.</param>
     /// <param name="target">Instance to populate.</param>
     /// <returns>The updated target object.</returns>
+    @SuppressWarnings("unchecked")
     public static Object readObject(Map<Object,Object> data, Class<?> type, Object target) throws Exception {
-        var fields = SerializerHelpers.reflectAllFields(type, target);
-        for (var f : fields.keySet()) {
-            var name = SerializerHelpers.resolveSaveName(f);
-            if (!data.containsKey(name)) continue;
-            var raw = data.get(name);
-            var current = fields.get(f);
+        var generated = (GeneratedCodec<Object>) GeneratedCodecs.find(type);
+        if (generated != null) {
+            generated.read(data, target);
+            return target;
+        }
+        for (var pf : FieldPlan.of(type).fields()) {
+            var current = pf.resolve(target);
+            if (current == null || !data.containsKey(pf.saveName())) continue;
+            var raw = data.get(pf.saveName());
             var des = readValue(current.getClass(), current, raw);
-            try { f.set(target, des); } catch (Exception ignored) { f.set(target, current); }
+            pf.assign(target, des);
         }
         return target;
     }
@@ -82,44 +85,8 @@ public final class DreamConfigDeSerializer {
     /// <param name="currentValue">Current field value.</param>
     /// <param name="raw">Raw deserialized data.</param>
     /// <returns>Deserialized value.</returns>
+    /// <remarks>Delegates to the cached <see cref="Codec"/> for <paramref name="classType"/> (see <see cref="CodecRegistry"/>).</remarks>
     public static Object readValue(Class<?> classType, Object currentValue, Object raw) throws Exception {
-        if (currentValue == null || raw == null) return null;
-        var primitive = DreamVariableTestAPI.returnTestFromType(classType);
-
-        if (classType.isAnnotationPresent(CustomSerialize.class)) {
-            var ann = classType.getAnnotation(CustomSerialize.class);
-            var strategy = ann.deserializationStrategy().getDeclaredConstructor().newInstance();
-            return strategy.deserialize(raw);
-        }
-        if (IPulseClass.class.isAssignableFrom(classType)) {
-            var pulse = (IPulseClass) currentValue;
-            pulse.BeforeLoadConfig();
-            var res = readObject((Map<Object,Object>) raw, pulse.getClass(), pulse);
-            pulse.AfterLoadConfig();
-            return res;
-        } else if (SaveableHashmap.class.isAssignableFrom(classType)) {
-            var map = (SaveableHashmap<?,?>) currentValue;
-            map.deSerializeData(StorageType.CONFIG,(Map<Object,Object>) raw);
-            return map;
-        } else if (SaveableLinkedHashMap.class.isAssignableFrom(classType)) {
-            var map = (SaveableLinkedHashMap<?,?>) currentValue;
-            map.deSerializeData(StorageType.CONFIG,(Map<Object,Object>) raw);
-            return map;
-        } else if (SaveableArrayList.class.isAssignableFrom(classType)) {
-            var list = (SaveableArrayList<?>) currentValue;
-            list.deSerializeData(StorageType.CONFIG,(List<Object>) raw);
-            return list;
-        } else if (ICustomVariable.class.isAssignableFrom(classType)) {
-            var cv = (ICustomVariable) classType.getConstructor().newInstance();
-            cv.BeforeLoad();
-            cv.DeSerializeData((LinkedHashMap<Object,Object>) raw);
-            cv.AfterLoad();
-            return cv;
-        } else if (Date.class.isAssignableFrom(classType)) {
-            return SerializerHelpers.SIMPLE_DATE_FORMAT.parse(raw.toString());
-        } else if (primitive != null) {
-            return primitive.DeSerializeData(raw);
-        }
-        return raw;
+        return CodecRegistry.read(classType, currentValue, raw);
     }
 }
\ No newline at end of file
@@ -28,6 +28,9 @@ import com.dreamfirestudios.dreamconfig.Model.Interfaces.DreamConfigHeader;
 import com.dreamfirestudios.dreamconfig.Model.Interfaces.IDreamConfig;
 import com.dreamfirestudios.dreamconfig.Model.Interfaces.IPulseClass;
 import com.dreamfirestudios.dreamconfig.Model.Interfaces.StorageComment;
+import com.dreamfirestudios.dreamconfig.Model.Serialization.Codec;
+import com.dreamfirestudios.dreamconfig.Model.Serialization.CodecRegistry;
+import com.dreamfirestudios.dreamconfig.Model.Serialization.DateTimeCodecs;
 import com.dreamfirestudios.dreamconfig.Model.Serialization.CustomSerialize;
 import com.dreamfirestudios.dreamconfig.Object.DreamConfigObject;
 import com.dreamfirestudios.dreamconfig.Saveable.ICustomVariable;
@@ -50,7 +53,7 @@ import java.util.LinkedHashMap;
 /// - Saveable collections (<see cref="SaveableHashmap"/>, <see cref="SaveableLinkedHashMap"/>, <see cref="SaveableArrayList"/>),
 /// - Bukkit <see cref="ConfigurationSerializable"/> objects,
 /// - Nested Pulse objects (<see cref="IPulseClass"/>),
-/// - <see cref="Date"/> (formatted via <see cref="SerializerHelpers#SIMPLE_DATE_FORMAT"/>).
+/// - <see cref="Date"/> (formatted via <see cref="DateTimeCodecs"/>).
 /// Invokes lifecycle hooks like <c>BeforeSaveConfig</c>/<c>AfterSaveConfig</c> and <c>BeforeSave</c>/<c>AfterSave</c>.
 /// </remarks>
 /// <example>
@@ -94,7 +97,8 @@ public final class DreamConfigSerializer {
     /// <param name="instance">Object instance to serialize.</param>
     /// <returns>Map of field names to serialized values.</returns>
     /// <remarks>
-    /// Field names are resolved via <see cref="SerializerHelpers#resolveSaveName(java.lang.reflect.Field)"/>.
+    /// Uses the build-time <see cref="GeneratedCodec"/> for <paramref name="type"/> when one exists; otherwise
+    /// fields, save names and <see cref="StorageComment"/> text come from the cached <see cref="FieldPlan"/>.
     /// <see cref="StorageComment"/> annotations produce banner comment lines in the map.
     /// </remarks>
     /// <example>
@@ -102,15 +106,18 @@ public final class DreamConfigSerializer {
     /// var map = DreamConfigSerializer.writeObject(myClass, myInstance);
     /// </code>
     /// </example>
+    @SuppressWarnings("unchecked")
     public static LinkedHashMap<String, Object> writeObject(Class<?> type, Object instance) throws Exception {
-        final var out = new LinkedHashMap<String, Object>();
-        final var fields = SerializerHelpers.reflectAllFields(type, instance);
-        for (var f : fields.keySet()) {
-            final var comment = f.getAnnotation(StorageComment.class);
-            if (comment != null && !comment.value().isBlank())
-                out.put("# +------------------" + comment.value(), "------------------+ #");
-            final var name = SerializerHelpers.resolveSaveName(f);
-            out.put(name, writeValue(fields.get(f)));
+        final var generated = (GeneratedCodec<Object>) GeneratedCodecs.find(type);
+        if (generated != null) return generated.write(instance);
+        final var plan = FieldPlan.of(type).fields();
+        final var out = new LinkedHashMap<String, Object>(plan.size() * 2);
+        for (var pf : plan) {
+            final var value = pf.resolve(instance);
+            if (value == null) continue;
+            if (pf.comment() != null)
+                out.put("# +------------------" + pf.comment(), "------------------+ #");
+            out.put(pf.saveName(), writeValue(value));
         }
         return out;
     }
@@ -121,15 +128,9 @@ public final class DreamConfigSerializer {
     /// <param name="value">Value to serialize (may be null).</param>
     /// <returns>Serialized representation or <c>null</c> for null input.</returns>
     /// <remarks>
-    /// Order of handling:
-    /// 1) <see cref="CustomSerialize"/> strategy on the value's concrete type,
-    /// 2) <see cref="IPulseClass"/> nested objects with lifecycle hooks,
-    /// 3) Saveable collections,
-    /// 4) <see cref="ICustomVariable"/> with lifecycle hooks,
-    /// 5) Bukkit <see cref="ConfigurationSerializable"/>,
-    /// 6) <see cref="Date"/> via <see cref="SerializerHelpers#SIMPLE_DATE_FORMAT"/>,
-    /// 7) Primitive adapters via <see cref="DreamVariableTestAPI#returnTestFromType(Class)"/>,
-    /// 8) Fallback: return the value as-is (Strings/Numbers/Booleans/Maps/Lists are already serializable).
+    /// Delegates to the cached <see cref="Codec"/> for the value's concrete class; see <see cref="CodecRegistry"/>
+    /// for the resolution order (<see cref="CustomSerialize"/>, <see cref="IPulseClass"/>, Saveables,
+    /// <see cref="ICustomVariable"/>, <see cref="ConfigurationSerializable"/>, <see cref="Date"/>, primitives).
     /// </remarks>
     /// <example>
     /// <code>
@@ -137,52 +138,6 @@ public final class DreamConfigSerializer {
     /// </code>
     /// </example>
     public static Object writeValue(Object value) throws Exception {
-        if (value == null) return null;
-        final var type = value.getClass();
-        final var primitive = DreamVariableTestAPI.returnTestFromType(type);
-
-        if (type.isAnnotationPresent(CustomSerialize.class)) {
-            final var ann = type.getAnnotation(CustomSerialize.class);
-            final var strategy = ann.serializationStrategy().getDeclaredConstructor().newInstance();
-            return strategy.serialize(value);
-        }
-
-        if (value instanceof IPulseClass pc) {
-            pc.BeforeSaveConfig();
-            final var data = writeObject(pc.getClass(), pc);
-            pc.AfterSaveConfig();
-            return data;
-        }
-
-        if (value instanceof SaveableHashmap<?, ?> m) {
-            return m.serialize(v -> { try { return writeValue(v); } catch (Exception e) { throw new RuntimeException(e); } });
-        }
-        if (value instanceof SaveableLinkedHashMap<?, ?> lm) {
-            return lm.serialize(v -> { try { return writeValue(v); } catch (Exception e) { throw new RuntimeException(e); } });
-        }
-        if (value instanceof SaveableArrayList<?> al) {
-            return al.serialize(v -> { try { return writeValue(v); } catch (Exception e) { throw new RuntimeException(e); } });
-        }
-
-        if (value instanceof ICustomVariable cv) {
-            cv.BeforeSave();
-            final var data = cv.SerializeData();
-            cv.AfterSave();
-            return data;
-        }
-
-        if (value instanceof ConfigurationSerializable serializable) {
-            return serializable.serialize();
-        }
-
-        if (value instanceof Date d) {
-            return SerializerHelpers.SIMPLE_DATE_FORMAT.format(d);
-        }
-
-        if (primitive != null) {
-            return primitive.SerializeData(value);
-        }
-
-        return value;
+        return CodecRegistry.write(value);
     }
 }
\ No newline at end of file
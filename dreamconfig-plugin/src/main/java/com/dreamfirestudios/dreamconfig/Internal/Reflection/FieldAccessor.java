@@ -0,0 +1,301 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Internal.Reflection;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.math.BigInteger;
+
+/// <summary>
+/// Pre-bound getter/setter pair for a single persisted field, backed by <see cref="MethodHandle"/>s.
+/// </summary>
+/// <remarks>
+/// Handles are unreflected once per field (see <see cref="FieldPlan"/>) and invoked with <c>invokeExact</c>
+/// against shapes fixed at build time, which the JIT can inline, unlike <see cref="Field#get(Object)"/>/<see cref="Field#set(Object, Object)"/>
+/// that re-check access and box on every call.
+/// <para/>
+/// <c>int</c>, <c>long</c>, <c>double</c> and <c>boolean</c> fields get specialized accessors exposing unboxed
+/// <c>getInt</c>/<c>setInt</c>-style methods; the generic <see cref="get(Object)"/>/<see cref="set(Object, Object)"/>
+/// remain available for the map-based serializers. Other primitive types use the reference shape with boxing.
+/// <para/>
+/// Primitive setters accept any stored number that fits the field (see <see cref="coerce"/>): YAML and
+/// <c>.dcb</c> decode integers as <c>Integer</c>/<c>Long</c> and decimals as <c>Double</c>, whatever the declared
+/// type. Values that do not fit surface as <see cref="IllegalArgumentException"/>; the deserializers check with
+/// <see cref="convert"/> first and keep the current value instead.
+/// </remarks>
+/// <example>
+/// <code>
+/// FieldAccessor acc = FieldAccessor.of(field);
+/// Object v = acc.get(cfg);
+/// if (acc instanceof FieldAccessor.IntAccessor ints) ints.setInt(cfg, 42);
+/// </code>
+/// </example>
+public abstract sealed class FieldAccessor
+        permits FieldAccessor.ReferenceAccessor, FieldAccessor.IntAccessor, FieldAccessor.LongAccessor,
+                FieldAccessor.DoubleAccessor, FieldAccessor.BooleanAccessor {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private FieldAccessor() {}
+
+    /// <summary>
+    /// Build an accessor for <paramref name="field"/>.
+    /// </summary>
+    /// <param name="field">Non-static field; made accessible if needed.</param>
+    /// <returns>Specialized accessor for the field's type.</returns>
+    /// <exception cref="IllegalStateException">If the field cannot be unreflected.</exception>
+    public static FieldAccessor of(Field field) {
+        try {
+            field.setAccessible(true);
+            var getter = LOOKUP.unreflectGetter(field);
+            var setter = LOOKUP.unreflectSetter(field);
+            var type = field.getType();
+            if (type == int.class) return new IntAccessor(getter, setter);
+            if (type == long.class) return new LongAccessor(getter, setter);
+            if (type == double.class) return new DoubleAccessor(getter, setter);
+            if (type == boolean.class) return new BooleanAccessor(getter, setter);
+            return new ReferenceAccessor(getter, setter, type);
+        } catch (IllegalAccessException | RuntimeException e) {
+            throw new IllegalStateException("Cannot build accessor for " + field, e);
+        }
+    }
+
+    /// <summary>Read the field (boxed for primitives).</summary>
+    public abstract Object get(Object instance);
+
+    /// <summary>Write the field (unboxed for primitives).</summary>
+    public abstract void set(Object instance, Object value);
+
+    /// <summary>True when the field is primitive (never <c>null</c>).</summary>
+    public abstract boolean isPrimitive();
+
+    /// <summary>
+    /// Convert a stored value to the exact wrapper of <paramref name="primitive"/>, or <c>null</c> if it does not fit.
+    /// </summary>
+    /// <param name="primitive">Primitive field type.</param>
+    /// <param name="v">Decoded value.</param>
+    /// <remarks>
+    /// Integral targets take any integral number (and <c>Character</c>) whose value is in range; <c>float</c> and
+    /// <c>double</c> take any number; <c>char</c> takes a <c>Character</c> or a one-character string;
+    /// <c>boolean</c> only a <c>Boolean</c>. Fractional values never land in integral fields.
+    /// </remarks>
+    public static Object coerce(Class<?> primitive, Object v) {
+        if (primitive == boolean.class) return v instanceof Boolean ? v : null;
+        if (primitive == char.class) {
+            if (v instanceof Character) return v;
+            return v instanceof String s && s.length() == 1 ? s.charAt(0) : null;
+        }
+        if (v instanceof Character c) v = (int) c;
+        if (!(v instanceof Number n)) return null;
+        if (primitive == double.class) return n.doubleValue();
+        if (primitive == float.class) return n.floatValue();
+        long l;
+        if (v instanceof Long || v instanceof Integer || v instanceof Short || v instanceof Byte) l = n.longValue();
+        else if (v instanceof BigInteger big && big.bitLength() < 64) l = big.longValue();
+        else return null;
+        if (primitive == long.class) return l;
+        if (primitive == int.class) return l == (int) l ? (Object) (int) l : null;
+        if (primitive == short.class) return l == (short) l ? (Object) (short) l : null;
+        if (primitive == byte.class) return l == (byte) l ? (Object) (byte) l : null;
+        return null;
+    }
+
+    /// <summary>
+    /// The value to store in a field of <paramref name="type"/>: <paramref name="value"/> itself or its
+    /// <see cref="coerce"/>d form, else <paramref name="fallback"/>.
+    /// </summary>
+    /// <remarks>
+    /// Wrapper types (<c>Long</c>, <c>Float</c>, ...) follow the same rules as their primitive and also take
+    /// <c>null</c>. The result is always assignable to <paramref name="type"/> when <paramref name="fallback"/> is.
+    /// </remarks>
+    public static Object convert(Class<?> type, Object value, Object fallback) {
+        if (type.isPrimitive()) {
+            var coerced = coerce(type, value);
+            return coerced != null ? coerced : fallback;
+        }
+        if (value == null || type.isInstance(value)) return value;
+        var primitive = MethodType.methodType(type).unwrap().returnType();
+        if (primitive.isPrimitive()) {
+            var coerced = coerce(primitive, value);
+            if (coerced != null) return coerced;
+        }
+        return fallback;
+    }
+
+    private static Object coerced(Class<?> primitive, Object v) {
+        var coerced = coerce(primitive, v);
+        if (coerced == null) throw mismatch(v, primitive);
+        return coerced;
+    }
+
+    private static IllegalArgumentException mismatch(Object v, Class<?> target) {
+        return new IllegalArgumentException("Cannot assign " + (v == null ? "null" : v.getClass().getName()) + " to " + target);
+    }
+
+    /// <summary>Rethrow unchecked failures as-is and wrap anything else.</summary>
+    private static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException re) return re;
+        if (t instanceof Error err) throw err;
+        return new IllegalStateException(t);
+    }
+
+    /// <summary>Accessor for reference-typed (and non-specialized primitive) fields.</summary>
+    public static final class ReferenceAccessor extends FieldAccessor {
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final Class<?> primitive;
+
+        private ReferenceAccessor(MethodHandle getter, MethodHandle setter, Class<?> type) {
+            this.getter = getter.asType(MethodType.methodType(Object.class, Object.class));
+            this.setter = setter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+            this.primitive = type.isPrimitive() ? type : null;
+        }
+
+        @Override public boolean isPrimitive() { return primitive != null; }
+
+        @Override public Object get(Object instance) {
+            try { return (Object) getter.invokeExact(instance); }
+            catch (Throwable t) { throw rethrow(t); }
+        }
+
+        @Override public void set(Object instance, Object value) {
+            if (primitive != null) value = coerced(primitive, value);
+            try { setter.invokeExact(instance, value); }
+            catch (Throwable t) { throw rethrow(t); }
+        }
+    }
+
+    /// <summary>Accessor for <c>int</c> fields.</summary>
+    public static final class IntAccessor extends FieldAccessor {
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        private IntAccessor(MethodHandle getter, MethodHandle setter) {
+            this.getter = getter.asType(MethodType.methodType(int.class, Object.class));
+            this.setter = setter.asType(MethodType.methodType(void.class, Object.class, int.class));
+        }
+
+        /// <summary>Read without boxing.</summary>
+        public int getInt(Object instance) {
+            try { return (int) getter.invokeExact(instance); }
+            catch (Throwable t) { throw rethrow(t); }
+        }
+
+        /// <summary>Write without boxing.</summary>
+        public void setInt(Object instance, int value) {
+            try { setter.invokeExact(instance, value); }
+            catch (Throwable t) { throw rethrow(t); }
+        }
+
+        @Override public Object get(Object instance) { return getInt(instance); }
+        @Override public boolean isPrimitive() { return true; }
+        @Override public void set(Object instance, Object value) { setInt(instance, (int) coerced(int.class, value)); }
+    }
+
+    /// <summary>Accessor for <c>long</c> fields.</summary>
+    public static final class LongAccessor extends FieldAccessor {
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        private LongAccessor(MethodHandle getter, MethodHandle setter) {
+            this.getter = getter.asType(MethodType.methodType(long.class, Object.class));
+            this.setter = setter.asType(MethodType.methodType(void.class, Object.class, long.class));
+        }
+
+        /// <summary>Read without boxing.</summary>
+        public long getLong(Object instance) {
+            try { return (long) getter.invokeExact(instance); }
+            catch (Throwable t) { throw rethrow(t); }
+        }
+
+        /// <summary>Write without boxing.</summary>
+        public void setLong(Object instance, long value) {
+            try { setter.invokeExact(instance, value); }
+            catch (Throwable t) { throw rethrow(t); }
+        }
+
+        @Override public Object get(Object instance) { return getLong(instance); }
+        @Override public boolean isPrimitive() { return true; }
+        @Override public void set(Object instance, Object value) { setLong(instance, (long) coerced(long.class, value)); }
+    }
+
+    /// <summary>Accessor for <c>double</c> fields.</summary>
+    public static final class DoubleAccessor extends FieldAccessor {
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        private DoubleAccessor(MethodHandle getter, MethodHandle setter) {
+            this.getter = getter.asType(MethodType.methodType(double.class, Object.class));
+            this.setter = setter.asType(MethodType.methodType(void.class, Object.class, double.class));
+        }
+
+        /// <summary>Read without boxing.</summary>
+        public double getDouble(Object instance) {
+            try { return (double) getter.invokeExact(instance); }
+            catch (Throwable t) { throw rethrow(t); }
+        }
+
+        /// <summary>Write without boxing.</summary>
+        public void setDouble(Object instance, double value) {
+            try { setter.invokeExact(instance, value); }
+            catch (Throwable t) { throw rethrow(t); }
+        }
+
+        @Override public Object get(Object instance) { return getDouble(instance); }
+        @Override public boolean isPrimitive() { return true; }
+        @Override public void set(Object instance, Object value) { setDouble(instance, (double) coerced(double.class, value)); }
+    }
+
+    /// <summary>Accessor for <c>boolean</c> fields.</summary>
+    public static final class BooleanAccessor extends FieldAccessor {
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        private BooleanAccessor(MethodHandle getter, MethodHandle setter) {
+            this.getter = getter.asType(MethodType.methodType(boolean.class, Object.class));
+            this.setter = setter.asType(MethodType.methodType(void.class, Object.class, boolean.class));
+        }
+
+        /// <summary>Read without boxing.</summary>
+        public boolean getBoolean(Object instance) {
+            try { return (boolean) getter.invokeExact(instance); }
+            catch (Throwable t) { throw rethrow(t); }
+        }
+
+        /// <summary>Write without boxing.</summary>
+        public void setBoolean(Object instance, boolean value) {
+            try { setter.invokeExact(instance, value); }
+            catch (Throwable t) { throw rethrow(t); }
+        }
+
+        @Override public Object get(Object instance) { return getBoolean(instance); }
+        @Override public boolean isPrimitive() { return true; }
+        @Override public void set(Object instance, Object value) {
+            if (!(value instanceof Boolean b)) throw mismatch(value, boolean.class);
+            setBoolean(instance, b);
+        }
+    }
+}
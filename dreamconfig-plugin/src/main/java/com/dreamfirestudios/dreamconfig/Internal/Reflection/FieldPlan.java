@@ -0,0 +1,213 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Internal.Reflection;
+
+import com.dreamfirestudios.dreamconfig.Model.Interfaces.DontDefault;
+import com.dreamfirestudios.dreamconfig.Model.Interfaces.DontSave;
+import com.dreamfirestudios.dreamconfig.Model.Interfaces.SaveName;
+import com.dreamfirestudios.dreamconfig.Model.Interfaces.StorageComment;
+import com.dreamfirestudios.dreamconfig.Model.StaticEnumPulseConfig;
+import com.dreamfirestudios.dreamcore.DreamVariable.DreamVariableTestAPI;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Supplier;
+
+/// <summary>
+/// Compiled, per-class view of the persisted fields of a config or pulse type.
+/// </summary>
+/// <remarks>
+/// A plan is built once per class (cached through a <see cref="ClassValue"/>) and shared by
+/// <see cref="DreamConfigSerializer"/>, <see cref="DreamConfigDeSerializer"/>, <see cref="MongoConfigSerializer"/>
+/// and <see cref="MongoConfigDeSerializer"/>. It holds the filtered field list, resolved save names,
+/// <see cref="StorageComment"/> text and default-value suppliers, so the <c>getDeclaredFields()</c> scan,
+/// modifier/annotation checks and <c>setAccessible</c> calls happen once per class instead of once per call.
+/// Field reads and writes go through a pre-built <see cref="FieldAccessor"/> rather than <see cref="Field"/>.
+/// <para/>
+/// Filtering rules match <see cref="SerializerHelpers#reflectAllFields(Class, Object)"/>:
+/// <c>static</c>, <c>private</c>, <c>protected</c> and <see cref="DontSave"/> fields are skipped, and
+/// <see cref="StaticEnumPulseConfig"/> superclass fields are appended after the declared ones.
+/// </remarks>
+/// <example>
+/// <code>
+/// for (var pf : FieldPlan.of(cfg.getClass()).fields()) {
+///     Object value = pf.resolve(cfg); // applies defaults like reflectAllFields
+///     System.out.println(pf.saveName() + " = " + value);
+/// }
+/// </code>
+/// </example>
+public final class FieldPlan {
+    private static final ClassValue<FieldPlan> PLANS = new ClassValue<>() {
+        @Override protected FieldPlan computeValue(Class<?> type) { return new FieldPlan(type); }
+    };
+
+    private final Class<?> type;
+    private final List<PlannedField> fields;
+    private final Map<String, PlannedField> bySaveName;
+
+    private FieldPlan(Class<?> type) {
+        this.type = type;
+        var list = new ArrayList<PlannedField>();
+        collect(type, StaticEnumPulseConfig.class.isAssignableFrom(type), list);
+        this.fields = List.copyOf(list);
+        var names = new HashMap<String, PlannedField>(list.size() * 2);
+        for (var pf : list) names.putIfAbsent(pf.saveName(), pf);
+        this.bySaveName = Map.copyOf(names);
+    }
+
+    /// <summary>
+    /// Returns the cached plan for <paramref name="type"/>, compiling it on first use.
+    /// </summary>
+    /// <param name="type">Concrete config or pulse class.</param>
+    /// <returns>Shared, immutable plan.</returns>
+    public static FieldPlan of(Class<?> type) { return PLANS.get(type); }
+
+    /// <summary>Class this plan was compiled for.</summary>
+    public Class<?> type() { return type; }
+
+    /// <summary>Persisted fields in serialization order.</summary>
+    public List<PlannedField> fields() { return fields; }
+
+    /// <summary>Look up a planned field by its persisted name, or <c>null</c> if unknown.</summary>
+    /// <param name="saveName">Persisted field name.</param>
+    public PlannedField field(String saveName) { return bySaveName.get(saveName); }
+
+    /// <summary>Collect eligible fields from <paramref name="declaring"/> and, for enum configs, its parents.</summary>
+    private static void collect(Class<?> declaring, boolean enumConfig, List<PlannedField> out) {
+        for (var field : declaring.getDeclaredFields()) {
+            if (field.isAnnotationPresent(DontSave.class)) continue;
+            var mods = field.getModifiers();
+            if (Modifier.isStatic(mods) || Modifier.isPrivate(mods) || Modifier.isProtected(mods)) continue;
+            field.setAccessible(true);
+            out.add(new PlannedField(field));
+        }
+        if (enumConfig) {
+            var sup = declaring.getSuperclass();
+            if (sup != null && StaticEnumPulseConfig.class.isAssignableFrom(sup)) collect(sup, true, out);
+        }
+    }
+
+    /// <summary>
+    /// Resolve the default-value supplier for a field type once.
+    /// </summary>
+    /// <remarks>
+    /// Mirrors the historic order: <see cref="Date"/>/<see cref="Instant"/>/<see cref="LocalDateTime"/> → now,
+    /// <see cref="Duration"/> → zero, then the DreamCore
+    /// primitive adapter default, then the public no-arg constructor. Returns a supplier of
+    /// <c>null</c> when none apply.
+    /// </remarks>
+    private static Supplier<Object> defaultSupplier(Class<?> fieldType) {
+        if (fieldType == Date.class) return Date::new;
+        if (fieldType == Instant.class) return Instant::now;
+        if (fieldType == LocalDateTime.class) return LocalDateTime::now;
+        if (fieldType == Duration.class) return () -> Duration.ZERO;
+        var test = DreamVariableTestAPI.returnTestFromType(fieldType);
+        if (test != null) return () -> test.ReturnDefaultValue();
+        final Constructor<?> ctor;
+        try { ctor = fieldType.getConstructor(); }
+        catch (NoSuchMethodException | SecurityException e) { return () -> null; }
+        return () -> {
+            try { return ctor.newInstance(); }
+            catch (ReflectiveOperationException e) { return null; }
+        };
+    }
+
+    /// <summary>
+    /// A single persisted field with everything the serializers need pre-resolved.
+    /// </summary>
+    public static final class PlannedField {
+        private static final Object UNASSIGNABLE = new Object();
+
+        private final Field field;
+        private final FieldAccessor accessor;
+        private final String saveName;
+        private final String comment;
+        private final boolean defaultable;
+        private Supplier<Object> defaultValue;
+
+        private PlannedField(Field field) {
+            this.field = field;
+            this.accessor = FieldAccessor.of(field);
+            var sn = field.getAnnotation(SaveName.class);
+            this.saveName = (sn != null && !sn.value().isBlank()) ? sn.value() : field.getName();
+            var sc = field.getAnnotation(StorageComment.class);
+            this.comment = (sc != null && !sc.value().isBlank()) ? sc.value() : null;
+            this.defaultable = !field.isAnnotationPresent(DontDefault.class);
+        }
+
+        /// <summary>Underlying reflective field (already accessible).</summary>
+        public Field field() { return field; }
+
+        /// <summary>Declared Java type of the field.</summary>
+        public Class<?> type() { return field.getType(); }
+
+        /// <summary>Persisted name (<see cref="SaveName"/> or the Java field name).</summary>
+        public String saveName() { return saveName; }
+
+        /// <summary><see cref="StorageComment"/> text, or <c>null</c> when absent/blank.</summary>
+        public String comment() { return comment; }
+
+        /// <summary>Method-handle accessor bound to this field.</summary>
+        public FieldAccessor accessor() { return accessor; }
+
+        /// <summary>Read the raw field value.</summary>
+        public Object get(Object instance) { return accessor.get(instance); }
+
+        /// <summary>Write the raw field value.</summary>
+        public void set(Object instance, Object value) { accessor.set(instance, value); }
+
+        /// <summary>
+        /// Write a deserialized value if it fits the field (see <see cref="FieldAccessor.convert"/>).
+        /// </summary>
+        /// <returns>False, leaving the field untouched, when the value cannot be stored in it.</returns>
+        public boolean assign(Object instance, Object value) {
+            var converted = FieldAccessor.convert(field.getType(), value, UNASSIGNABLE);
+            if (converted == UNASSIGNABLE) return false;
+            set(instance, converted);
+            return true;
+        }
+
+        /// <summary>
+        /// Read the field value, generating and storing a default when it is <c>null</c>
+        /// (unless <see cref="DontDefault"/> is present).
+        /// </summary>
+        /// <param name="instance">Owning object.</param>
+        /// <returns>The current or newly defaulted value; may still be <c>null</c>.</returns>
+        public Object resolve(Object instance) {
+            var value = get(instance);
+            if (value == null && defaultable && !accessor.isPrimitive()) {
+                var supplier = defaultValue;
+                if (supplier == null) defaultValue = supplier = defaultSupplier(field.getType());
+                value = supplier.get();
+                if (value != null) set(instance, value);
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Internal.Reflection;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/// <summary>
+/// Reflection-free serializer for a single config or pulse class, generated at build time by the
+/// <c>dreamconfig-processor</c> annotation processor.
+/// </summary>
+/// <typeparam name="T">Exact class the codec was generated for.</typeparam>
+/// <remarks>
+/// Generated codecs are named <c>&lt;Outer_Inner&gt;_DreamCodec</c> in the package of the config class and are
+/// discovered by <see cref="GeneratedCodecs"/>. They produce exactly what
+/// <see cref="DreamConfigSerializer#writeObject(Class, Object)"/> and
+/// <see cref="DreamConfigDeSerializer#readObject(Map, Class, Object)"/> would, but read and write fields directly.
+/// Implementations are not meant to be written by hand.
+/// </remarks>
+public interface GeneratedCodec<T> {
+    /// <summary>Serialize all persisted fields of <paramref name="instance"/> in declaration order.</summary>
+    /// <param name="instance">Object to serialize.</param>
+    /// <returns>Ordered map of persisted names to serialized values.</returns>
+    LinkedHashMap<String, Object> write(T instance) throws Exception;
+
+    /// <summary>Populate <paramref name="target"/> from a deserialized map.</summary>
+    /// <param name="data">Stored field values keyed by persisted name.</param>
+    /// <param name="target">Instance to mutate.</param>
+    void read(Map<Object, Object> data, T target) throws Exception;
+}
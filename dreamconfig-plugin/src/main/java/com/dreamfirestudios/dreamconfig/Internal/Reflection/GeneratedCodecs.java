@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Internal.Reflection;
+
+import com.dreamfirestudios.dreamconfig.Internal.Codegen.HiddenCodecFactory;
+
+import java.util.Optional;
+
+/// <summary>
+/// Lookup of build-time generated <see cref="GeneratedCodec"/> implementations.
+/// </summary>
+/// <remarks>
+/// The result (including "no codec") is cached per class through a <see cref="ClassValue"/>, so the
+/// <c>Class.forName</c> probe runs once per config type. Classes without a generated codec fall back to
+/// a runtime hidden-class codec (<see cref="HiddenCodecFactory"/>) and, failing that, to the
+/// <see cref="FieldPlan"/>-based reflection path.
+/// </remarks>
+/// <example>
+/// <code>
+/// GeneratedCodec&lt;MyConfig&gt; codec = GeneratedCodecs.find(MyConfig.class);
+/// if (codec != null) codec.write(cfg);
+/// </code>
+/// </example>
+public final class GeneratedCodecs {
+    /// <summary>Suffix appended to the flattened simple name of the config class.</summary>
+    public static final String SUFFIX = "_DreamCodec";
+
+    private static final ClassValue<Optional<GeneratedCodec<?>>> CODECS = new ClassValue<>() {
+        @Override protected Optional<GeneratedCodec<?>> computeValue(Class<?> type) { return Optional.ofNullable(load(type)); }
+    };
+
+    private GeneratedCodecs() {}
+
+    /// <summary>
+    /// Return the build-time codec for <paramref name="type"/>, else the runtime-generated one, else <c>null</c>.
+    /// </summary>
+    /// <param name="type">Concrete config or pulse class.</param>
+    @SuppressWarnings("unchecked")
+    public static <T> GeneratedCodec<T> find(Class<T> type) {
+        var generated = (GeneratedCodec<T>) CODECS.get(type).orElse(null);
+        return generated != null ? generated : HiddenCodecFactory.find(type);
+    }
+
+    /// <summary>Resolve the generated class name: same package, nested names joined with <c>_</c>.</summary>
+    /// <param name="type">Config class.</param>
+    public static String codecName(Class<?> type) {
+        var pkg = type.getPackageName();
+        var simple = type.getName().substring(pkg.isEmpty() ? 0 : pkg.length() + 1).replace('$', '_');
+        return (pkg.isEmpty() ? "" : pkg + ".") + simple + SUFFIX;
+    }
+
+    private static GeneratedCodec<?> load(Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.getClassLoader() == null) return null;
+        try {
+            var cls = Class.forName(codecName(type), true, type.getClassLoader());
+            if (!GeneratedCodec.class.isAssignableFrom(cls)) return null;
+            return (GeneratedCodec<?>) cls.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
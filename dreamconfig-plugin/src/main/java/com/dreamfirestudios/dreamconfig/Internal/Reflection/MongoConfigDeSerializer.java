@@ -23,10 +23,11 @@
  */
 package com.dreamfirestudios.dreamconfig.Internal.Reflection;
 
-import com.dreamfirestudios.dreamconfig.Enum.StorageType;
 import com.dreamfirestudios.dreamconfig.Model.Interfaces.IDreamConfig;
 import com.dreamfirestudios.dreamconfig.Model.Interfaces.IPulseClass;
 import com.dreamfirestudios.dreamconfig.Model.Interfaces.SaveName;
+import com.dreamfirestudios.dreamconfig.Model.Serialization.CodecRegistry;
+import com.dreamfirestudios.dreamconfig.Model.Serialization.DateTimeCodecs;
 import com.dreamfirestudios.dreamconfig.Model.Serialization.CustomSerialize;
 import com.dreamfirestudios.dreamconfig.Model.Serialization.DeserializationStrategy;
 import com.dreamfirestudios.dreamconfig.Saveable.ICustomVariable;
@@ -36,21 +37,19 @@ import com.dreamfirestudios.dreamconfig.Saveable.SaveableLinkedHashMap;
 import com.dreamfirestudios.dreamcore.DreamVariable.DreamVariableTestAPI;
 import org.bson.Document;
 
-import java.lang.reflect.Field;
-import java.text.ParseException;
 import java.util.*;
 
 /// <summary>
 /// Standalone Mongo deserializer that populates an <see cref="IDreamConfig"/> instance
-/// directly from a BSON <see cref="Document"/>, without delegating to the YAML deserializer.
+/// directly from a BSON <see cref="Document"/>.
 /// </summary>
 /// <remarks>
-/// Supports:
+/// Values are converted through the shared <see cref="CodecRegistry"/>, which supports:
 /// - Types annotated with <see cref="CustomSerialize"/> via their <see cref="DeserializationStrategy"/>.
 /// - Nested <see cref="IPulseClass"/> objects with <c>BeforeLoadConfig</c>/<c>AfterLoadConfig</c>.
 /// - Saveable collections: <see cref="SaveableHashmap"/>, <see cref="SaveableLinkedHashMap"/>, <see cref="SaveableArrayList"/>.
 /// - <see cref="ICustomVariable"/> with <c>BeforeLoad</c>/<c>AfterLoad</c>.
-/// - <see cref="Date"/> via <see cref="SerializerHelpers#SIMPLE_DATE_FORMAT"/>.
+/// - <see cref="Date"/> via <see cref="DateTimeCodecs"/>.
 /// - Primitive adapters via <see cref="DreamVariableTestAPI"/>.
 /// </remarks>
 /// <example>
@@ -148,7 +147,7 @@ public final class MongoConfigDeSerializer {
     /// <returns>The mutated <paramref name="target"/> for convenience.</returns>
     /// <remarks>
     /// Field names respect <see cref="SaveName"/> if present; otherwise the Java field name is used.
-    /// Unknown or missing fields are ignored.
+    /// Fields are taken from the cached <see cref="FieldPlan"/>. Unknown or missing fields are ignored.
     /// </remarks>
     /// <example>
     /// <code>
@@ -156,19 +155,13 @@ public final class MongoConfigDeSerializer {
     /// </code>
     /// </example>
     public static Object populateObject(HashMap<Object, Object> configData, Class<?> parentClass, Object target) throws Exception {
-        final LinkedHashMap<Field, Object> currentFields = SerializerHelpers.reflectAllFields(parentClass, target);
-        for (Field f : currentFields.keySet()) {
-            String name = f.isAnnotationPresent(SaveName.class) ? f.getAnnotation(SaveName.class).value() : f.getName();
-            if (name.isEmpty()) name = f.getName();
-            if (!configData.containsKey(name)) continue;
+        for (FieldPlan.PlannedField pf : FieldPlan.of(parentClass).fields()) {
+            final Object current = pf.resolve(target);
+            if (current == null || !configData.containsKey(pf.saveName())) continue;
 
-            final Object storedValue = configData.get(name);
-            final Object deserialized = loadSingle(f.getType(), currentFields.get(f), storedValue);
-            try {
-                f.set(target, deserialized);
-            } catch (Exception ignored) {
-                f.set(target, currentFields.get(f));
-            }
+            final Object storedValue = configData.get(pf.saveName());
+            final Object deserialized = loadSingle(current.getClass(), current, storedValue);
+            pf.assign(target, deserialized);
         }
         return target;
     }
@@ -181,14 +174,7 @@ public final class MongoConfigDeSerializer {
     /// <param name="raw">Raw data from Mongo (Map/List/primitives).</param>
     /// <returns>The deserialized object, or <c>null</c> if <paramref name="currentValue"/> or <paramref name="raw"/> is null.</returns>
     /// <remarks>
-    /// Resolution order:
-    /// 1) <see cref="CustomSerialize"/> strategy on the target type.
-    /// 2) <see cref="IPulseClass"/> nested object (calls <c>BeforeLoadConfig</c>/<c>AfterLoadConfig</c>).
-    /// 3) Saveable collections via <c>deSerializeData</c>.
-    /// 4) <see cref="ICustomVariable"/> with lifecycle hooks.
-    /// 5) <see cref="Date"/> via <see cref="SerializerHelpers#SIMPLE_DATE_FORMAT"/>.
-    /// 6) Primitive adapters via <see cref="DreamVariableTestAPI"/>.
-    /// 7) Fallback: pass the raw value through unchanged.
+    /// Uses the same cached <see cref="CodecRegistry"/> codecs as the YAML deserializer.
     /// </remarks>
     /// <example>
     /// <code>
@@ -196,92 +182,6 @@ public final class MongoConfigDeSerializer {
     /// </code>
     /// </example>
     public static Object loadSingle(Class<?> targetType, Object currentValue, Object raw) throws Exception {
-        if (currentValue == null || raw == null) return null;
-
-        if (targetType.isAnnotationPresent(CustomSerialize.class)) {
-            final CustomSerialize cs = targetType.getAnnotation(CustomSerialize.class);
-            final DeserializationStrategy<?> strategy = cs.deserializationStrategy().getDeclaredConstructor().newInstance();
-            return strategy.deserialize(raw);
-        }
-
-        if (IPulseClass.class.isAssignableFrom(targetType)) {
-            final IPulseClass pulse = (IPulseClass) currentValue;
-            pulse.BeforeLoadConfig();
-            final Object filled = populateObject(asMap(raw), pulse.getClass(), pulse);
-            pulse.AfterLoadConfig();
-            return filled;
-        }
-
-        if (SaveableHashmap.class.isAssignableFrom(targetType)) {
-            @SuppressWarnings("unchecked") final SaveableHashmap<Object, Object> map = (SaveableHashmap<Object, Object>) currentValue;
-            map.deSerializeData(StorageType.CONFIG, asMap(raw));
-            return map;
-        }
-
-        if (SaveableLinkedHashMap.class.isAssignableFrom(targetType)) {
-            @SuppressWarnings("unchecked") final SaveableLinkedHashMap<Object, Object> map = (SaveableLinkedHashMap<Object, Object>) currentValue;
-            map.deSerializeData(StorageType.CONFIG, asMap(raw));
-            return map;
-        }
-
-        if (SaveableArrayList.class.isAssignableFrom(targetType)) {
-            @SuppressWarnings("unchecked") final SaveableArrayList<Object> list = (SaveableArrayList<Object>) currentValue;
-            list.deSerializeData(StorageType.CONFIG, asList(raw));
-            return list;
-        }
-
-        if (ICustomVariable.class.isAssignableFrom(targetType)) {
-            final ICustomVariable custom = (ICustomVariable) targetType.getDeclaredConstructor().newInstance();
-            @SuppressWarnings("unchecked") final LinkedHashMap<Object, Object> m = new LinkedHashMap<>(asMap(raw));
-            custom.BeforeLoad();
-            custom.DeSerializeData(m);
-            custom.AfterLoad();
-            return custom;
-        }
-
-        if (Date.class.isAssignableFrom(targetType)) return parseDate(raw);
-
-        final var variableTest = DreamVariableTestAPI.returnTestFromType(targetType);
-        if (variableTest != null) return variableTest.DeSerializeData(raw);
-
-        return raw;
-    }
-
-    /// <summary>
-    /// Coerce an arbitrary value to a mutable <see cref="HashMap{Object,Object}"/>.
-    /// </summary>
-    /// <param name="v">Expected Map-like object.</param>
-    /// <returns>A new <see cref="HashMap{Object,Object}"/> containing entries of <paramref name="v"/>.</returns>
-    /// <exception cref="IllegalArgumentException">Thrown if input is not Map-like.</exception>
-    private static HashMap<Object, Object> asMap(Object v) {
-        if (v instanceof Map<?, ?> m) {
-            final HashMap<Object, Object> out = new HashMap<>();
-            for (Map.Entry<?, ?> e : m.entrySet()) out.put(e.getKey(), e.getValue());
-            return out;
-        }
-        throw new IllegalArgumentException("Expected Map-like value but got: " + v.getClass().getName());
-    }
-
-    /// <summary>
-    /// Coerce an arbitrary value to a mutable <see cref="ArrayList{Object}"/>.
-    /// </summary>
-    /// <param name="v">Expected List-like object.</param>
-    /// <returns>A new <see cref="ArrayList{Object}"/> with the list contents.</returns>
-    /// <exception cref="IllegalArgumentException">Thrown if input is not List-like.</exception>
-    @SuppressWarnings("unchecked")
-    private static ArrayList<Object> asList(Object v) {
-        if (v instanceof List<?> l) return new ArrayList<>((List<Object>) l);
-        throw new IllegalArgumentException("Expected List-like value but got: " + v.getClass().getName());
-    }
-
-    /// <summary>
-    /// Parse a value into a <see cref="Date"/> using standard config date handling.
-    /// </summary>
-    /// <param name="raw">Either a <see cref="Date"/> instance or a parseable string.</param>
-    /// <returns>A <see cref="Date"/> instance.</returns>
-    /// <exception cref="ParseException">If the string cannot be parsed.</exception>
-    private static Date parseDate(Object raw) throws ParseException {
-        if (raw instanceof Date d) return d;
-        return SerializerHelpers.SIMPLE_DATE_FORMAT.parse(String.valueOf(raw));
+        return CodecRegistry.read(targetType, currentValue, raw);
     }
 }
\ No newline at end of file
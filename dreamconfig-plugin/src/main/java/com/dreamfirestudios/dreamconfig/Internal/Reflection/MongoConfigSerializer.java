@@ -27,20 +27,19 @@ import com.dreamfirestudios.dreamconfig.Model.Interfaces.DontDefault;
 import com.dreamfirestudios.dreamconfig.Model.Interfaces.DontSave;
 import com.dreamfirestudios.dreamconfig.Model.Interfaces.IDreamConfig;
 import com.dreamfirestudios.dreamconfig.Model.Interfaces.SaveName;
+import com.dreamfirestudios.dreamconfig.Model.Serialization.CodecRegistry;
+import com.dreamfirestudios.dreamconfig.Model.Serialization.DateTimeCodecs;
 import com.dreamfirestudios.dreamconfig.Model.StaticEnumPulseConfig;
 import com.dreamfirestudios.dreamcore.DreamVariable.DreamVariableTestAPI;
 import org.bson.Document;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
-import java.text.SimpleDateFormat;
 import java.util.*;
 
 /// <summary>
 /// Serializes an <see cref="IDreamConfig"/> into a MongoDB-friendly <see cref="Document"/>.
 /// </summary>
 /// <remarks>
-/// Field collection is reflection-based and respects:
+/// Field collection uses the cached per-class <see cref="FieldPlan"/> and respects:
 /// - <see cref="DontSave"/> to skip fields,
 /// - visibility: skips <c>static</c>, <c>private</c>, and <c>protected</c> fields,
 /// - <see cref="SaveName"/> to rename persisted fields,
@@ -49,7 +48,7 @@ import java.util.*;
 /// - <see cref="Date"/> → <c>new Date()</c>,
 /// - <see cref="DreamVariableTestAPI"/> adapter <c>ReturnDefaultValue()</c>,
 /// - zero-arg constructor when available.
-/// Date values are formatted with <c>yyyy-MMM-dd-HH-mm-ss</c> (Locale.ENGLISH).
+/// Date values are written by <see cref="DateTimeCodecs"/> (<c>yyyy-MMM-dd-HH-mm-ss</c>, Locale.ENGLISH, by default).
 /// When the object is a <see cref="StaticEnumPulseConfig"/>, superclass fields of that type are included as well.
 /// </remarks>
 /// <example>
@@ -61,10 +60,6 @@ import java.util.*;
 /// </example>
 public final class MongoConfigSerializer {
 
-    /// <summary>Fixed-format date formatter used for stable string output.</summary>
-    private static final SimpleDateFormat SIMPLE_DATE_FORMAT =
-            new SimpleDateFormat("yyyy-MMM-dd-HH-mm-ss", Locale.ENGLISH);
-
     private MongoConfigSerializer() {}
 
     /// <summary>
@@ -103,55 +98,25 @@ public final class MongoConfigSerializer {
     /// </summary>
     /// <param name="parentClass">The class that declares the fields to inspect.</param>
     /// <param name="object">The instance to read field values from.</param>
-    /// <returns>Ordered map of persisted field names to their Java values.</returns>
+    /// <returns>Ordered map of persisted field names to their serialized values.</returns>
     /// <remarks>
     /// - Skips fields marked <see cref="DontSave"/> or with disallowed modifiers.<br/>
     /// - Generates defaults unless <see cref="DontDefault"/> is present and the value is <c>null</c>.<br/>
-    /// - When <paramref name="object"/> is a <see cref="StaticEnumPulseConfig"/>, recursively extracts superclass fields of that type.
+    /// - When <paramref name="object"/> is a <see cref="StaticEnumPulseConfig"/>, recursively extracts superclass fields of that type.<br/>
+    /// - Field discovery is cached per class in <see cref="FieldPlan"/>.<br/>
+    /// - Values are converted with the shared <see cref="CodecRegistry"/>, like the YAML path.
     /// </remarks>
     /// <example>
     /// <code>
     /// LinkedHashMap&lt;String,Object&gt; data = extractAllFields(cfg.getClass(), cfg);
     /// </code>
     /// </example>
-    private static LinkedHashMap<String, Object> extractAllFields(Class<?> parentClass, Object object) throws IllegalAccessException {
-        final LinkedHashMap<String, Object> data = new LinkedHashMap<>();
-
-        for (Field field : parentClass.getDeclaredFields()) {
-            if (field.isAnnotationPresent(DontSave.class)) continue;
-            final int mods = field.getModifiers();
-            if (Modifier.isStatic(mods) || Modifier.isPrivate(mods) || Modifier.isProtected(mods)) continue;
-
-            field.setAccessible(true);
-            Object value = field.get(object);
-
-            if (value == null && !field.isAnnotationPresent(DontDefault.class)) {
-                final var variableTest = DreamVariableTestAPI.returnTestFromType(field.getType());
-                if (field.getType() == Date.class) {
-                    value = new Date();
-                } else if (variableTest != null) {
-                    value = variableTest.ReturnDefaultValue();
-                } else {
-                    try {
-                        value = field.getType().getConstructor().newInstance();
-                    } catch (Exception ignored) { /* fall through: leave null */ }
-                }
-            }
-
-            if (value != null) {
-                final String name = field.isAnnotationPresent(SaveName.class)
-                        ? field.getAnnotation(SaveName.class).value()
-                        : field.getName();
-                data.put(name, value);
-            }
-        }
-
-        // Include StaticEnumPulseConfig superclass fields (if applicable)
-        if (object instanceof StaticEnumPulseConfig) {
-            final Class<?> superClass = parentClass.getSuperclass();
-            if (superClass != null && StaticEnumPulseConfig.class.isAssignableFrom(superClass)) {
-                data.putAll(extractAllFields(superClass, object));
-            }
+    private static LinkedHashMap<String, Object> extractAllFields(Class<?> parentClass, Object object) throws Exception {
+        final List<FieldPlan.PlannedField> plan = FieldPlan.of(parentClass).fields();
+        final LinkedHashMap<String, Object> data = new LinkedHashMap<>(plan.size() * 2);
+        for (FieldPlan.PlannedField pf : plan) {
+            final Object value = pf.resolve(object);
+            if (value != null) data.put(pf.saveName(), CodecRegistry.write(value));
         }
         return data;
     }
@@ -203,7 +168,7 @@ public final class MongoConfigSerializer {
             return out;
         }
 
-        if (v instanceof Date date) return SIMPLE_DATE_FORMAT.format(date);
+        if (v instanceof Date date) return DateTimeCodecs.writeDate(date);
 
         return v;
     }
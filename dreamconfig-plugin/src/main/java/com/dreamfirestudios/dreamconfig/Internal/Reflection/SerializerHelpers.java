@@ -23,11 +23,11 @@
  */
 package com.dreamfirestudios.dreamconfig.Internal.Reflection;
 
+import com.dreamfirestudios.dreamconfig.Model.Serialization.DateTimeCodecs;
 import com.dreamfirestudios.dreamconfig.Model.StaticEnumPulseConfig;
 import com.dreamfirestudios.dreamconfig.Model.Interfaces.DontDefault;
 import com.dreamfirestudios.dreamconfig.Model.Interfaces.DontSave;
 import com.dreamfirestudios.dreamconfig.Model.Interfaces.SaveName;
-import com.dreamfirestudios.dreamcore.DreamVariable.DreamVariableTestAPI;
 
 import java.lang.reflect.*;
 import java.text.SimpleDateFormat;
@@ -41,7 +41,8 @@ import java.util.*;
 /// - Collects serializable fields with support for default values.
 /// - Instantiates objects with optional string IDs.
 /// - Resolves persisted field names from annotations.
-/// - Provides a shared standard date format.
+/// <para/>
+/// Field discovery is compiled once per class into a <see cref="FieldPlan"/>; the helpers here are thin views over it.
 /// <para/>
 /// Fields marked with <see cref="DontSave"/> are ignored. Null fields are optionally
 /// replaced with defaults unless annotated with <see cref="DontDefault"/>.
@@ -53,6 +54,10 @@ public final class SerializerHelpers {
     /// <summary>
     /// Standard date format for config serialization (<c>yyyy-MMM-dd-HH-mm-ss</c>, Locale.ENGLISH).
     /// </summary>
+    /// <remarks>
+    /// Not thread-safe and no longer used by DreamConfig; use <see cref="DateTimeCodecs#DATE_FORMAT"/> instead.
+    /// </remarks>
+    @Deprecated
     public static final SimpleDateFormat SIMPLE_DATE_FORMAT =
             new SimpleDateFormat("yyyy-MMM-dd-HH-mm-ss", Locale.ENGLISH);
 
@@ -66,7 +71,8 @@ public final class SerializerHelpers {
     /// - Skips <c>static</c>, <c>private</c>, <c>protected</c> fields.<br/>
     /// - Skips fields annotated <see cref="DontSave"/>.<br/>
     /// - Generates default values if null (unless <see cref="DontDefault"/> is present).<br/>
-    /// - Includes parent fields when instance derives from <see cref="StaticEnumPulseConfig"/>.
+    /// - Includes parent fields when instance derives from <see cref="StaticEnumPulseConfig"/>.<br/>
+    /// - Field filtering is cached per class in <see cref="FieldPlan"/>.
     /// </remarks>
     /// <example>
     /// <code>
@@ -77,29 +83,11 @@ public final class SerializerHelpers {
     /// </code>
     /// </example>
     public static LinkedHashMap<Field,Object> reflectAllFields(Class<?> parentClass,Object instance) throws IllegalAccessException {
-        var map = new LinkedHashMap<Field,Object>();
-        for (var field : parentClass.getDeclaredFields()) {
-            if (field.isAnnotationPresent(DontSave.class)) continue;
-            var mods = field.getModifiers();
-            if (Modifier.isStatic(mods) || Modifier.isPrivate(mods) || Modifier.isProtected(mods)) continue;
-
-            field.setAccessible(true);
-            var value = field.get(instance);
-            if (value == null && !field.isAnnotationPresent(DontDefault.class)) {
-                var test = DreamVariableTestAPI.returnTestFromType(field.getType());
-                if (field.getType() == Date.class) value = new Date();
-                else if (test != null) value = test.ReturnDefaultValue();
-                else value = createBlank(field.getType());
-                if (value != null) field.set(instance, value);
-            }
-            if (value != null) map.put(field, value);
-        }
-        if (instance instanceof StaticEnumPulseConfig) {
-            var sup = parentClass.getSuperclass();
-            if (sup != null && StaticEnumPulseConfig.class.isAssignableFrom(sup)) {
-                var parent = reflectAllFields(sup, instance);
-                parent.forEach(map::putIfAbsent);
-            }
+        var plan = FieldPlan.of(parentClass).fields();
+        var map = new LinkedHashMap<Field,Object>(plan.size() * 2);
+        for (var pf : plan) {
+            var value = pf.resolve(instance);
+            if (value != null) map.put(pf.field(), value);
         }
         return map;
     }
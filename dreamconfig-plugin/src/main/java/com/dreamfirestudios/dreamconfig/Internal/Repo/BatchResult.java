@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Internal.Repo;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/// <summary>
+/// Per-document outcome of a <see cref="ConfigRepository"/> batch call.
+/// </summary>
+/// <remarks>
+/// Batch methods record each document exactly once: in <see cref="versions"/> when it succeeded (with the
+/// stored or written version) or in <see cref="failed"/> with its cause. An exception that escapes a batch
+/// method means the whole batch failed. Not thread-safe; filled by the thread running the batch.
+/// </remarks>
+public final class BatchResult {
+    private final Map<String, Integer> versions = new LinkedHashMap<>();
+    private final Map<String, Throwable> failed = new LinkedHashMap<>();
+
+    /// <summary>Record a document that succeeded.</summary>
+    /// <param name="documentId">Document id.</param>
+    /// <param name="version">Stored version for loads, written version for saves, 0 for deletes.</param>
+    public void succeeded(String documentId, int version) {
+        failed.remove(documentId);
+        versions.put(documentId, version);
+    }
+
+    /// <summary>Record a document that failed.</summary>
+    public void failed(String documentId, Throwable cause) {
+        versions.remove(documentId);
+        failed.put(documentId, cause);
+    }
+
+    /// <summary>True if <paramref name="documentId"/> was recorded as failed.</summary>
+    public boolean isFailed(String documentId) { return failed.containsKey(documentId); }
+
+    /// <summary>Version recorded for <paramref name="documentId"/>, or 1 if none.</summary>
+    public int versionOf(String documentId) { return versions.getOrDefault(documentId, 1); }
+
+    /// <summary>Documents that succeeded, with their version.</summary>
+    public Map<String, Integer> versions() { return Collections.unmodifiableMap(versions); }
+
+    /// <summary>Documents that failed, with their cause.</summary>
+    public Map<String, Throwable> failed() { return Collections.unmodifiableMap(failed); }
+}
@@ -0,0 +1,229 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Internal.Repo;
+
+import com.dreamfirestudios.dreamconfig.Internal.Binary.BinaryDocument;
+import com.dreamfirestudios.dreamconfig.Internal.Reflection.DreamConfigDeSerializer;
+import com.dreamfirestudios.dreamconfig.Internal.Storage.AtomicFiles;
+import com.dreamfirestudios.dreamconfig.Internal.Yaml.YamlStreamWriter;
+import com.dreamfirestudios.dreamconfig.Model.Interfaces.IDreamConfig;
+import com.dreamfirestudios.dreamconfig.Object.DreamConfigObject;
+import com.dreamfirestudios.dreamconfig.Versioning.ConfigVersions;
+import com.dreamfirestudios.dreamconfig.Versioning.MetadataKeys;
+import org.bukkit.plugin.java.JavaPlugin;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/// <summary>
+/// File repository storing each document in the compact <c>.dcb</c> format (<see cref="BinaryDocument"/>).
+/// </summary>
+/// <remarks>
+/// <para>
+/// Meant for data nobody edits by hand, such as per-player <c>DynamicPulseConfig</c>s: no text escaping, no
+/// YAML parse, and map keys stored once per file. Layout on disk matches the YAML repository
+/// (<see cref="resolvePath"/> is shared), with <c>.dcb</c> files instead of <c>.yml</c>. Writes go through
+/// <see cref="AtomicFiles"/>, and loads bind through <see cref="DreamConfigDeSerializer"/>, so field plans,
+/// generated codecs and Saveable types behave exactly as with YAML.
+/// </para>
+/// <para>
+/// <see cref="exportToYaml"/> / <see cref="importFromYaml"/> convert single files (and the <c>*Directory</c>
+/// variants whole folders) so admins can inspect or hand-fix data and convert it back.
+/// </para>
+/// </remarks>
+/// <example>
+/// <code>
+/// DreamConfigAPI.setRepository(new BinaryConfigRepository()); // or storage.format: binary
+/// BinaryConfigRepository.exportDirectory(dataDir.resolve("players"), dataDir.resolve("players-yaml"));
+/// </code>
+/// </example>
+public final class BinaryConfigRepository implements ConfigRepository {
+    /// <summary>Extension of binary document files.</summary>
+    public static final String EXTENSION = ".dcb";
+
+    private static final YamlConfigRepository YAML = new YamlConfigRepository();
+    private static final int VERSION_PREFIX = 16;
+
+    /// <summary>Encode the config's fields and atomically replace its <c>.dcb</c> file.</summary>
+    public void save(IDreamConfig cfg, DreamConfigObject obj) throws Exception {
+        cfg.BeforeSaveConfig();
+        AtomicFiles.write(obj.getFile().toPath(), BinaryDocument.encode(cfg, ConfigVersions.target(cfg.getClass())));
+    }
+
+    /// <summary>
+    /// Version metadata is written by <see cref="save"/>; a no-op for the declared version, otherwise only
+    /// rewrites the file when the requested version differs from the stored one.
+    /// </summary>
+    public void writeVersion(IDreamConfig cfg, DreamConfigObject obj, int version) throws Exception {
+        if (version == ConfigVersions.target(cfg.getClass())) return;
+        var file = obj.getFile().toPath();
+        var bytes = Files.exists(file) ? Files.readAllBytes(file) : new byte[0];
+        if (bytes.length == 0) {
+            AtomicFiles.write(file, BinaryDocument.encode(cfg.getClass().getName(), version, Map.of()));
+            return;
+        }
+        var doc = BinaryDocument.decode(bytes);
+        if (doc.version() != version) AtomicFiles.write(file, BinaryDocument.encode(doc.type(), version, doc.fields()));
+    }
+
+    /// <summary>Decode the document and bind it into <paramref name="cfg"/>.</summary>
+    public void load(IDreamConfig cfg, DreamConfigObject obj) throws Exception {
+        loadWithVersion(cfg, obj);
+    }
+
+    /// <summary>Decode the document once, bind it and return its stored version (1 for an empty file).</summary>
+    public int loadWithVersion(IDreamConfig cfg, DreamConfigObject obj) throws Exception {
+        cfg.BeforeLoadConfig();
+        var bytes = Files.readAllBytes(obj.getFile().toPath());
+        int version = 1;
+        if (bytes.length > 0) {
+            var doc = decode(bytes, obj.getFile());
+            DreamConfigDeSerializer.readObject(doc.fields(), cfg.getClass(), cfg);
+            version = doc.version();
+        }
+        cfg.AfterLoadConfig();
+        return version;
+    }
+
+    /// <summary>Read <c>__meta.version</c> from the first bytes of the file only.</summary>
+    public int readVersion(IDreamConfig cfg, DreamConfigObject obj) throws Exception {
+        var file = obj.getFile().toPath();
+        if (!Files.exists(file)) return 1;
+        byte[] prefix;
+        try (var in = Files.newInputStream(file)) { prefix = in.readNBytes(VERSION_PREFIX); }
+        return prefix.length == 0 ? 1 : BinaryDocument.readVersion(prefix);
+    }
+
+    /// <summary>Same layout as the YAML repository.</summary>
+    public String resolvePath(IDreamConfig cfg) { return YAML.resolvePath(cfg); }
+
+    /// <summary><c>.dcb</c>.</summary>
+    @Override public String fileExtension() { return EXTENSION; }
+
+    /// <summary>List all <c>.dcb</c> files within <paramref name="baseDir"/> under the plugin data folder.</summary>
+    public List<File> listConfigFiles(JavaPlugin plugin, File baseDir) {
+        try (var files = streamConfigFiles(plugin, baseDir)) { return files.collect(Collectors.toList()); }
+    }
+
+    /// <summary>Lazily list the <c>.dcb</c> files within <paramref name="baseDir"/>.</summary>
+    @Override
+    public Stream<File> streamConfigFiles(JavaPlugin plugin, File baseDir) {
+        return YamlConfigRepository.scan(plugin, baseDir, EXTENSION);
+    }
+
+    /// <summary>Strip <c>.dcb</c> extension to get document id.</summary>
+    public String fileToDocumentId(File f) {
+        var n = f.getName();
+        return n.endsWith(EXTENSION) ? n.substring(0, n.length() - EXTENSION.length()) : n;
+    }
+
+    /// <summary>Render like the YAML repository.</summary>
+    public String renderConsole(Object value, int indent) throws Exception { return YAML.renderConsole(value, indent); }
+
+    /// <summary>Return indentation string.</summary>
+    public String indent(int spaces) { return YAML.indent(spaces); }
+
+    /* --------------------------- YAML export / import --------------------------- */
+
+    /// <summary>
+    /// Write <paramref name="binary"/> as a YAML document (nested under its file name as document id).
+    /// </summary>
+    /// <param name="binary">Source <c>.dcb</c> file.</param>
+    /// <param name="yaml">Target <c>.yml</c> file; replaced if present.</param>
+    public static void exportToYaml(Path binary, Path yaml) throws IOException {
+        var bytes = Files.readAllBytes(binary);
+        var id = documentId(binary, EXTENSION);
+        if (bytes.length == 0) {
+            YamlStreamWriter.write(yaml, id, 1, Map.of());
+            return;
+        }
+        var doc = decode(bytes, binary.toFile());
+        YamlStreamWriter.write(yaml, id, doc.version(), doc.fields());
+    }
+
+    /// <summary>
+    /// Convert a YAML document back to the binary format. The document id is taken from the file name.
+    /// </summary>
+    /// <param name="yaml">Source <c>.yml</c> file.</param>
+    /// <param name="binary">Target <c>.dcb</c> file; replaced if present.</param>
+    @SuppressWarnings("unchecked")
+    public static void importFromYaml(Path yaml, Path binary) throws IOException {
+        Object node;
+        try (var in = Files.newBufferedReader(yaml, StandardCharsets.UTF_8)) {
+            node = new Yaml(new SafeConstructor(new LoaderOptions())).load(in);
+        }
+        for (var part : documentId(yaml, ".yml").split("\\.", -1)) node = node instanceof Map<?, ?> m ? m.get(part) : null;
+        var fields = node instanceof Map<?, ?> m ? new LinkedHashMap<Object, Object>((Map<Object, Object>) m) : new LinkedHashMap<Object, Object>();
+        var meta = fields.remove(MetadataKeys.META_ROOT);
+        int version = meta instanceof Map<?, ?> mm ? ConfigVersions.parse(mm.get("version")) : 1;
+        AtomicFiles.write(binary, BinaryDocument.encode("", version, fields));
+    }
+
+    /// <summary>Export every <c>.dcb</c> file in <paramref name="binaryDir"/> to <paramref name="yamlDir"/>.</summary>
+    /// <returns>Number of files exported.</returns>
+    public static int exportDirectory(Path binaryDir, Path yamlDir) throws IOException {
+        return convertDirectory(binaryDir, EXTENSION, yamlDir, ".yml", true);
+    }
+
+    /// <summary>Import every <c>.yml</c> file in <paramref name="yamlDir"/> into <paramref name="binaryDir"/>.</summary>
+    /// <returns>Number of files imported.</returns>
+    public static int importDirectory(Path yamlDir, Path binaryDir) throws IOException {
+        return convertDirectory(yamlDir, ".yml", binaryDir, EXTENSION, false);
+    }
+
+    private static int convertDirectory(Path from, String fromExt, Path to, String toExt, boolean export) throws IOException {
+        Files.createDirectories(to);
+        int count = 0;
+        try (var files = Files.newDirectoryStream(from, "*" + fromExt)) {
+            for (var file : files) {
+                var target = to.resolve(documentId(file, fromExt) + toExt);
+                if (export) exportToYaml(file, target);
+                else importFromYaml(file, target);
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static BinaryDocument.Decoded decode(byte[] bytes, File source) throws IOException {
+        try { return BinaryDocument.decode(bytes); }
+        catch (IOException e) { throw new IOException(e.getMessage() + ": " + source, e); }
+    }
+
+    private static String documentId(Path file, String extension) {
+        var name = file.getFileName().toString();
+        return name.endsWith(extension) ? name.substring(0, name.length() - extension.length()) : name;
+    }
+}
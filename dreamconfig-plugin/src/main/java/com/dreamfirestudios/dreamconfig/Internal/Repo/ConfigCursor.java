@@ -0,0 +1,66 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Internal.Repo;
+
+import com.dreamfirestudios.dreamconfig.Model.Interfaces.IDreamConfig;
+import com.dreamfirestudios.dreamconfig.Object.DreamConfigObject;
+
+/// <summary>
+/// Forward-only walk over the stored documents of one config type, opened with
+/// <see cref="ConfigRepository#openCursor"/>.
+/// </summary>
+/// <remarks>
+/// A cursor holds at most one document at a time, so scanning a type costs constant memory however
+/// many documents it has. It is not thread-safe; callers must not advance or load from two threads at once.
+/// Always <see cref="close"/> it, including on early exit, so database cursors are released.
+/// </remarks>
+/// <example>
+/// <code>
+/// try (var cursor = repo.openCursor(plugin, new PlayerData())) {
+///     while (cursor.advance()) {
+///         var cfg = new PlayerData(cursor.documentId());
+///         cursor.load(cfg, obj);
+///     }
+/// }
+/// </code>
+/// </example>
+public interface ConfigCursor extends AutoCloseable {
+    /// <summary>Move to the next document.</summary>
+    /// <returns><c>true</c> if a document is available, <c>false</c> when the scan is exhausted.</returns>
+    boolean advance() throws Exception;
+
+    /// <summary>Document id of the current document.</summary>
+    String documentId();
+
+    /// <summary>
+    /// Populate <paramref name="cfg"/> from the current document and return its stored version.
+    /// </summary>
+    /// <param name="cfg">Target config, constructed for <see cref="documentId"/>.</param>
+    /// <param name="obj">Repository object wrapper used by YAML path.</param>
+    /// <returns>Stored <c>__meta.version</c>, or 1 if absent.</returns>
+    int load(IDreamConfig cfg, DreamConfigObject obj) throws Exception;
+
+    /// <summary>Release any resources held by the scan.</summary>
+    @Override void close();
+}
@@ -0,0 +1,259 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Internal.Repo;
+
+import com.dreamfirestudios.dreamconfig.Model.Interfaces.IDreamConfig;
+import com.dreamfirestudios.dreamconfig.Object.DreamConfigObject;
+import com.dreamfirestudios.dreamconfig.Versioning.ConfigVersions;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.File;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/// <summary>
+/// Abstraction over the persistence layer (e.g., YAML, Mongo).
+/// </summary>
+/// <remarks>
+/// Implementations should be side‑effect free except for I/O. Methods may throw
+/// exceptions which should be handled at the call site. Implementations must not
+/// mutate behavior of <see cref="IDreamConfig"/> beyond serialization hooks.
+/// </remarks>
+/// <example>
+/// <code>
+/// ConfigRepository repo = new YamlConfigRepository();
+/// repo.save(cfg, obj);
+/// repo.load(cfg, obj);
+/// </code>
+/// </example>
+public interface ConfigRepository {
+    /// <summary>Persist the config to the backing store.</summary>
+    /// <param name="cfg">Config instance to save.</param>
+    /// <param name="obj">Repository object wrapper used by YAML path.</param>
+    void save(IDreamConfig cfg, DreamConfigObject obj) throws Exception;
+
+    /// <summary>
+    /// Persist version metadata (<c>__meta.version</c>) for <paramref name="cfg"/>.
+    /// </summary>
+    /// <param name="cfg">Config whose version is recorded.</param>
+    /// <param name="obj">Repository object wrapper used by YAML path.</param>
+    /// <param name="version">Version to store.</param>
+    /// <remarks>
+    /// Default writes through <see cref="DreamConfigObject"/>. Repositories whose <see cref="save"/> already
+    /// records the version may override this as a no-op.
+    /// </remarks>
+    default void writeVersion(IDreamConfig cfg, DreamConfigObject obj, int version) throws Exception {
+        obj.setMetaVersion(cfg.documentID(), version);
+        obj.save();
+    }
+
+    /// <summary>Read the stored <c>__meta.version</c> for <paramref name="cfg"/>, or 1 if absent.</summary>
+    /// <param name="cfg">Config whose version is read.</param>
+    /// <param name="obj">Repository object wrapper used by YAML path.</param>
+    default int readVersion(IDreamConfig cfg, DreamConfigObject obj) throws Exception {
+        return ConfigVersions.fromTree(obj.asDeepMap(cfg.documentID()));
+    }
+
+    /// <summary>Load the config from the backing store into <paramref name="cfg"/>.</summary>
+    /// <param name="cfg">Target config to populate.</param>
+    /// <param name="obj">Repository object wrapper used by YAML path.</param>
+    void load(IDreamConfig cfg, DreamConfigObject obj) throws Exception;
+
+    /// <summary>
+    /// Load <paramref name="cfg"/> and return the stored version in one pass over the backing document.
+    /// </summary>
+    /// <param name="cfg">Target config to populate.</param>
+    /// <param name="obj">Repository object wrapper used by YAML path.</param>
+    /// <returns>Stored <c>__meta.version</c>, or 1 if absent.</returns>
+    /// <remarks>
+    /// Default calls <see cref="load"/> then <see cref="readVersion"/>; repositories that can read both at
+    /// once should override it.
+    /// </remarks>
+    default int loadWithVersion(IDreamConfig cfg, DreamConfigObject obj) throws Exception {
+        load(cfg, obj);
+        return readVersion(cfg, obj);
+    }
+
+    /// <summary>Remove the stored document for <paramref name="cfg"/>.</summary>
+    /// <param name="cfg">Config whose document is deleted.</param>
+    /// <param name="obj">Repository object wrapper used by YAML path.</param>
+    /// <remarks>Default deletes the YAML file behind <paramref name="obj"/>.</remarks>
+    default void delete(IDreamConfig cfg, DreamConfigObject obj) throws Exception {
+        obj.delete();
+    }
+
+    /// <summary>
+    /// Persist several configs in one call.
+    /// </summary>
+    /// <param name="cfgs">Configs to save.</param>
+    /// <param name="objects">Repository object wrapper for each config (YAML path).</param>
+    /// <returns>Written version per document, or the cause for each document that failed.</returns>
+    /// <remarks>
+    /// Default calls <see cref="save"/> per config. Repositories with a bulk write should override it so a
+    /// batch costs a few round trips rather than one per document.
+    /// </remarks>
+    default BatchResult saveAll(List<? extends IDreamConfig> cfgs, Function<IDreamConfig, DreamConfigObject> objects) {
+        var result = new BatchResult();
+        for (var cfg : cfgs) {
+            try {
+                save(cfg, objects.apply(cfg));
+                result.succeeded(cfg.documentID(), ConfigVersions.target(cfg.getClass()));
+            } catch (Exception e) {
+                result.failed(cfg.documentID(), e);
+            }
+        }
+        return result;
+    }
+
+    /// <summary>
+    /// Load several configs in one call, populating each in place.
+    /// </summary>
+    /// <param name="cfgs">Target configs, one per document id.</param>
+    /// <param name="objects">Repository object wrapper for each config (YAML path).</param>
+    /// <returns>Stored version per document (1 if absent), or the cause for each document that failed.</returns>
+    /// <remarks>Default calls <see cref="loadWithVersion"/> per config.</remarks>
+    default BatchResult loadMany(List<? extends IDreamConfig> cfgs, Function<IDreamConfig, DreamConfigObject> objects) {
+        var result = new BatchResult();
+        for (var cfg : cfgs) {
+            try { result.succeeded(cfg.documentID(), loadWithVersion(cfg, objects.apply(cfg))); }
+            catch (Exception e) { result.failed(cfg.documentID(), e); }
+        }
+        return result;
+    }
+
+    /// <summary>
+    /// Delete several stored documents in one call.
+    /// </summary>
+    /// <param name="cfgs">Configs whose documents are deleted.</param>
+    /// <param name="objects">Repository object wrapper for each config (YAML path).</param>
+    /// <returns>Deleted documents (version 0), or the cause for each document that failed.</returns>
+    /// <remarks>Default calls <see cref="delete"/> per config.</remarks>
+    default BatchResult deleteMany(List<? extends IDreamConfig> cfgs, Function<IDreamConfig, DreamConfigObject> objects) {
+        var result = new BatchResult();
+        for (var cfg : cfgs) {
+            try {
+                delete(cfg, objects.apply(cfg));
+                result.succeeded(cfg.documentID(), 0);
+            } catch (Exception e) {
+                result.failed(cfg.documentID(), e);
+            }
+        }
+        return result;
+    }
+
+    /// <summary>Resolve on-disk path (YAML) or logical path (other repos).</summary>
+    /// <param name="cfg">Config instance.</param>
+    /// <returns>Relative path segment for this config.</returns>
+    String resolvePath(IDreamConfig cfg);
+
+    /// <summary>
+    /// Extension of the per-document file <see cref="DreamConfigObject"/> binds to, including the dot.
+    /// </summary>
+    /// <remarks>
+    /// Defaults to <c>.yml</c>; file-based repositories with their own format override it. <c>null</c> means the
+    /// repository keeps no file per document, so none is created.
+    /// </remarks>
+    default String fileExtension() { return ".yml"; }
+
+    /// <summary>True if nothing is stored for <paramref name="cfg"/> yet (drives <c>FirstLoadConfig</c>).</summary>
+    /// <remarks>Defaults to whether <see cref="DreamConfigObject"/> had to create the document file.</remarks>
+    default boolean isFirstLoad(IDreamConfig cfg, DreamConfigObject obj) throws Exception { return obj.isFirstLoad(); }
+
+    /// <summary>Enumerate config files under a base directory (YAML only).</summary>
+    /// <param name="plugin">Owning plugin.</param>
+    /// <param name="baseDir">Base directory relative to plugin data folder.</param>
+    /// <returns>List of files found (may be empty).</returns>
+    List<File> listConfigFiles(JavaPlugin plugin, File baseDir);
+
+    /// <summary>
+    /// Lazily enumerate config files under a base directory.
+    /// </summary>
+    /// <param name="plugin">Owning plugin.</param>
+    /// <param name="baseDir">Base directory relative to plugin data folder.</param>
+    /// <returns>Files in directory order; the stream holds the directory open and must be closed.</returns>
+    /// <remarks>
+    /// Default wraps <see cref="listConfigFiles"/>. File-backed repositories override it with a
+    /// <see cref="java.nio.file.DirectoryStream"/>, so entries are produced while the directory is still being read
+    /// and a large directory is never held as one list.
+    /// </remarks>
+    /// <example>
+    /// <code>
+    /// try (var files = repo.streamConfigFiles(plugin, new File("players"))) {
+    ///     files.map(repo::fileToDocumentId).forEach(System.out::println);
+    /// }
+    /// </code>
+    /// </example>
+    default Stream<File> streamConfigFiles(JavaPlugin plugin, File baseDir) {
+        return listConfigFiles(plugin, baseDir).stream();
+    }
+
+    /// <summary>
+    /// Open a streaming scan over every stored document of <paramref name="typeMarker"/>'s type.
+    /// </summary>
+    /// <param name="plugin">Owning plugin.</param>
+    /// <param name="typeMarker">Marker instance of the config type.</param>
+    /// <returns>A cursor positioned before the first document.</returns>
+    /// <remarks>
+    /// Default walks <see cref="streamConfigFiles"/> under <see cref="resolvePath"/> and loads each document
+    /// through <see cref="loadWithVersion"/> on demand. Repositories backed by a queryable store should
+    /// override it with a native cursor.
+    /// </remarks>
+    default ConfigCursor openCursor(JavaPlugin plugin, IDreamConfig typeMarker) throws Exception {
+        var scan = streamConfigFiles(plugin, new File(resolvePath(typeMarker)));
+        var files = scan.iterator();
+        return new ConfigCursor() {
+            private String current;
+
+            @Override public boolean advance() {
+                current = files.hasNext() ? fileToDocumentId(files.next()) : null;
+                return current != null;
+            }
+
+            @Override public String documentId() { return current; }
+
+            @Override public int load(IDreamConfig cfg, DreamConfigObject obj) throws Exception {
+                return loadWithVersion(cfg, obj);
+            }
+
+            @Override public void close() { scan.close(); }
+        };
+    }
+
+    /// <summary>Map a file name to a document ID (YAML only).</summary>
+    /// <param name="f">File to map.</param>
+    /// <returns>Document ID string.</returns>
+    String fileToDocumentId(File f);
+
+    /// <summary>Render a value for console viewing.</summary>
+    /// <param name="value">Value to render.</param>
+    /// <param name="indent">Indent size (spaces).</param>
+    /// <returns>Pretty string or <c>null</c> for null input.</returns>
+    String renderConsole(Object value, int indent) throws Exception;
+
+    /// <summary>Return a string of spaces for indentation.</summary>
+    /// <param name="spaces">Number of spaces.</param>
+    /// <returns>Indent string.</returns>
+    String indent(int spaces);
+}
\ No newline at end of file
@@ -0,0 +1,375 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Internal.Repo;
+
+import com.dreamfirestudios.dreamconfig.Internal.Reflection.DreamConfigDeSerializer;
+import com.dreamfirestudios.dreamconfig.Internal.Reflection.DreamConfigSerializer;
+import com.dreamfirestudios.dreamconfig.Internal.Reflection.FieldPlan;
+import com.dreamfirestudios.dreamconfig.Model.Interfaces.IDreamConfig;
+import com.dreamfirestudios.dreamconfig.Object.DreamConfigObject;
+import com.dreamfirestudios.dreamconfig.Versioning.ConfigVersions;
+import com.dreamfirestudios.dreamconfig.Versioning.MetadataKeys;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.BulkWriteOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReplaceOneModel;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.model.WriteModel;
+import org.bson.Document;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.File;
+import java.util.*;
+import java.util.function.Function;
+
+/// <summary>
+/// Mongo-backed repository. Collection name is provided at construction; document _id = <c>cfg.documentID()</c>.
+/// </summary>
+/// <remarks>
+/// This implementation bypasses YAML <see cref="DreamConfigObject"/> I/O and writes a BSON document with
+/// structure: <c>{ _id: &lt;docId&gt;, body: { ...fields... }, __meta: { version: n, type: &lt;class&gt; } }</c>. It mirrors lifecycle
+/// hook usage of the YAML path; the version can be probed on its own with a projection.
+/// </remarks>
+/// <example>
+/// <code>
+/// MongoConfigRepository repo = new MongoConfigRepository(client, "game", "configs");
+/// repo.save(cfg, null);
+/// repo.load(cfg, null);
+/// </code>
+/// </example>
+public final class MongoConfigRepository implements ConfigRepository {
+    /// <summary>Documents fetched per round trip by <see cref="openCursor"/>.</summary>
+    private static final int SCAN_BATCH = 256;
+    /// <summary>Ids per <c>$in</c> query in <see cref="loadMany"/> and <see cref="deleteMany"/>.</summary>
+    private static final int IN_BATCH = 1000;
+
+    private final MongoCollection<Document> collection;
+
+    /// <summary>
+    /// Create a repository bound to a specific database and collection.
+    /// </summary>
+    /// <param name="client">Mongo client.</param>
+    /// <param name="dbName">Database name.</param>
+    /// <param name="collectionName">Collection name.</param>
+    public MongoConfigRepository(MongoClient client, String dbName, String collectionName) {
+        MongoDatabase db = client.getDatabase(dbName);
+        this.collection = db.getCollection(collectionName);
+    }
+
+    /// <summary>
+    /// Save config to MongoDB (upsert), recording <c>__meta.version</c> and <c>__meta.type</c> in the same write.
+    /// </summary>
+    /// <param name="cfg">Config to persist.</param>
+    /// <param name="ignored">Unused (kept for interface compatibility).</param>
+    public void save(IDreamConfig cfg, DreamConfigObject ignored) throws Exception {
+        collection.replaceOne(new Document("_id", cfg.documentID()), toDocument(cfg), new ReplaceOptions().upsert(true));
+    }
+
+    /// <summary>
+    /// Upsert all configs with a single unordered <c>bulkWrite</c>; the driver splits it into as few
+    /// round trips as the server allows.
+    /// </summary>
+    /// <remarks>
+    /// A config that fails to serialize, or whose write the server rejects, is reported on its own;
+    /// the rest of the batch is still written.
+    /// </remarks>
+    public BatchResult saveAll(List<? extends IDreamConfig> cfgs, Function<IDreamConfig, DreamConfigObject> objects) {
+        var result = new BatchResult();
+        var models = new ArrayList<WriteModel<Document>>(cfgs.size());
+        var written = new ArrayList<IDreamConfig>(cfgs.size());
+        for (var cfg : cfgs) {
+            try {
+                models.add(new ReplaceOneModel<>(Filters.eq("_id", cfg.documentID()), toDocument(cfg), new ReplaceOptions().upsert(true)));
+                written.add(cfg);
+            } catch (Exception e) {
+                result.failed(cfg.documentID(), e);
+            }
+        }
+        if (models.isEmpty()) return result;
+
+        var rejected = new HashSet<Integer>();
+        try {
+            collection.bulkWrite(models, new BulkWriteOptions().ordered(false));
+        } catch (MongoBulkWriteException e) {
+            for (var error : e.getWriteErrors()) {
+                rejected.add(error.getIndex());
+                result.failed(written.get(error.getIndex()).documentID(), new IllegalStateException(error.getMessage()));
+            }
+        } catch (RuntimeException e) {
+            for (var cfg : written) result.failed(cfg.documentID(), e);
+            return result;
+        }
+        for (int i = 0; i < written.size(); i++) {
+            if (rejected.contains(i)) continue;
+            var cfg = written.get(i);
+            result.succeeded(cfg.documentID(), ConfigVersions.target(cfg.getClass()));
+        }
+        return result;
+    }
+
+    /// <summary>
+    /// Fetch all documents with <c>find({_id: {$in: ...}})</c>, <see cref="IN_BATCH"/> ids per query, and
+    /// populate each config from its document.
+    /// </summary>
+    /// <remarks>Configs with no stored document are left untouched and reported with version 1, as in <see cref="loadWithVersion"/>.</remarks>
+    public BatchResult loadMany(List<? extends IDreamConfig> cfgs, Function<IDreamConfig, DreamConfigObject> objects) {
+        var result = new BatchResult();
+        var byId = new LinkedHashMap<String, IDreamConfig>();
+        for (var cfg : cfgs) byId.put(cfg.documentID(), cfg);
+        var ids = new ArrayList<>(byId.keySet());
+        for (int from = 0; from < ids.size(); from += IN_BATCH) {
+            var chunk = ids.subList(from, Math.min(ids.size(), from + IN_BATCH));
+            try (MongoCursor<Document> it = collection.find(Filters.in("_id", chunk)).batchSize(IN_BATCH).iterator()) {
+                while (it.hasNext()) {
+                    var doc = it.next();
+                    var cfg = byId.get(String.valueOf(doc.get("_id")));
+                    if (cfg == null) continue;
+                    try { result.succeeded(cfg.documentID(), bind(doc, cfg, objects.apply(cfg))); }
+                    catch (Exception e) { result.failed(cfg.documentID(), e); }
+                }
+            } catch (RuntimeException e) {
+                for (var id : chunk) result.failed(id, e);
+            }
+        }
+        for (var id : ids) {
+            if (!result.isFailed(id) && !result.versions().containsKey(id)) result.succeeded(id, 1);
+        }
+        return result;
+    }
+
+    /// <summary>Delete the document by <c>_id</c> along with its YAML sidecar, if any.</summary>
+    public void delete(IDreamConfig cfg, DreamConfigObject obj) {
+        collection.deleteOne(Filters.eq("_id", cfg.documentID()));
+        if (obj != null) obj.delete();
+    }
+
+    /// <summary>Delete all documents with one <c>deleteMany({_id: {$in: ...}})</c> per <see cref="IN_BATCH"/> ids.</summary>
+    public BatchResult deleteMany(List<? extends IDreamConfig> cfgs, Function<IDreamConfig, DreamConfigObject> objects) {
+        var result = new BatchResult();
+        for (int from = 0; from < cfgs.size(); from += IN_BATCH) {
+            var chunk = cfgs.subList(from, Math.min(cfgs.size(), from + IN_BATCH));
+            var ids = new ArrayList<String>(chunk.size());
+            for (var cfg : chunk) ids.add(cfg.documentID());
+            try {
+                collection.deleteMany(Filters.in("_id", ids));
+            } catch (RuntimeException e) {
+                for (var id : ids) result.failed(id, e);
+                continue;
+            }
+            for (var cfg : chunk) {
+                var obj = objects.apply(cfg);
+                if (obj != null) obj.delete();
+                result.succeeded(cfg.documentID(), 0);
+            }
+        }
+        return result;
+    }
+
+    /// <summary>Build the stored document: body, <c>__meta.version</c> and <c>__meta.type</c>.</summary>
+    private static Document toDocument(IDreamConfig cfg) throws Exception {
+        var tmp = new Document();
+        var body = DreamConfigSerializer.writeObject(cfg.getClass(), cfg);
+        tmp.put("_id", cfg.documentID());
+        tmp.put("body", new Document(body));
+        tmp.put(MetadataKeys.META_ROOT, new Document("version", ConfigVersions.target(cfg.getClass()))
+                .append("type", cfg.getClass().getName()));
+        return tmp;
+    }
+
+    /// <summary>
+    /// Load config from MongoDB by <c>_id</c> and populate <paramref name="cfg"/>.
+    /// </summary>
+    /// <param name="cfg">Target config.</param>
+    /// <param name="ignored">Unused (kept for interface compatibility).</param>
+    public void load(IDreamConfig cfg, DreamConfigObject ignored) throws Exception {
+        loadWithVersion(cfg, ignored);
+    }
+
+    /// <summary>
+    /// Load the document once and return its stored version alongside populating <paramref name="cfg"/>.
+    /// </summary>
+    /// <param name="cfg">Target config.</param>
+    /// <param name="obj">YAML sidecar consulted only for documents written before versions were stored in Mongo.</param>
+    public int loadWithVersion(IDreamConfig cfg, DreamConfigObject obj) throws Exception {
+        Document doc = collection.find(Filters.eq("_id", cfg.documentID())).first();
+        if (doc == null) return 1;
+        return bind(doc, cfg, obj);
+    }
+
+    /// <summary>
+    /// Stream every document saved for <paramref name="typeMarker"/>'s class, matched on <c>__meta.type</c>.
+    /// </summary>
+    /// <remarks>
+    /// Backed by a server-side cursor fetched in batches of <see cref="SCAN_BATCH"/>, so only one batch is
+    /// held in memory. Documents saved before <c>__meta.type</c> was recorded are matched too when every key of
+    /// their body is a persisted field of the class. The scan never writes: an untyped document may fit several
+    /// types sharing the collection, so it is typed by its next save or by <see cref="backfillType"/>.
+    /// </remarks>
+    public ConfigCursor openCursor(JavaPlugin plugin, IDreamConfig typeMarker) {
+        var type = typeMarker.getClass();
+        MongoCursor<Document> it = collection.find(Filters.or(
+                        Filters.eq(MetadataKeys.META_TYPE, type.getName()),
+                        Filters.exists(MetadataKeys.META_TYPE, false)))
+                .batchSize(SCAN_BATCH)
+                .iterator();
+        return new ConfigCursor() {
+            private Document current;
+
+            @Override public boolean advance() {
+                while (it.hasNext()) {
+                    current = it.next();
+                    if (matches(current, type)) return true;
+                }
+                current = null;
+                return false;
+            }
+
+            @Override public String documentId() { return String.valueOf(current.get("_id")); }
+
+            @Override public int load(IDreamConfig cfg, DreamConfigObject obj) throws Exception {
+                return bind(current, cfg, obj);
+            }
+
+            @Override public void close() { it.close(); }
+        };
+    }
+
+    /// <summary>
+    /// True if <paramref name="doc"/> may belong to <paramref name="type"/>: typed for it, or untyped with a body
+    /// made only of the type's persisted fields.
+    /// </summary>
+    private static boolean matches(Document doc, Class<?> type) {
+        var meta = doc.get(MetadataKeys.META_ROOT, Document.class);
+        if (meta != null && meta.get("type") != null) return true;
+        var body = doc.get("body", Document.class);
+        if (body == null || body.isEmpty()) return false;
+        var plan = FieldPlan.of(type);
+        for (var key : body.keySet()) if (plan.field(key) == null) return false;
+        return true;
+    }
+
+    /// <summary>
+    /// Record <paramref name="type"/> as the <c>__meta.type</c> of the listed documents that have none yet.
+    /// </summary>
+    /// <param name="type">Config class the documents were saved by.</param>
+    /// <param name="ids">Document ids known to belong to <paramref name="type"/>.</param>
+    /// <returns>Number of documents updated.</returns>
+    /// <remarks>
+    /// A one-off migration step for collections written before the type was stored: after it, scans of
+    /// <paramref name="type"/> match these documents by type and other types sharing the collection no longer
+    /// see them. Documents that already carry a type are left unchanged.
+    /// </remarks>
+    /// <example>
+    /// <code>
+    /// repo.backfillType(PlayerStats.class, legacyStatIds);
+    /// </code>
+    /// </example>
+    public long backfillType(Class<? extends IDreamConfig> type, Collection<String> ids) {
+        if (ids.isEmpty()) return 0;
+        return collection.updateMany(Filters.and(Filters.in("_id", ids), Filters.exists(MetadataKeys.META_TYPE, false)),
+                Updates.set(MetadataKeys.META_TYPE, type.getName())).getModifiedCount();
+    }
+
+    /// <summary>Populate <paramref name="cfg"/> from a fetched document and return its stored version.</summary>
+    private static int bind(Document doc, IDreamConfig cfg, DreamConfigObject obj) throws Exception {
+        Document body = doc.get("body", Document.class);
+        if (body != null) {
+            // Convert BSON -> Java map tree expected by YAML-style deserializer
+            HashMap<Object, Object> javaTree = fromBson(body);
+
+            cfg.BeforeLoadConfig();
+            DreamConfigDeSerializer.readObject(javaTree, cfg.getClass(), cfg);
+            cfg.AfterLoadConfig();
+        }
+        return versionOf(doc, cfg, obj);
+    }
+
+    /// <summary>
+    /// Update only <c>__meta.version</c>; a no-op when it equals the declared version, which <see cref="save"/>
+    /// already wrote.
+    /// </summary>
+    public void writeVersion(IDreamConfig cfg, DreamConfigObject obj, int version) {
+        if (version == ConfigVersions.target(cfg.getClass())) return;
+        collection.updateOne(Filters.eq("_id", cfg.documentID()), Updates.set(MetadataKeys.META_VERSION, version));
+    }
+
+    /// <summary>
+    /// Probe the stored version with a projection on <c>__meta.version</c>, without fetching the body.
+    /// </summary>
+    public int readVersion(IDreamConfig cfg, DreamConfigObject obj) throws Exception {
+        Document doc = collection.find(Filters.eq("_id", cfg.documentID()))
+                .projection(Projections.include(MetadataKeys.META_VERSION))
+                .first();
+        return doc == null ? 1 : versionOf(doc, cfg, obj);
+    }
+
+    /// <summary>
+    /// Extract <c>__meta.version</c>; documents saved before it was stored in Mongo fall back to the YAML sidecar.
+    /// </summary>
+    private static int versionOf(Document doc, IDreamConfig cfg, DreamConfigObject obj) throws Exception {
+        var meta = doc.get(MetadataKeys.META_ROOT, Document.class);
+        if (meta != null && meta.get("version") != null) return ConfigVersions.parse(meta.get("version"));
+        if (obj == null || !obj.getFile().exists()) return 1;
+        return ConfigVersions.fromTree(obj.asDeepMap(cfg.documentID()));
+    }
+
+    /// <summary>Not used for Mongo; returns empty string.</summary>
+    public String resolvePath(IDreamConfig cfg) { return ""; }
+
+    /// <summary>Not used for Mongo; returns empty list.</summary>
+    public List<File> listConfigFiles(JavaPlugin plugin, File baseDir) { return List.of(); }
+
+    /// <summary>Maps a file to its document id (unused in Mongo); returns file name.</summary>
+    public String fileToDocumentId(File f) { return f.getName(); }
+
+    /// <summary>Render a primitive console representation (indent applied).</summary>
+    public String renderConsole(Object value, int indent) { return " ".repeat(indent) + String.valueOf(value); }
+
+    /// <summary>Return an indent string.</summary>
+    public String indent(int spaces) { return " ".repeat(Math.max(0, spaces)); }
+
+    /// <summary>Recursively convert BSON <see cref="Document"/> to Java map/list primitives.</summary>
+    private static HashMap<Object, Object> fromBson(Document document) {
+        HashMap<Object, Object> out = new HashMap<>();
+        for (Map.Entry<String, Object> e : document.entrySet()) out.put(e.getKey(), fromBsonValue(e.getValue()));
+        return out;
+    }
+
+    /// <summary>Convert a single BSON value to plain Java types.</summary>
+    private static Object fromBsonValue(Object v) {
+        if (v instanceof Document d) return fromBson(d);
+        if (v instanceof List<?> list) {
+            ArrayList<Object> out = new ArrayList<>(list.size());
+            for (Object item : list) out.add(fromBsonValue(item));
+            return out;
+        }
+        return v;
+    }
+}
\ No newline at end of file
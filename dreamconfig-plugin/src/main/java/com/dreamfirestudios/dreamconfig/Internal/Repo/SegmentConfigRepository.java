@@ -0,0 +1,221 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Internal.Repo;
+
+import com.dreamfirestudios.dreamconfig.Internal.Binary.BinaryDocument;
+import com.dreamfirestudios.dreamconfig.Internal.ConfigLog;
+import com.dreamfirestudios.dreamconfig.Internal.Reflection.DreamConfigDeSerializer;
+import com.dreamfirestudios.dreamconfig.Internal.Segment.SegmentStore;
+import com.dreamfirestudios.dreamconfig.Model.Interfaces.IDreamConfig;
+import com.dreamfirestudios.dreamconfig.Model.Interfaces.StoragePath;
+import com.dreamfirestudios.dreamconfig.Object.DreamConfigObject;
+import com.dreamfirestudios.dreamconfig.Versioning.ConfigVersions;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/// <summary>
+/// Log-structured repository: documents of a type are appended to shared segment files instead of one file each.
+/// </summary>
+/// <remarks>
+/// <para>
+/// Every config type gets one <see cref="SegmentStore"/> in <c>&lt;data folder&gt;/&lt;path&gt;/</c>, where the path is
+/// the <see cref="StoragePath"/> value or the class's fully qualified name. A save is a sequential append of the
+/// document's <see cref="BinaryDocument"/> encoding, a load is one positional read, and <see cref="saveAll"/> appends a
+/// whole batch in a single write. Nothing is created per document, so hundreds of thousands of player files
+/// become a handful of segments.
+/// </para>
+/// <para>Stores are checkpointed and closed by <see cref="close"/>, which DreamConfig calls on disable.</para>
+/// </remarks>
+/// <example>
+/// <code>
+/// DreamConfigAPI.setRepository(new SegmentConfigRepository()); // or storage.format: segment
+/// </code>
+/// </example>
+public final class SegmentConfigRepository implements ConfigRepository, AutoCloseable {
+    private static final YamlConfigRepository YAML = new YamlConfigRepository();
+
+    private final ConcurrentHashMap<Path, SegmentStore> stores = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    /// <summary>Append the encoded document to its type's store.</summary>
+    public void save(IDreamConfig cfg, DreamConfigObject obj) throws Exception {
+        cfg.BeforeSaveConfig();
+        storeFor(obj).put(cfg.documentID(), BinaryDocument.encode(cfg, ConfigVersions.target(cfg.getClass())));
+    }
+
+    /// <summary>Encode every config and append them to each store in one write.</summary>
+    @Override
+    public BatchResult saveAll(List<? extends IDreamConfig> cfgs, Function<IDreamConfig, DreamConfigObject> objects) {
+        var result = new BatchResult();
+        var batches = new LinkedHashMap<SegmentStore, LinkedHashMap<String, byte[]>>();
+        var members = new LinkedHashMap<SegmentStore, List<IDreamConfig>>();
+        for (var cfg : cfgs) {
+            try {
+                cfg.BeforeSaveConfig();
+                var store = storeFor(objects.apply(cfg));
+                batches.computeIfAbsent(store, s -> new LinkedHashMap<>())
+                        .put(cfg.documentID(), BinaryDocument.encode(cfg, ConfigVersions.target(cfg.getClass())));
+                members.computeIfAbsent(store, s -> new ArrayList<>()).add(cfg);
+            } catch (Exception e) {
+                result.failed(cfg.documentID(), e);
+            }
+        }
+        for (var batch : batches.entrySet()) {
+            var written = members.get(batch.getKey());
+            try {
+                batch.getKey().putAll(batch.getValue());
+                for (var cfg : written) result.succeeded(cfg.documentID(), ConfigVersions.target(cfg.getClass()));
+            } catch (Exception e) {
+                for (var cfg : written) result.failed(cfg.documentID(), e);
+            }
+        }
+        return result;
+    }
+
+    /// <summary>
+    /// A no-op for the declared version, which <see cref="save"/> already wrote; otherwise rewrite the stored
+    /// document only when its version differs from <paramref name="version"/>.
+    /// </summary>
+    public void writeVersion(IDreamConfig cfg, DreamConfigObject obj, int version) throws Exception {
+        if (version == ConfigVersions.target(cfg.getClass())) return;
+        var store = storeFor(obj);
+        var bytes = store.get(cfg.documentID());
+        if (bytes == null) {
+            store.put(cfg.documentID(), BinaryDocument.encode(cfg.getClass().getName(), version, Map.of()));
+            return;
+        }
+        var doc = BinaryDocument.decode(bytes);
+        if (doc.version() != version) store.put(cfg.documentID(), BinaryDocument.encode(doc.type(), version, doc.fields()));
+    }
+
+    /// <summary>Read and bind the latest stored document.</summary>
+    public void load(IDreamConfig cfg, DreamConfigObject obj) throws Exception {
+        loadWithVersion(cfg, obj);
+    }
+
+    /// <summary>Read the document once, bind it and return its stored version (1 if absent).</summary>
+    public int loadWithVersion(IDreamConfig cfg, DreamConfigObject obj) throws Exception {
+        cfg.BeforeLoadConfig();
+        var bytes = storeFor(obj).get(cfg.documentID());
+        int version = 1;
+        if (bytes != null) {
+            var doc = BinaryDocument.decode(bytes);
+            DreamConfigDeSerializer.readObject(doc.fields(), cfg.getClass(), cfg);
+            version = doc.version();
+        }
+        cfg.AfterLoadConfig();
+        return version;
+    }
+
+    /// <summary>Stored <c>__meta.version</c>, or 1 if the document is absent.</summary>
+    public int readVersion(IDreamConfig cfg, DreamConfigObject obj) throws Exception {
+        var bytes = storeFor(obj).get(cfg.documentID());
+        return bytes == null ? 1 : BinaryDocument.readVersion(bytes);
+    }
+
+    /// <summary>Append a tombstone for the document.</summary>
+    @Override
+    public void delete(IDreamConfig cfg, DreamConfigObject obj) throws Exception {
+        storeFor(obj).delete(cfg.documentID());
+    }
+
+    /// <summary>True if the store has no document with this id.</summary>
+    @Override
+    public boolean isFirstLoad(IDreamConfig cfg, DreamConfigObject obj) {
+        return !storeFor(obj).contains(cfg.documentID());
+    }
+
+    /// <summary>
+    /// One store per type: the <see cref="StoragePath"/> value, else the class's fully qualified name, so two
+    /// types with the same simple name never share a store (and document ids).
+    /// </summary>
+    public String resolvePath(IDreamConfig cfg) {
+        var path = cfg.getClass().getAnnotation(StoragePath.class);
+        return path != null ? path.value() : cfg.getClass().getName();
+    }
+
+    /// <summary>No file per document.</summary>
+    @Override public String fileExtension() { return null; }
+
+    /// <summary>One entry per stored document id (the files do not exist; only their names are used).</summary>
+    public List<File> listConfigFiles(JavaPlugin plugin, File baseDir) {
+        try (var files = streamConfigFiles(plugin, baseDir)) { return files.collect(Collectors.toList()); }
+    }
+
+    /// <summary>As <see cref="listConfigFiles"/>, creating each entry only as the stream is consumed.</summary>
+    @Override
+    public Stream<File> streamConfigFiles(JavaPlugin plugin, File baseDir) {
+        var dir = new File(plugin.getDataFolder(), baseDir.getPath());
+        if (!dir.isDirectory()) return Stream.empty();
+        return storeFor(dir.toPath()).ids().stream().map(id -> new File(dir, id));
+    }
+
+    /// <summary>The entry's name is the document id.</summary>
+    public String fileToDocumentId(File f) { return f.getName(); }
+
+    /// <summary>Render like the YAML repository.</summary>
+    public String renderConsole(Object value, int indent) throws Exception { return YAML.renderConsole(value, indent); }
+
+    /// <summary>Return indentation string.</summary>
+    public String indent(int spaces) { return YAML.indent(spaces); }
+
+    /// <summary>Checkpoint and close every open store; later reads and writes fail instead of reopening one.</summary>
+    @Override
+    public void close() {
+        closed = true;
+        for (var store : stores.values()) {
+            try { store.close(); }
+            catch (IOException e) { ConfigLog.error("[DreamConfig] Failed to close segment store", e); }
+        }
+        stores.clear();
+    }
+
+    private SegmentStore storeFor(DreamConfigObject obj) {
+        return storeFor(obj.getFile().getAbsoluteFile().getParentFile().toPath());
+    }
+
+    private SegmentStore storeFor(Path directory) {
+        if (closed) throw new IllegalStateException("Segment repository is closed");
+        return stores.computeIfAbsent(directory.toAbsolutePath().normalize(), dir -> {
+            try {
+                var store = SegmentStore.open(dir);
+                ConfigLog.info(store.describe());
+                return store;
+            } catch (IOException e) {
+                throw new RuntimeException("Failed to open segment store: " + dir, e);
+            }
+        });
+    }
+}
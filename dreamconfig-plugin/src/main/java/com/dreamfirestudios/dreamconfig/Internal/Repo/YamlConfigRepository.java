@@ -25,22 +25,32 @@ package com.dreamfirestudios.dreamconfig.Internal.Repo;
 
 import com.dreamfirestudios.dreamconfig.Internal.Reflection.DreamConfigDeSerializer;
 import com.dreamfirestudios.dreamconfig.Internal.Reflection.DreamConfigSerializer;
+import com.dreamfirestudios.dreamconfig.Internal.Yaml.YamlStreamReader;
+import com.dreamfirestudios.dreamconfig.Internal.Yaml.YamlStreamWriter;
 import com.dreamfirestudios.dreamconfig.Model.Interfaces.IDreamConfig;
 import com.dreamfirestudios.dreamconfig.Model.Interfaces.StoragePath;
 import com.dreamfirestudios.dreamconfig.Object.DreamConfigObject;
-import com.dreamfirestudios.dreamcore.DreamFile.DreamDir;
+import com.dreamfirestudios.dreamconfig.Versioning.ConfigVersions;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /// <summary>
 /// YAML-backed repository implementation (default).
 /// </summary>
 /// <remarks>
-/// Uses <see cref="DreamConfigSerializer"/> and <see cref="DreamConfigDeSerializer"/> to handle all
-/// reflection and hook invocation. The filesystem path is resolved via <see cref="StoragePath"/> or
+/// Saves are streamed by <see cref="YamlStreamWriter"/> and loads by <see cref="YamlStreamReader"/>, which falls
+/// back to <see cref="DreamConfigDeSerializer"/> for YAML it cannot stream.
+/// <see cref="DreamConfigSerializer"/> remains available for callers that build a <c>FileConfiguration</c> themselves. The filesystem path is resolved via <see cref="StoragePath"/> or
 /// <see cref="IDreamConfig.useSubFolder()"/>/<see cref="IDreamConfig.documentID()"/>.
 /// </remarks>
 /// <example>
@@ -53,11 +63,64 @@ import java.util.stream.Collectors;
 /// </example>
 public final class YamlConfigRepository implements ConfigRepository {
 
-    /// <summary>Save via YAML serializer.</summary>
-    public void save(IDreamConfig cfg, DreamConfigObject obj) throws Exception { DreamConfigSerializer.save(cfg, obj); }
+    /// <summary>
+    /// Save by streaming YAML straight to the document file, including header/footer and <c>__meta.version</c>.
+    /// </summary>
+    /// <remarks>
+    /// Bypasses the <c>FileConfiguration</c> held by <paramref name="obj"/>, which is invalidated afterwards.
+    /// </remarks>
+    public void save(IDreamConfig cfg, DreamConfigObject obj) throws Exception {
+        cfg.BeforeSaveConfig();
+        YamlStreamWriter.write(obj.getFile().toPath(), cfg, ConfigVersions.target(cfg.getClass()));
+        obj.invalidate();
+    }
 
-    /// <summary>Load via YAML deserializer.</summary>
-    public void load(IDreamConfig cfg, DreamConfigObject obj) throws Exception { DreamConfigDeSerializer.load(cfg, obj); }
+    /// <summary>
+    /// Version metadata is written by <see cref="save"/>; only rewrites the file when the requested
+    /// version differs from the declared one.
+    /// </summary>
+    public void writeVersion(IDreamConfig cfg, DreamConfigObject obj, int version) throws Exception {
+        if (version != ConfigVersions.target(cfg.getClass())) ConfigRepository.super.writeVersion(cfg, obj, version);
+    }
+
+    /// <summary>
+    /// Load by binding YAML events straight into the config's fields (<see cref="YamlStreamReader"/>).
+    /// </summary>
+    /// <remarks>
+    /// Falls back to <see cref="DreamConfigDeSerializer"/> over the parsed <c>FileConfiguration</c> when the file
+    /// uses YAML features the streaming loader does not support (anchors, merge keys, custom tags).
+    /// </remarks>
+    public void load(IDreamConfig cfg, DreamConfigObject obj) throws Exception {
+        loadWithVersion(cfg, obj);
+    }
+
+    /// <summary>
+    /// Load and read <c>__meta.version</c> from a single parse of the document file.
+    /// </summary>
+    public int loadWithVersion(IDreamConfig cfg, DreamConfigObject obj) throws Exception {
+        cfg.BeforeLoadConfig();
+        int version;
+        var streamed = YamlStreamReader.read(obj.getFile().toPath(), cfg);
+        if (streamed.isPresent()) {
+            version = streamed.getAsInt();
+        } else {
+            var tree = obj.asDeepMap(cfg.documentID());
+            DreamConfigDeSerializer.readObject(tree, cfg.getClass(), cfg);
+            version = ConfigVersions.fromTree(tree);
+        }
+        cfg.AfterLoadConfig();
+        return version;
+    }
+
+    /// <summary>
+    /// Probe <c>__meta.version</c> without deserializing the document (<see cref="YamlStreamReader#readVersion"/>).
+    /// </summary>
+    public int readVersion(IDreamConfig cfg, DreamConfigObject obj) throws Exception {
+        var file = obj.getFile().toPath();
+        if (!Files.exists(file)) return 1;
+        var probed = YamlStreamReader.readVersion(file, cfg.documentID());
+        return probed.isPresent() ? probed.getAsInt() : ConfigRepository.super.readVersion(cfg, obj);
+    }
 
     /// <summary>
     /// Resolve the relative path for this config on disk.
@@ -77,10 +140,32 @@ public final class YamlConfigRepository implements ConfigRepository {
     /// <param name="baseDir">Relative base directory.</param>
     /// <returns>List of <c>.yml</c> files, or empty if none.</returns>
     public List<File> listConfigFiles(JavaPlugin plugin, File baseDir) {
-        var root = new File(plugin.getDataFolder(), baseDir.getPath());
-        if (!root.exists()) return List.of();
-        var all = DreamDir.returnAllFilesFromDirectory(root, false);
-        return all.stream().filter(f -> f.getName().endsWith(".yml")).collect(Collectors.toList());
+        try (var files = streamConfigFiles(plugin, baseDir)) { return files.collect(Collectors.toList()); }
+    }
+
+    /// <summary>Lazily list the <c>.yml</c> files within <paramref name="baseDir"/> (see <see cref="scan"/>).</summary>
+    @Override
+    public Stream<File> streamConfigFiles(JavaPlugin plugin, File baseDir) {
+        return scan(plugin, baseDir, ".yml");
+    }
+
+    /// <summary>
+    /// Stream the files ending in <paramref name="extension"/> directly inside <paramref name="baseDir"/> under the
+    /// plugin data folder, reading the directory as the stream is consumed.
+    /// </summary>
+    /// <returns>A stream that must be closed; empty if the directory does not exist.</returns>
+    static Stream<File> scan(JavaPlugin plugin, File baseDir, String extension) {
+        var root = new File(plugin.getDataFolder(), baseDir.getPath()).toPath();
+        if (!Files.isDirectory(root)) return Stream.empty();
+        DirectoryStream<Path> dir;
+        try { dir = Files.newDirectoryStream(root, "*" + extension); }
+        catch (IOException e) { throw new UncheckedIOException("Failed to list " + root, e); }
+        return StreamSupport.stream(dir.spliterator(), false)
+                .map(Path::toFile)
+                .onClose(() -> {
+                    try { dir.close(); }
+                    catch (IOException e) { throw new UncheckedIOException(e); }
+                });
     }
 
     /// <summary>Strip <c>.yml</c> extension to get document id.</summary>
@@ -0,0 +1,601 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Internal.Segment;
+
+import com.dreamfirestudios.dreamconfig.Enum.ConfigPriority;
+import com.dreamfirestudios.dreamconfig.Internal.ConfigExecutor;
+import com.dreamfirestudios.dreamconfig.Internal.ConfigLog;
+import com.dreamfirestudios.dreamconfig.Internal.Storage.AtomicFiles;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/// <summary>
+/// Append-only key/value store: documents are appended to segment files and located through an in-memory index.
+/// </summary>
+/// <remarks>
+/// <para>
+/// A directory holds <c>segment-NNNNNNNNNN.log</c> files and an <c>index.ckpt</c> checkpoint. Each record is
+/// <c>[payload length][CRC32C][op, id, value]</c>; a put or delete appends one record to the active segment, which
+/// rolls over at 64 MiB. The <c>id → (segment, offset)</c> index lives in memory, and reads are positional
+/// <see cref="FileChannel"/> reads that never block writers.
+/// </para>
+/// <para>
+/// Maintenance runs on the config executor at <see cref="ConfigPriority#BACKGROUND"/>. The index is checkpointed
+/// after a segment roll and once the appends since the last checkpoint reach the index size (at least 10 000),
+/// so recovery replays a bounded tail. When more than half of all segment bytes are dead, every sealed segment is
+/// merged: live records are copied to the active segment, a checkpoint is written, then the old files are deleted.
+/// </para>
+/// <para>
+/// On open, the checkpoint is loaded and the records after its position replayed; a torn or corrupt tail record
+/// (crash mid-append) is truncated. Without a usable checkpoint every segment is replayed in order.
+/// Unless the write mode is <see cref="AtomicFiles.WriteMode#IN_PLACE"/>, each <see cref="putAll"/> or
+/// <see cref="deleteAll"/> is forced to disk once before it returns, however many records it appends.
+/// </para>
+/// </remarks>
+/// <example>
+/// <code>
+/// try (var store = SegmentStore.open(dataDir.resolve("players"))) {
+///     store.put("uuid-1", BinaryDocument.encode(cfg, 1));
+///     byte[] bytes = store.get("uuid-1");
+/// }
+/// </code>
+/// </example>
+public final class SegmentStore implements AutoCloseable {
+    private static final long SEGMENT_BYTES = 64L << 20;
+    private static final int MIN_CHECKPOINT_APPENDS = 10_000;
+    private static final int RECORD_HEADER = 8;
+    private static final int CHECKPOINT_MAGIC = 0x44435349; // "DCSI"
+    private static final int CHECKPOINT_FORMAT = 1;
+    private static final byte PUT = 1, DELETE = 2;
+    private static final String SEGMENT_PREFIX = "segment-", SEGMENT_SUFFIX = ".log", CHECKPOINT = "index.ckpt";
+
+    private final Path directory;
+    private final ConcurrentHashMap<String, Location> index = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    private final Object writeLock = new Object();
+    private final Object maintenanceLock = new Object();
+    private final AtomicBoolean maintenanceQueued = new AtomicBoolean();
+    private Segment active;
+    private long appendsSinceCheckpoint;
+    private boolean checkpointWanted;
+    private volatile boolean closed;
+
+    /// <summary>Where the latest record of a document lives.</summary>
+    private static final class Location {
+        final Segment segment;
+        final long offset;
+        final int length;
+
+        Location(Segment segment, long offset, int length) {
+            this.segment = segment;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    /// <summary>One segment file; its channel is reopened if an interrupted reader closed it.</summary>
+    private static final class Segment {
+        final long id;
+        final Path path;
+        final AtomicLong live = new AtomicLong();
+        volatile long size;
+        volatile boolean retired;
+        private volatile FileChannel channel;
+
+        Segment(long id, Path path) throws IOException {
+            this.id = id;
+            this.path = path;
+            this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.size = channel.size();
+        }
+
+        FileChannel channel() throws IOException {
+            var ch = channel;
+            if (ch.isOpen() || retired) return ch;
+            synchronized (this) {
+                if (!channel.isOpen() && !retired) channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                return channel;
+            }
+        }
+
+        void readFully(ByteBuffer buffer, long position) throws IOException {
+            while (buffer.hasRemaining()) {
+                int n = channel().read(buffer, position);
+                if (n < 0) throw new IOException("Unexpected end of segment " + path.getFileName());
+                position += n;
+            }
+        }
+
+        void close() {
+            try { channel.close(); } catch (IOException ignored) {}
+        }
+    }
+
+    private SegmentStore(Path directory) { this.directory = directory; }
+
+    /// <summary>Open (creating if needed) the store in <paramref name="directory"/> and recover its index.</summary>
+    public static SegmentStore open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        var store = new SegmentStore(directory);
+        store.recover();
+        return store;
+    }
+
+    /* --------------------------- reads --------------------------- */
+
+    /// <summary>Latest value stored for <paramref name="id"/>, or <c>null</c> if absent or deleted.</summary>
+    public byte[] get(String id) throws IOException {
+        while (true) {
+            if (closed) throw new IOException("Segment store is closed: " + directory);
+            var loc = index.get(id);
+            if (loc == null) return null;
+            try {
+                var record = ByteBuffer.allocate(loc.length);
+                loc.segment.readFully(record, loc.offset);
+                return valueOf(record.array(), id);
+            } catch (ClosedByInterruptException e) {
+                throw e;
+            } catch (ClosedChannelException e) {
+                // Compaction retired the segment after moving the record, or another reader was interrupted
+                // and closed the channel (it is reopened on the next access); look the id up again.
+            }
+        }
+    }
+
+    /// <summary>True if a live value is stored for <paramref name="id"/>.</summary>
+    public boolean contains(String id) { return index.containsKey(id); }
+
+    /// <summary>Snapshot of all stored ids.</summary>
+    public Set<String> ids() { return Set.copyOf(index.keySet()); }
+
+    /// <summary>Number of stored documents.</summary>
+    public int size() { return index.size(); }
+
+    /* --------------------------- writes --------------------------- */
+
+    /// <summary>Append a new value for <paramref name="id"/>.</summary>
+    public void put(String id, byte[] value) throws IOException {
+        putAll(Map.of(id, value));
+    }
+
+    /// <summary>Append values for several ids in one write (and at most one forced sync).</summary>
+    public void putAll(Map<String, byte[]> values) throws IOException {
+        if (values.isEmpty()) return;
+        var ids = new ArrayList<String>(values.size());
+        var records = new ArrayList<byte[]>(values.size());
+        for (var e : values.entrySet()) {
+            ids.add(e.getKey());
+            records.add(record(PUT, e.getKey(), e.getValue()));
+        }
+        synchronized (writeLock) {
+            var locations = append(records, true);
+            for (int i = 0; i < ids.size(); i++) replace(ids.get(i), locations.get(i));
+        }
+        scheduleMaintenanceIfDue();
+    }
+
+    /// <summary>Append a tombstone for <paramref name="id"/>.</summary>
+    /// <returns><c>true</c> if a value existed.</returns>
+    public boolean delete(String id) throws IOException {
+        return deleteAll(List.of(id)) > 0;
+    }
+
+    /// <summary>Append tombstones for every stored id in <paramref name="ids"/>.</summary>
+    /// <returns>Number of ids that had a value.</returns>
+    public int deleteAll(List<String> ids) throws IOException {
+        var present = new ArrayList<String>();
+        var records = new ArrayList<byte[]>();
+        for (var id : ids) {
+            if (!index.containsKey(id)) continue;
+            present.add(id);
+            records.add(record(DELETE, id, new byte[0]));
+        }
+        if (records.isEmpty()) return 0;
+        synchronized (writeLock) {
+            var locations = append(records, true);
+            for (int i = 0; i < present.size(); i++) {
+                var tombstone = locations.get(i);
+                tombstone.segment.live.addAndGet(-tombstone.length);
+                var old = index.remove(present.get(i));
+                if (old != null) old.segment.live.addAndGet(-old.length);
+            }
+        }
+        scheduleMaintenanceIfDue();
+        return present.size();
+    }
+
+    /// <summary>Append encoded records to the active segment; caller holds <see cref="writeLock"/>.</summary>
+    /// <param name="records">Encoded records, written in order.</param>
+    /// <param name="sync">Force the active segment once at the end (segments sealed on the way are forced by
+    /// <see cref="roll"/>); skipped in <see cref="AtomicFiles.WriteMode#IN_PLACE"/> mode.</param>
+    private List<Location> append(List<byte[]> records, boolean sync) throws IOException {
+        if (closed) throw new IOException("Segment store is closed: " + directory);
+        var locations = new ArrayList<Location>(records.size());
+        int i = 0;
+        while (i < records.size()) {
+            if (active.size > 0 && active.size + records.get(i).length > SEGMENT_BYTES) roll();
+            int from = i;
+            long bytes = 0;
+            while (i < records.size() && (i == from || active.size + bytes + records.get(i).length <= SEGMENT_BYTES))
+                bytes += records.get(i++).length;
+
+            var buffer = ByteBuffer.allocate((int) bytes);
+            for (int r = from; r < i; r++) buffer.put(records.get(r));
+            buffer.flip();
+            long start = active.size;
+            var channel = active.channel();
+            try {
+                long position = start;
+                while (buffer.hasRemaining()) position += channel.write(buffer, position);
+            } catch (IOException e) {
+                try { active.channel().truncate(start); } catch (IOException suppressed) { e.addSuppressed(suppressed); }
+                throw e;
+            }
+            long offset = start;
+            for (int r = from; r < i; r++) {
+                int length = records.get(r).length;
+                locations.add(new Location(active, offset, length));
+                active.live.addAndGet(length);
+                offset += length;
+            }
+            active.size = offset;
+            appendsSinceCheckpoint += i - from;
+        }
+        if (sync && AtomicFiles.mode() != AtomicFiles.WriteMode.IN_PLACE) active.channel().force(false);
+        return locations;
+    }
+
+    /// <summary>Point <paramref name="id"/> at <paramref name="loc"/>, marking the previous record dead.</summary>
+    private void replace(String id, Location loc) {
+        var old = index.put(id, loc);
+        if (old != null) old.segment.live.addAndGet(-old.length);
+    }
+
+    /// <summary>Seal the active segment and start a new one; caller holds <see cref="writeLock"/>.</summary>
+    private void roll() throws IOException {
+        active.channel().force(false);
+        long next = active.id + 1;
+        active = new Segment(next, segmentPath(next));
+        segments.put(next, active);
+        checkpointWanted = true;
+    }
+
+    /* --------------------------- maintenance --------------------------- */
+
+    private void scheduleMaintenanceIfDue() {
+        boolean due;
+        synchronized (writeLock) {
+            due = checkpointWanted || appendsSinceCheckpoint >= Math.max(MIN_CHECKPOINT_APPENDS, index.size()) || garbageHigh();
+        }
+        if (!due || !maintenanceQueued.compareAndSet(false, true)) return;
+        try {
+            ConfigExecutor.runAsync(ConfigPriority.BACKGROUND, this::maintain);
+        } catch (RejectedExecutionException e) {
+            maintenanceQueued.set(false);
+        }
+    }
+
+    private boolean garbageHigh() {
+        if (segments.size() < 2) return false;
+        long total = 0, live = 0;
+        for (var s : segments.values()) {
+            total += s.size;
+            live += s.live.get();
+        }
+        return total - live > total / 2;
+    }
+
+    private void maintain() {
+        maintenanceQueued.set(false);
+        synchronized (maintenanceLock) {
+            if (closed) return;
+            try {
+                if (garbageHigh()) compact();
+                else checkpoint();
+            } catch (IOException e) {
+                ConfigLog.error("[DreamConfig] Segment store maintenance failed in " + directory, e);
+            }
+        }
+    }
+
+    /// <summary>
+    /// Seal the active segment if it holds dead records, copy the live records of every sealed segment to a fresh one,
+    /// checkpoint, then delete the sealed files.
+    /// </summary>
+    /// <remarks>
+    /// All sealed segments are merged together, so a dropped tombstone can never let an older put reappear on a
+    /// full replay. A record is only copied if the index still points at it when the write lock is taken, so a
+    /// put or delete racing the merge is never followed by a stale copy.
+    /// </remarks>
+    public void compact() throws IOException {
+        synchronized (maintenanceLock) {
+            List<Segment> victims;
+            synchronized (writeLock) {
+                if (closed) return;
+                if (active.size > active.live.get()) roll();
+                victims = new ArrayList<>(segments.headMap(active.id).values());
+            }
+            if (victims.isEmpty()) return;
+            var victimSet = Set.copyOf(victims);
+            long moved = 0;
+            for (var entry : index.entrySet()) {
+                var loc = entry.getValue();
+                if (!victimSet.contains(loc.segment)) continue;
+                var record = ByteBuffer.allocate(loc.length);
+                loc.segment.readFully(record, loc.offset);
+                synchronized (writeLock) {
+                    // A put or delete since the read wrote a newer record; copying the old one after it would
+                    // bring the old value back on replay.
+                    if (index.get(entry.getKey()) != loc) continue;
+                    // No per-record force: the checkpoint below forces the segment before it is written.
+                    var copy = append(List.of(record.array()), false).get(0);
+                    index.put(entry.getKey(), copy);
+                    loc.segment.live.addAndGet(-loc.length);
+                    moved++;
+                }
+            }
+            checkpoint();
+            long freed = 0;
+            for (var segment : victims) {
+                segment.retired = true;
+                segments.remove(segment.id);
+                freed += segment.size;
+                segment.close();
+                Files.deleteIfExists(segment.path);
+            }
+            ConfigLog.info("[DreamConfig] Compacted " + victims.size() + " segment(s) in " + directory.getFileName()
+                    + ": moved " + moved + " documents, freed " + (freed >> 10) + " KiB");
+        }
+    }
+
+    /// <summary>Write the index to <c>index.ckpt</c> so recovery only replays later records.</summary>
+    public void checkpoint() throws IOException {
+        synchronized (maintenanceLock) {
+            Segment segment;
+            long position;
+            synchronized (writeLock) {
+                if (active == null) return;
+                segment = active;
+                position = active.size;
+                appendsSinceCheckpoint = 0;
+                checkpointWanted = false;
+            }
+            // Everything the checkpoint points at must be on disk before the checkpoint is.
+            segment.channel().force(false);
+            AtomicFiles.write(directory.resolve(CHECKPOINT), channel -> {
+                var crc = new CRC32C();
+                var out = new DataOutputStream(new BufferedOutputStream(new CheckedOutputStream(Channels.newOutputStream(channel), crc), 64 * 1024));
+                out.writeInt(CHECKPOINT_MAGIC);
+                out.writeInt(CHECKPOINT_FORMAT);
+                out.writeLong(segment.id);
+                out.writeLong(position);
+                // Entries changed after `position` are replayed on recovery, so a weakly consistent walk is enough.
+                for (var e : index.entrySet()) {
+                    var loc = e.getValue();
+                    out.writeBoolean(true);
+                    out.writeUTF(e.getKey());
+                    out.writeLong(loc.segment.id);
+                    out.writeLong(loc.offset);
+                    out.writeInt(loc.length);
+                }
+                out.writeBoolean(false);
+                out.flush();
+                out.writeInt((int) crc.getValue());
+                out.flush();
+            });
+        }
+    }
+
+    /// <summary>One-line summary for logs.</summary>
+    public String describe() {
+        long total = 0, live = 0;
+        for (var s : segments.values()) {
+            total += s.size;
+            live += s.live.get();
+        }
+        return "[DreamConfig] segment store " + directory.getFileName() + ": " + index.size() + " documents, "
+                + segments.size() + " segment(s), " + (total >> 10) + " KiB (" + ((total - live) >> 10) + " KiB dead)";
+    }
+
+    /// <summary>Checkpoint and close all segment files.</summary>
+    @Override
+    public void close() throws IOException {
+        synchronized (maintenanceLock) {
+            if (closed) return;
+            try { checkpoint(); }
+            finally {
+                synchronized (writeLock) { closed = true; }
+                for (var segment : segments.values()) segment.close();
+            }
+        }
+    }
+
+    /* --------------------------- recovery --------------------------- */
+
+    private void recover() throws IOException {
+        try (var files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            for (var file : files) {
+                var name = file.getFileName().toString();
+                long id;
+                try { id = Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())); }
+                catch (NumberFormatException e) { continue; }
+                segments.put(id, new Segment(id, file));
+            }
+        }
+
+        long fromSegment = Long.MIN_VALUE, fromPosition = 0;
+        var checkpoint = readCheckpoint();
+        if (checkpoint != null) {
+            fromSegment = checkpoint.segment;
+            fromPosition = checkpoint.position;
+        }
+        for (var segment : segments.values()) {
+            if (segment.id < fromSegment) continue;
+            replay(segment, segment.id == fromSegment ? fromPosition : 0, segment == segments.lastEntry().getValue());
+        }
+
+        for (var loc : index.values()) loc.segment.live.addAndGet(loc.length);
+        if (segments.isEmpty()) segments.put(0L, new Segment(0L, segmentPath(0L)));
+        active = segments.lastEntry().getValue();
+    }
+
+    /// <summary>Parsed checkpoint header; entries are loaded straight into the index.</summary>
+    private static final class Checkpoint {
+        final long segment;
+        final long position;
+
+        Checkpoint(long segment, long position) {
+            this.segment = segment;
+            this.position = position;
+        }
+    }
+
+    private Checkpoint readCheckpoint() {
+        var file = directory.resolve(CHECKPOINT);
+        if (!Files.exists(file)) return null;
+        var loaded = new HashMap<String, Location>();
+        try (var checked = new CheckedInputStream(new BufferedInputStream(Files.newInputStream(file), 64 * 1024), new CRC32C());
+             var in = new DataInputStream(checked)) {
+            if (in.readInt() != CHECKPOINT_MAGIC || in.readInt() != CHECKPOINT_FORMAT) throw new IOException("bad header");
+            long segmentId = in.readLong();
+            long position = in.readLong();
+            var head = segments.get(segmentId);
+            if (head == null || head.size < position) throw new IOException("segment " + segmentId + " missing or short");
+            while (in.readBoolean()) {
+                var id = in.readUTF();
+                var segment = segments.get(in.readLong());
+                long offset = in.readLong();
+                int length = in.readInt();
+                if (segment == null || offset + length > segment.size) throw new IOException("entry " + id + " points past its segment");
+                loaded.put(id, new Location(segment, offset, length));
+            }
+            long expected = checked.getChecksum().getValue();
+            if (in.readInt() != (int) expected) throw new IOException("checksum mismatch");
+            index.putAll(loaded);
+            return new Checkpoint(segmentId, position);
+        } catch (IOException e) {
+            ConfigLog.warn("[DreamConfig] Ignoring checkpoint in " + directory + " (" + e.getMessage() + "); replaying all segments");
+            return null;
+        }
+    }
+
+    private void replay(Segment segment, long from, boolean last) throws IOException {
+        long position = from;
+        var header = ByteBuffer.allocate(RECORD_HEADER);
+        while (position + RECORD_HEADER <= segment.size) {
+            header.clear();
+            segment.readFully(header, position);
+            int length = header.getInt(0);
+            int crc = header.getInt(4);
+            if (length <= 0 || position + RECORD_HEADER + length > segment.size) break;
+            var payload = ByteBuffer.allocate(length);
+            segment.readFully(payload, position + RECORD_HEADER);
+            var c = new CRC32C();
+            c.update(payload.array());
+            if ((int) c.getValue() != crc) break;
+            apply(segment, position, RECORD_HEADER + length, payload.array());
+            position += RECORD_HEADER + length;
+        }
+        if (position < segment.size) {
+            if (last) {
+                ConfigLog.warn("[DreamConfig] Truncating torn tail of " + segment.path + " at " + position + " (" + (segment.size - position) + " bytes)");
+                segment.channel().truncate(position);
+                segment.size = position;
+            } else {
+                ConfigLog.warn("[DreamConfig] Corrupt record in sealed " + segment.path + " at " + position + "; ignoring the rest of it");
+            }
+        }
+    }
+
+    private void apply(Segment segment, long offset, int length, byte[] payload) {
+        var id = idOf(payload);
+        if (payload[0] == DELETE) index.remove(id);
+        else index.put(id, new Location(segment, offset, length));
+    }
+
+    /* --------------------------- record codec --------------------------- */
+
+    /// <summary>Encode <c>[length][crc][op][id length][id][value]</c>.</summary>
+    private static byte[] record(byte op, String id, byte[] value) {
+        var idBytes = id.getBytes(StandardCharsets.UTF_8);
+        int payload = 1 + 4 + idBytes.length + value.length;
+        var buffer = ByteBuffer.allocate(RECORD_HEADER + payload);
+        buffer.putInt(payload).putInt(0).put(op).putInt(idBytes.length).put(idBytes).put(value);
+        var crc = new CRC32C();
+        crc.update(buffer.array(), RECORD_HEADER, payload);
+        buffer.putInt(4, (int) crc.getValue());
+        return buffer.array();
+    }
+
+    private static String idOf(byte[] payload) {
+        int idLength = ByteBuffer.wrap(payload, 1, 4).getInt();
+        return new String(payload, 5, idLength, StandardCharsets.UTF_8);
+    }
+
+    /// <summary>Value bytes of a full record read from disk, after checking its length, CRC and id.</summary>
+    private byte[] valueOf(byte[] record, String id) throws IOException {
+        var buffer = ByteBuffer.wrap(record);
+        int payload = buffer.getInt();
+        int crc = buffer.getInt();
+        var c = new CRC32C();
+        c.update(record, RECORD_HEADER, record.length - RECORD_HEADER);
+        if (payload != record.length - RECORD_HEADER || (int) c.getValue() != crc)
+            throw new IOException("Corrupt record for " + id + " in " + directory);
+        int idLength = buffer.getInt(RECORD_HEADER + 1);
+        int valueStart = RECORD_HEADER + 5 + idLength;
+        var value = new byte[record.length - valueStart];
+        System.arraycopy(record, valueStart, value, 0, value.length);
+        return value;
+    }
+
+    private Path segmentPath(long id) {
+        return directory.resolve(String.format("%s%010d%s", SEGMENT_PREFIX, id, SEGMENT_SUFFIX));
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Internal.Storage;
+
+import com.dreamfirestudios.dreamconfig.Internal.ConfigLog;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+
+/// <summary>
+/// Crash-safe file replacement for config saves.
+/// </summary>
+/// <remarks>
+/// <para>
+/// In the default <see cref="WriteMode#ATOMIC"/> mode a save writes a hidden sibling temp file
+/// (<c>.name.yml.N.tmp</c>), forces it to disk and renames it over the target with
+/// <see cref="StandardCopyOption#ATOMIC_MOVE"/>. A crash or a full disk mid-save leaves the previous file intact
+/// instead of a truncated one. Temp files a crash left behind are deleted the first time this process
+/// writes to their directory.
+/// </para>
+/// <para>
+/// <see cref="WriteMode#DURABLE"/> also fsyncs the parent directory so the rename itself survives power loss.
+/// Directory syncs are group-committed: writers in the same directory share one fsync, and the first writer
+/// waits <c>save.group-commit-ms</c> before issuing it so an autosave burst pays for a handful of syncs
+/// rather than one per document.
+/// </para>
+/// </remarks>
+/// <example>
+/// <code>
+/// AtomicFiles.configure(AtomicFiles.WriteMode.DURABLE, 2);
+/// AtomicFiles.write(file.toPath(), channel -> channel.write(ByteBuffer.wrap(bytes)));
+/// </code>
+/// </example>
+public final class AtomicFiles {
+    private static final AtomicLong TEMP_IDS = new AtomicLong();
+    private static final ConcurrentHashMap<Path, DirectorySync> DIRECTORIES = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<Path, StaleTemps> SWEPT = new ConcurrentHashMap<>();
+    private static final LongAdder DURABLE_WRITES = new LongAdder();
+    private static final LongAdder DIRECTORY_SYNCS = new LongAdder();
+
+    private static volatile WriteMode mode = WriteMode.ATOMIC;
+    private static volatile long groupCommitMillis = 2L;
+    private static volatile boolean atomicMoveWarned;
+    private static volatile boolean directorySyncUnsupported;
+    private static volatile BiConsumer<Path, BasicFileAttributes> writeObserver;
+    /// <summary>Writes made by this thread since <see cref="collectWrites"/>, or null when not collecting.</summary>
+    private static final ThreadLocal<Map<Path, BasicFileAttributes>> COLLECTED = new ThreadLocal<>();
+
+    private AtomicFiles() {}
+
+    /// <summary>How saves replace an existing file.</summary>
+    public enum WriteMode {
+        /// <summary>Truncate and rewrite the target in place (legacy behaviour, not crash-safe).</summary>
+        IN_PLACE,
+        /// <summary>Temp file, <c>force()</c>, atomic rename.</summary>
+        ATOMIC,
+        /// <summary><see cref="ATOMIC"/> plus a group-committed fsync of the parent directory.</summary>
+        DURABLE;
+
+        /// <summary>Parse a config value such as <c>atomic</c> or <c>in-place</c>; unknown values fall back to <see cref="ATOMIC"/>.</summary>
+        public static WriteMode from(String value) {
+            if (value == null) return ATOMIC;
+            try { return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_')); }
+            catch (IllegalArgumentException e) {
+                ConfigLog.warn("[DreamConfig] Unknown save.write-mode '" + value + "', using atomic");
+                return ATOMIC;
+            }
+        }
+    }
+
+    /// <summary>Body of a write: fills the (temp) file through <paramref name="channel"/>.</summary>
+    @FunctionalInterface
+    public interface ChannelWriter {
+        void write(FileChannel channel) throws IOException;
+    }
+
+    /// <summary>Set the write mode and directory group-commit window.</summary>
+    /// <param name="writeMode">Mode used by subsequent writes.</param>
+    /// <param name="groupCommitWindowMillis">How long the first writer of a batch waits before the directory fsync; 0 syncs at once.</param>
+    public static void configure(WriteMode writeMode, long groupCommitWindowMillis) {
+        mode = writeMode == null ? WriteMode.ATOMIC : writeMode;
+        groupCommitMillis = Math.max(0L, groupCommitWindowMillis);
+    }
+
+    /// <summary>Current write mode.</summary>
+    public static WriteMode mode() { return mode; }
+
+    /// <summary>
+    /// Register a callback told the absolute path of every file replaced through this class and the attributes
+    /// <see cref="write(Path, ChannelWriter)"/> returns for it, once the new contents are in place (used by the
+    /// hot-reload watcher to ignore our own writes). <c>null</c> removes it.
+    /// </summary>
+    public static void observeWrites(BiConsumer<Path, BasicFileAttributes> observer) { writeObserver = observer; }
+
+    /// <summary>
+    /// Start recording, for the calling thread only, the attributes of every file it replaces through this class,
+    /// so a caller several layers above the write can still stamp what it wrote. Ended by <see cref="takeWrites"/>.
+    /// </summary>
+    public static void collectWrites() { COLLECTED.set(new HashMap<>()); }
+
+    /// <summary>Stop recording for the calling thread.</summary>
+    /// <returns>Normalized absolute path → attributes of the last write to it since <see cref="collectWrites"/>.</returns>
+    public static Map<Path, BasicFileAttributes> takeWrites() {
+        var collected = COLLECTED.get();
+        COLLECTED.remove();
+        return collected == null ? Map.of() : collected;
+    }
+
+    /// <summary>Replace <paramref name="target"/> with <paramref name="data"/>.</summary>
+    /// <returns>Attributes of the written file; see <see cref="write(Path, ChannelWriter)"/>.</returns>
+    public static BasicFileAttributes write(Path target, byte[] data) throws IOException {
+        return write(target, channel -> {
+            var buffer = ByteBuffer.wrap(data);
+            while (buffer.hasRemaining()) channel.write(buffer);
+        });
+    }
+
+    /// <summary>
+    /// Replace <paramref name="target"/> with whatever <paramref name="body"/> writes, according to <see cref="mode"/>.
+    /// </summary>
+    /// <param name="target">File to create or replace.</param>
+    /// <param name="body">Writes the full new contents; the channel is positioned at 0 on an empty file.</param>
+    /// <returns>
+    /// Size and modification time of the new contents, read from the temp file before the rename (a rename keeps
+    /// both), so they describe this write even if the target is replaced again right after.
+    /// </returns>
+    /// <exception cref="IOException">If writing, forcing or renaming fails; the target is then left untouched.</exception>
+    public static BasicFileAttributes write(Path target, ChannelWriter body) throws IOException {
+        var writeMode = mode;
+        BasicFileAttributes written;
+        if (writeMode == WriteMode.IN_PLACE) {
+            try (var channel = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                body.write(channel);
+                written = Files.readAttributes(target, BasicFileAttributes.class);
+            }
+            notifyObserver(target.toAbsolutePath(), written);
+            return written;
+        }
+
+        var absolute = target.toAbsolutePath();
+        var directory = absolute.getParent();
+        SWEPT.computeIfAbsent(directory, StaleTemps::new).sweep();
+        var temp = directory.resolve("." + absolute.getFileName() + "." + TEMP_IDS.incrementAndGet() + ".tmp");
+        try {
+            try (var channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                body.write(channel);
+                channel.force(true);
+            }
+            written = Files.readAttributes(temp, BasicFileAttributes.class);
+            move(temp, absolute);
+        } catch (IOException | RuntimeException e) {
+            try { Files.deleteIfExists(temp); } catch (IOException suppressed) { e.addSuppressed(suppressed); }
+            throw e;
+        }
+        notifyObserver(absolute, written);
+        if (writeMode == WriteMode.DURABLE) {
+            DURABLE_WRITES.increment();
+            syncDirectory(directory);
+        }
+        return written;
+    }
+
+    /// <summary>True for the hidden temp files this class writes, so listings and watchers can skip them.</summary>
+    public static boolean isTempFile(Path file) {
+        var name = file.getFileName().toString();
+        return name.startsWith(".") && name.endsWith(".tmp");
+    }
+
+    /// <summary>True for a temp file named by <see cref="write(Path, ChannelWriter)"/>: <c>.name.N.tmp</c>.</summary>
+    private static boolean isOwnTempName(String name) {
+        if (!name.startsWith(".") || !name.endsWith(".tmp")) return false;
+        int end = name.length() - ".tmp".length();
+        int start = name.lastIndexOf('.', end - 1) + 1;
+        if (start <= 1 || start == end) return false;
+        for (int i = start; i < end; i++) if (!Character.isDigit(name.charAt(i))) return false;
+        return true;
+    }
+
+    /// <summary>
+    /// Make every rename already completed in <paramref name="directory"/> durable. Concurrent callers share a
+    /// single fsync; returns once a sync that started after this call has finished.
+    /// </summary>
+    public static void syncDirectory(Path directory) throws IOException {
+        if (directorySyncUnsupported) return;
+        DIRECTORIES.computeIfAbsent(directory, DirectorySync::new).await();
+    }
+
+    /// <summary>Writes performed in <see cref="WriteMode#DURABLE"/> mode.</summary>
+    public static long durableWrites() { return DURABLE_WRITES.sum(); }
+
+    /// <summary>Directory fsyncs actually issued; well below <see cref="durableWrites"/> when group commit is working.</summary>
+    public static long directorySyncs() { return DIRECTORY_SYNCS.sum(); }
+
+    private static void notifyObserver(Path target, BasicFileAttributes written) {
+        var collected = COLLECTED.get();
+        if (collected != null) collected.put(target.normalize(), written);
+        var observer = writeObserver;
+        if (observer == null) return;
+        try { observer.accept(target, written); }
+        catch (RuntimeException e) { ConfigLog.warn("[DreamConfig] Write observer failed for " + target + ": " + e); }
+    }
+
+    private static void move(Path temp, Path target) throws IOException {
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            if (!atomicMoveWarned) {
+                atomicMoveWarned = true;
+                ConfigLog.warn("[DreamConfig] Atomic rename not supported for " + target.getParent() + ", falling back to replace");
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /// <summary>
+    /// Deletes temp files a crashed or killed process left in one directory. Runs once per directory, before
+    /// this process writes its first temp file there; other writers to the directory wait for it, so only
+    /// files from earlier runs can be deleted.
+    /// </summary>
+    private static final class StaleTemps {
+        private final Path directory;
+        private volatile boolean done;
+
+        StaleTemps(Path directory) { this.directory = directory; }
+
+        void sweep() {
+            if (done) return;
+            synchronized (this) {
+                if (done) return;
+                int deleted = 0;
+                try (var children = Files.newDirectoryStream(directory, ".*.tmp")) {
+                    for (var child : children) {
+                        if (!isOwnTempName(child.getFileName().toString()) || !Files.isRegularFile(child)) continue;
+                        try {
+                            if (Files.deleteIfExists(child)) deleted++;
+                        } catch (IOException e) {
+                            ConfigLog.warn("[DreamConfig] Could not delete stale temp file " + child + ": " + e);
+                        }
+                    }
+                } catch (NoSuchFileException e) {
+                    // Nothing to clean; the write itself reports the missing directory.
+                } catch (IOException e) {
+                    ConfigLog.warn("[DreamConfig] Could not scan " + directory + " for stale temp files: " + e);
+                }
+                done = true;
+                if (deleted > 0) ConfigLog.info("[DreamConfig] Deleted " + deleted + " stale temp file(s) in " + directory);
+            }
+        }
+    }
+
+    /// <summary>Group-commit state for one directory: tickets are handed out per caller, one leader syncs for all.</summary>
+    private static final class DirectorySync {
+        private final Path directory;
+        private long requested;
+        private long completed;
+        private boolean syncing;
+
+        DirectorySync(Path directory) { this.directory = directory; }
+
+        void await() throws IOException {
+            long ticket;
+            synchronized (this) { ticket = ++requested; }
+            while (true) {
+                synchronized (this) {
+                    while (syncing && completed < ticket) {
+                        try { wait(); }
+                        catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            throw new InterruptedIOException("Interrupted waiting for directory sync: " + directory);
+                        }
+                    }
+                    if (completed >= ticket) return;
+                    syncing = true;
+                }
+                lead();
+            }
+        }
+
+        private void lead() throws IOException {
+            long covered = 0L;
+            try {
+                long window = groupCommitMillis;
+                if (window > 0L) {
+                    try { Thread.sleep(window); }
+                    catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+                }
+                synchronized (this) { covered = requested; }
+                force(directory);
+            } finally {
+                synchronized (this) {
+                    if (covered > completed) completed = covered;
+                    syncing = false;
+                    notifyAll();
+                }
+            }
+        }
+
+        private static void force(Path directory) throws IOException {
+            try (var channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+                channel.force(true);
+                DIRECTORY_SYNCS.increment();
+            } catch (IOException e) {
+                // Some platforms (Windows) cannot open a directory as a channel; the rename is still atomic there.
+                if (!directorySyncUnsupported) {
+                    directorySyncUnsupported = true;
+                    ConfigLog.info("[DreamConfig] Directory fsync not supported here (" + e.getMessage() + "); durable mode falls back to atomic");
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Internal.Yaml;
+
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.parser.Parser;
+import org.yaml.snakeyaml.parser.ParserImpl;
+import org.yaml.snakeyaml.reader.StreamReader;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32C;
+
+/// <summary>
+/// Bounded cache of parsed YAML documents, so re-reading a file that has not changed skips parsing.
+/// </summary>
+/// <remarks>
+/// <para>
+/// Entries are keyed by the normalized absolute path and hold the document's SnakeYAML event stream, which
+/// <see cref="YamlStreamReader"/> replays exactly as if it came from the parser. An entry is only used while
+/// the file's size and modification time still match; with <c>cache.verify-hash</c> on, a CRC32C of the
+/// content must match too, which catches edits that keep both.
+/// </para>
+/// <para>
+/// Our own writes (<see cref="YamlStreamWriter"/> and <c>DreamConfigObject.save</c>) call
+/// <see cref="recordWrite"/> with the text they wrote, so a save followed by a load never goes back to disk;
+/// the text is parsed once on first read. The least recently used entry is dropped beyond
+/// <c>cache.max-documents</c>, and files over 1 MiB are never cached.
+/// </para>
+/// </remarks>
+/// <example>
+/// <code>
+/// ParsedDocumentCache.configure(512, false);
+/// getLogger().info(ParsedDocumentCache.describe());
+/// // [DreamConfig] parse cache: 480 documents, hits=12034, misses=517
+/// </code>
+/// </example>
+public final class ParsedDocumentCache {
+    /// <summary>Hash value meaning "not computed".</summary>
+    public static final long NO_HASH = -1L;
+
+    private static final int MAX_CACHED_BYTES = 1 << 20;
+    private static final Map<Path, Entry> ENTRIES = new LinkedHashMap<>(64, 0.75f, true);
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+
+    private static volatile int maxDocuments = 512;
+    private static volatile boolean verifyHash;
+
+    private ParsedDocumentCache() {}
+
+    /// <summary>One cached file: identity at the time it was cached plus its events (or the text they come from).</summary>
+    private static final class Entry {
+        final long size;
+        final FileTime modified;
+        final long hash;
+        private List<Event> events;
+        private String text;
+
+        Entry(long size, FileTime modified, long hash, List<Event> events, String text) {
+            this.size = size;
+            this.modified = modified;
+            this.hash = hash;
+            this.events = events;
+            this.text = text;
+        }
+
+        boolean matches(BasicFileAttributes attrs) {
+            return size == attrs.size() && modified.equals(attrs.lastModifiedTime());
+        }
+
+        synchronized List<Event> events() {
+            if (events == null) {
+                events = parseAll(new ParserImpl(new StreamReader(new StringReader(text)), YamlStreamReader.options()));
+                text = null;
+            }
+            return events;
+        }
+    }
+
+    /// <summary>Replays an event list through the <see cref="Parser"/> interface.</summary>
+    static final class Replay implements Parser {
+        private final List<Event> events;
+        private int next;
+
+        Replay(List<Event> events) { this.events = events; }
+
+        @Override public boolean checkEvent(Event.ID choice) {
+            var event = peekEvent();
+            return event != null && event.is(choice);
+        }
+
+        @Override public Event peekEvent() { return next < events.size() ? events.get(next) : null; }
+
+        @Override public Event getEvent() { return next < events.size() ? events.get(next++) : null; }
+    }
+
+    /// <summary>Set the capacity (0 disables caching and clears it) and whether hits also verify a content hash.</summary>
+    public static void configure(int maxDocumentCount, boolean verifyContentHash) {
+        maxDocuments = Math.max(0, maxDocumentCount);
+        verifyHash = verifyContentHash;
+        synchronized (ENTRIES) { trim(); }
+    }
+
+    /// <summary>True when writers should pass a real hash to <see cref="recordWrite"/>.</summary>
+    public static boolean verifiesHash() { return verifyHash; }
+
+    /// <summary>CRC32C of <paramref name="bytes"/> if hash verification is on, otherwise <see cref="NO_HASH"/>.</summary>
+    public static long hashOf(byte[] bytes) {
+        if (!verifyHash) return NO_HASH;
+        var crc = new CRC32C();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
+    /// <summary>
+    /// Events of <paramref name="file"/>: the cached ones when the file is unchanged, otherwise a fresh parse that
+    /// is cached for next time.
+    /// </summary>
+    /// <returns><c>null</c> when caching is off or the file is too large; the caller then parses it itself.</returns>
+    static List<Event> open(Path file) throws IOException {
+        if (maxDocuments == 0) return null;
+        var key = key(file);
+        var attrs = Files.readAttributes(key, BasicFileAttributes.class);
+        byte[] bytes = null;
+        var entry = lookup(key, attrs);
+        if (entry != null) {
+            if (!verifyHash) return hit(entry);
+            bytes = Files.readAllBytes(key);
+            if (entry.hash != NO_HASH && crc(bytes) == entry.hash) return hit(entry);
+        }
+        MISSES.increment();
+        if (attrs.size() > MAX_CACHED_BYTES) {
+            invalidate(key);
+            return null;
+        }
+        if (bytes == null) bytes = Files.readAllBytes(key);
+        var text = StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(bytes)).toString();
+        var events = parseAll(new ParserImpl(new StreamReader(new StringReader(text)), YamlStreamReader.options()));
+        put(key, new Entry(attrs.size(), attrs.lastModifiedTime(), verifyHash ? crc(bytes) : NO_HASH, events, null));
+        return events;
+    }
+
+    /// <summary>Replay of <paramref name="file"/> if it is cached and unchanged, else <c>null</c>; never parses.</summary>
+    static Parser cached(Path file) throws IOException {
+        if (maxDocuments == 0) return null;
+        var key = key(file);
+        var entry = lookup(key, Files.readAttributes(key, BasicFileAttributes.class));
+        if (entry == null) return null;
+        if (verifyHash && (entry.hash == NO_HASH || crc(Files.readAllBytes(key)) != entry.hash)) return null;
+        return new Replay(hit(entry));
+    }
+
+    /// <summary>
+    /// Record that we just wrote <paramref name="text"/> to <paramref name="file"/>, replacing any cached entry.
+    /// </summary>
+    /// <param name="file">File that was written.</param>
+    /// <param name="written">Attributes returned by <see cref="AtomicFiles"/> for this write. Reading them again
+    /// after the rename could pick up a newer file and cache our text under its stamp.</param>
+    /// <param name="text">Exact text written.</param>
+    /// <param name="hash">CRC32C of the written bytes, or <see cref="NO_HASH"/>.</param>
+    public static void recordWrite(Path file, BasicFileAttributes written, CharSequence text, long hash) {
+        if (maxDocuments == 0) return;
+        var key = key(file);
+        if (text.length() > MAX_CACHED_BYTES) { invalidate(key); return; }
+        put(key, new Entry(written.size(), written.lastModifiedTime(), hash, null, text.toString()));
+    }
+
+    /// <summary>Forget <paramref name="file"/> (e.g. after it was deleted).</summary>
+    public static void invalidate(Path file) {
+        var key = key(file);
+        synchronized (ENTRIES) { ENTRIES.remove(key); }
+    }
+
+    /// <summary>Drop every entry.</summary>
+    public static void clear() {
+        synchronized (ENTRIES) { ENTRIES.clear(); }
+    }
+
+    /// <summary>Reads served from the cache.</summary>
+    public static long hits() { return HITS.sum(); }
+
+    /// <summary>Reads that had to parse the file.</summary>
+    public static long misses() { return MISSES.sum(); }
+
+    /// <summary>One-line summary for logs.</summary>
+    public static String describe() {
+        int size;
+        synchronized (ENTRIES) { size = ENTRIES.size(); }
+        return "[DreamConfig] parse cache: " + size + " documents, hits=" + hits() + ", misses=" + misses();
+    }
+
+    private static Path key(Path file) { return file.toAbsolutePath().normalize(); }
+
+    private static Entry lookup(Path key, BasicFileAttributes attrs) {
+        Entry entry;
+        synchronized (ENTRIES) { entry = ENTRIES.get(key); }
+        return entry != null && entry.matches(attrs) ? entry : null;
+    }
+
+    private static List<Event> hit(Entry entry) {
+        HITS.increment();
+        return entry.events();
+    }
+
+    private static void put(Path key, Entry entry) {
+        synchronized (ENTRIES) {
+            ENTRIES.put(key, entry);
+            trim();
+        }
+    }
+
+    private static void trim() {
+        var it = ENTRIES.entrySet().iterator();
+        while (ENTRIES.size() > maxDocuments && it.hasNext()) {
+            it.next();
+            it.remove();
+        }
+    }
+
+    /// <summary>Drain <paramref name="parser"/> into a list.</summary>
+    static List<Event> parseAll(Parser parser) {
+        var events = new ArrayList<Event>();
+        for (var event = parser.getEvent(); event != null; event = parser.getEvent()) {
+            events.add(event);
+            if (event.is(Event.ID.StreamEnd)) break;
+        }
+        events.trimToSize();
+        return events;
+    }
+
+    private static long crc(byte[] bytes) {
+        var crc = new CRC32C();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,356 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Internal.Yaml;
+
+import com.dreamfirestudios.dreamconfig.Internal.Reflection.FieldPlan;
+import com.dreamfirestudios.dreamconfig.Model.Interfaces.IDreamConfig;
+import com.dreamfirestudios.dreamconfig.Model.Interfaces.IPulseClass;
+import com.dreamfirestudios.dreamconfig.Model.Serialization.CodecRegistry;
+import com.dreamfirestudios.dreamconfig.Versioning.ConfigVersions;
+import com.dreamfirestudios.dreamconfig.Versioning.MetadataKeys;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.constructor.AbstractConstruct;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.parser.Parser;
+import org.yaml.snakeyaml.parser.ParserImpl;
+import org.yaml.snakeyaml.reader.StreamReader;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+
+/// <summary>
+/// Event-driven YAML loader that binds a document straight into config fields.
+/// </summary>
+/// <remarks>
+/// <para>
+/// Uses SnakeYAML's low-level <see cref="Parser"/> (comment processing off) and walks the events under the
+/// document id. Keys are matched against the <see cref="FieldPlan"/>; unknown keys are skipped without
+/// being built, and <c>__meta.version</c> is captured on the way so no second parse is needed. Nested <see cref="IPulseClass"/> fields are bound
+/// recursively in place. Every other field's subtree is built in isolation and handed to its
+/// <see cref="CodecRegistry"/> codec, so Saveable collections and custom types are filled as their node
+/// completes, and no whole-document tree is created.
+/// </para>
+/// <para>
+/// Files that have not changed since they were last read or written are replayed from
+/// <see cref="ParsedDocumentCache"/> instead of being parsed again; the version probe uses the cache when it
+/// can but never fills it, so it still stops after the first few lines on a miss.
+/// </para>
+/// <para>
+/// Scalars are resolved with the same YAML 1.1 rules and SnakeYAML constructs that Bukkit's
+/// <c>YamlConfiguration</c> uses. Files that use aliases, merge keys, complex keys or custom tags are
+/// detected by a scan of the event stream before any field is bound, and reported as unsupported so the caller
+/// can fall back to the <c>FileConfiguration</c> path with the config still untouched.
+/// </para>
+/// </remarks>
+/// <example>
+/// <code>
+/// OptionalInt version = YamlStreamReader.read(file.toPath(), cfg);
+/// if (version.isEmpty()) DreamConfigDeSerializer.readObject(obj.asDeepMap(id), cfg.getClass(), cfg);
+/// </code>
+/// </example>
+public final class YamlStreamReader {
+    private static final Resolver RESOLVER = new Resolver();
+    private static final SafeConstructor SAFE = new SafeConstructor(new LoaderOptions());
+    private static final AbstractConstruct BOOL = SAFE.new ConstructYamlBool();
+    private static final AbstractConstruct INT = SAFE.new ConstructYamlInt();
+    private static final AbstractConstruct FLOAT = SAFE.new ConstructYamlFloat();
+    private static final Set<Tag> SCALAR_TAGS = Set.of(Tag.STR, Tag.NULL, Tag.INT, Tag.FLOAT, Tag.BOOL, Tag.TIMESTAMP);
+
+    private final Parser parser;
+    private int version = 1;
+
+    private YamlStreamReader(Parser parser) { this.parser = parser; }
+
+    /// <summary>
+    /// Raised for YAML features the streaming binder does not handle; never escapes this class. <see cref="read"/>
+    /// rules them out with <see cref="supported"/> before binding, so it only ends version probes.
+    /// </summary>
+    private static final class Unsupported extends RuntimeException {
+        Unsupported(String message) { super(message, null, false, false); }
+    }
+
+    /// <summary>
+    /// Bind the document <c>cfg.documentID()</c> in <paramref name="file"/> into <paramref name="cfg"/>.
+    /// </summary>
+    /// <param name="file">YAML file.</param>
+    /// <param name="cfg">Target config (lifecycle hooks are the caller's responsibility).</param>
+    /// <returns>
+    /// The stored <c>__meta.version</c> (1 if absent) when the file was handled, including empty files or a
+    /// missing document; empty when it uses unsupported YAML features and must be loaded the classic way.
+    /// </returns>
+    public static OptionalInt read(Path file, IDreamConfig cfg) throws Exception {
+        var events = ParsedDocumentCache.open(file);
+        if (events == null) {
+            try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                events = ParsedDocumentCache.parseAll(new ParserImpl(new StreamReader(in), options()));
+            }
+        }
+        if (!supported(events)) return OptionalInt.empty();
+        var reader = new YamlStreamReader(new ParsedDocumentCache.Replay(events));
+        reader.document(cfg.documentID().split("\\.", -1), cfg);
+        return OptionalInt.of(reader.version);
+    }
+
+    /// <summary>
+    /// Read only <c>__meta.version</c> of document <paramref name="documentId"/>, skipping every other node.
+    /// </summary>
+    /// <param name="file">YAML file.</param>
+    /// <param name="documentId">Document id (dotted ids are nested keys).</param>
+    /// <returns>Stored version (1 if absent), or empty if the file needs the classic loader.</returns>
+    /// <remarks>
+    /// <see cref="YamlStreamWriter"/> writes <c>__meta</c> first, so for files it produced the probe stops after
+    /// the first few lines.
+    /// </remarks>
+    public static OptionalInt readVersion(Path file, String documentId) throws Exception {
+        var cached = ParsedDocumentCache.cached(file);
+        if (cached != null) return readVersion(cached, documentId);
+        try (Reader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return readVersion(new ParserImpl(new StreamReader(in), options()), documentId);
+        }
+    }
+
+    private static OptionalInt readVersion(Parser parser, String documentId) {
+        try {
+            var reader = new YamlStreamReader(parser);
+            if (reader.enter(documentId.split("\\.", -1))) reader.probeVersion();
+            return OptionalInt.of(reader.version);
+        } catch (Unsupported e) {
+            return OptionalInt.empty();
+        }
+    }
+
+    static LoaderOptions options() {
+        var options = new LoaderOptions();
+        options.setProcessComments(false);
+        options.setCodePointLimit(Integer.MAX_VALUE);
+        return options;
+    }
+
+    /* --------------------------- navigation --------------------------- */
+
+    private void document(String[] path, Object target) throws Exception {
+        if (enter(path)) bindObject(target, true);
+    }
+
+    /// <summary>Advance to just inside the document mapping at <paramref name="path"/>.</summary>
+    /// <returns><c>false</c> if the file is empty or the document is absent.</returns>
+    private boolean enter(String[] path) {
+        expect(Event.ID.StreamStart);
+        if (!parser.checkEvent(Event.ID.DocumentStart)) return false;
+        parser.getEvent();
+        for (var segment : path) {
+            if (!parser.checkEvent(Event.ID.MappingStart)) return false;
+            parser.getEvent();
+            if (!seek(segment)) return false;
+        }
+        if (!parser.checkEvent(Event.ID.MappingStart)) return false;
+        parser.getEvent();
+        return true;
+    }
+
+    /// <summary>Scan the current document mapping for <c>__meta</c> and stop as soon as it is read.</summary>
+    private void probeVersion() {
+        while (!parser.checkEvent(Event.ID.MappingEnd)) {
+            if (MetadataKeys.META_ROOT.equals(keyOf(parser.getEvent()))) {
+                version = node() instanceof Map<?, ?> meta ? ConfigVersions.parse(meta.get("version")) : 1;
+                return;
+            }
+            skip();
+        }
+    }
+
+    /// <summary>Advance inside the current mapping until the value of <paramref name="key"/> is next.</summary>
+    private boolean seek(String key) {
+        while (!parser.checkEvent(Event.ID.MappingEnd)) {
+            var k = keyOf(parser.getEvent());
+            if (key.equals(k)) return true;
+            skip();
+        }
+        return false;
+    }
+
+    /* --------------------------- binding --------------------------- */
+
+    /// <summary>Bind mapping entries into <paramref name="target"/>; the <c>MappingStart</c> is already consumed.</summary>
+    /// <param name="target">Object being populated.</param>
+    /// <param name="document">True for the document root, where <c>__meta</c> is read into <see cref="version"/>.</param>
+    private void bindObject(Object target, boolean document) throws Exception {
+        var plan = FieldPlan.of(target.getClass());
+        while (true) {
+            var event = parser.getEvent();
+            if (event.is(Event.ID.MappingEnd)) return;
+            var key = keyOf(event);
+            if (document && MetadataKeys.META_ROOT.equals(key)) {
+                version = node() instanceof Map<?, ?> meta ? ConfigVersions.parse(meta.get("version")) : 1;
+                continue;
+            }
+            var pf = plan.field(key);
+            if (pf == null) { skip(); continue; }
+
+            var current = pf.resolve(target);
+            if (current == null) { skip(); continue; }
+
+            if (current instanceof IPulseClass pulse && parser.checkEvent(Event.ID.MappingStart)
+                    && CodecRegistry.isPulseCodec(CodecRegistry.codecFor(current.getClass()))) {
+                parser.getEvent();
+                pulse.BeforeLoadConfig();
+                bindObject(pulse, false);
+                pulse.AfterLoadConfig();
+                continue;
+            }
+
+            var raw = node();
+            if (raw == null) continue;
+            pf.assign(target, CodecRegistry.read(current.getClass(), current, raw));
+        }
+    }
+
+    /* --------------------------- validation --------------------------- */
+
+    /// <summary>
+    /// True if binding <paramref name="events"/> cannot hit <see cref="Unsupported"/>: no aliases, no non-scalar
+    /// mapping keys, and only scalar tags <see cref="construct"/> handles (which excludes the <c>&lt;&lt;</c> merge key).
+    /// </summary>
+    /// <remarks>Scans the whole stream, so a feature in another document of the same file also counts.</remarks>
+    static boolean supported(List<Event> events) {
+        var mapping = new boolean[16];
+        var keyNext = new boolean[16];
+        int depth = 0;
+        for (var event : events) {
+            switch (event.getEventId()) {
+                case Alias:
+                    return false;
+                case Scalar:
+                    if (!SCALAR_TAGS.contains(tagOf((ScalarEvent) event))) return false;
+                    break;
+                case MappingStart:
+                case SequenceStart:
+                    if (depth > 0 && mapping[depth - 1] && keyNext[depth - 1]) return false;
+                    if (depth == mapping.length) {
+                        mapping = Arrays.copyOf(mapping, depth * 2);
+                        keyNext = Arrays.copyOf(keyNext, depth * 2);
+                    }
+                    mapping[depth] = event.is(Event.ID.MappingStart);
+                    keyNext[depth++] = true;
+                    continue;
+                case MappingEnd:
+                case SequenceEnd:
+                    depth--;
+                    break;
+                default:
+                    continue;
+            }
+            if (depth > 0 && mapping[depth - 1]) keyNext[depth - 1] = !keyNext[depth - 1];
+        }
+        return true;
+    }
+
+    /* --------------------------- nodes --------------------------- */
+
+    /// <summary>Build the plain Java value of the next node (scalar, <c>LinkedHashMap</c> or <c>ArrayList</c>).</summary>
+    private Object node() {
+        var event = parser.getEvent();
+        switch (event.getEventId()) {
+            case Scalar:
+                return scalar((ScalarEvent) event);
+            case SequenceStart: {
+                var list = new ArrayList<Object>();
+                while (!parser.checkEvent(Event.ID.SequenceEnd)) list.add(node());
+                parser.getEvent();
+                return list;
+            }
+            case MappingStart: {
+                Map<Object, Object> map = new LinkedHashMap<>();
+                while (!parser.checkEvent(Event.ID.MappingEnd)) {
+                    var key = keyOf(parser.getEvent());
+                    var value = node();
+                    if (value != null) map.put(key, value);
+                }
+                parser.getEvent();
+                return map;
+            }
+            default:
+                throw new Unsupported(event.getEventId().name());
+        }
+    }
+
+    /// <summary>Consume the next node without building it.</summary>
+    private void skip() {
+        int depth = 0;
+        do {
+            var event = parser.getEvent();
+            if (event.is(Event.ID.MappingStart) || event.is(Event.ID.SequenceStart)) depth++;
+            else if (event.is(Event.ID.MappingEnd) || event.is(Event.ID.SequenceEnd)) depth--;
+        } while (depth > 0);
+    }
+
+    private static String keyOf(Event event) {
+        if (!(event instanceof ScalarEvent scalar)) throw new Unsupported("complex key");
+        return String.valueOf(scalar(scalar));
+    }
+
+    private static Object scalar(ScalarEvent event) {
+        return construct(tagOf(event), event.getValue());
+    }
+
+    /// <summary>Tag the scalar is constructed with: explicit, else resolved; <see cref="Tag.STR"/> for quoted text.</summary>
+    private static Tag tagOf(ScalarEvent event) {
+        var tag = event.getTag();
+        if (tag != null && !"!".equals(tag)) return new Tag(tag);
+        if (!event.getImplicit().canOmitTagInPlainScalar()) return Tag.STR;
+        return RESOLVER.resolve(NodeId.scalar, event.getValue(), true);
+    }
+
+    private static Object construct(Tag tag, String value) {
+        if (Tag.STR.equals(tag)) return value;
+        if (Tag.NULL.equals(tag)) return null;
+        var node = new ScalarNode(tag, value, null, null, DumperOptions.ScalarStyle.PLAIN);
+        if (Tag.INT.equals(tag)) return INT.construct(node);
+        if (Tag.FLOAT.equals(tag)) return FLOAT.construct(node);
+        if (Tag.BOOL.equals(tag)) return BOOL.construct(node);
+        if (Tag.TIMESTAMP.equals(tag)) return new SafeConstructor.ConstructYamlTimestamp().construct(node);
+        throw new Unsupported("tag " + tag);
+    }
+
+    private void expect(Event.ID id) {
+        if (!parser.checkEvent(id)) throw new Unsupported("expected " + id);
+        parser.getEvent();
+    }
+}
@@ -0,0 +1,360 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Internal.Yaml;
+
+import com.dreamfirestudios.dreamconfig.Internal.Reflection.FieldPlan;
+import com.dreamfirestudios.dreamconfig.Internal.Storage.AtomicFiles;
+import com.dreamfirestudios.dreamconfig.Model.Interfaces.DreamConfigFooter;
+import com.dreamfirestudios.dreamconfig.Model.Interfaces.DreamConfigHeader;
+import com.dreamfirestudios.dreamconfig.Model.Interfaces.IDreamConfig;
+import com.dreamfirestudios.dreamconfig.Model.Serialization.CodecRegistry;
+import com.dreamfirestudios.dreamconfig.Versioning.MetadataKeys;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32C;
+
+/// <summary>
+/// Streaming YAML emitter used by the YAML repository for saves.
+/// </summary>
+/// <remarks>
+/// <para>
+/// Writes a config document straight from its <see cref="FieldPlan"/> into a per-thread pooled buffer, then
+/// encodes it in fixed-size chunks to a <see cref="FileChannel"/>. Bukkit's <c>FileConfiguration</c> is not
+/// involved, so a save no longer copies the data into memory sections and a second YAML tree. The file is
+/// replaced through <see cref="AtomicFiles"/>, so an interrupted save never leaves a half-written document, and
+/// the written text is handed to <see cref="ParsedDocumentCache"/> so the next load does not re-read it.
+/// </para>
+/// <para>
+/// The output is plain block-style YAML that <c>YamlConfiguration</c> reads back unchanged: strings are
+/// double-quoted, <see cref="MetadataKeys#META_ROOT"/> is written first under the document id, and
+/// <see cref="DreamConfigHeader"/>/<see cref="DreamConfigFooter"/> and
+/// <see cref="com.dreamfirestudios.dreamconfig.Model.Interfaces.StorageComment"/> banners become real comments.
+/// </para>
+/// </remarks>
+/// <example>
+/// <code>
+/// YamlStreamWriter.write(file.toPath(), cfg, ConfigVersions.target(cfg.getClass()));
+/// </code>
+/// </example>
+public final class YamlStreamWriter {
+    private static final String BANNER = "# +----------------------------------------------------+ #";
+    private static final int CHUNK = 64 * 1024;
+    private static final int MAX_POOLED_CHARS = 1 << 20;
+    private static final Set<String> RESERVED = Set.of(
+            "y", "n", "yes", "no", "true", "false", "on", "off", "null", "~");
+
+    private static final ThreadLocal<Buffers> BUFFERS = ThreadLocal.withInitial(Buffers::new);
+
+    private final StringBuilder out;
+
+    private YamlStreamWriter(StringBuilder out) { this.out = out; }
+
+    /// <summary>Per-thread reusable text buffer, encoder and byte chunk.</summary>
+    private static final class Buffers {
+        final StringBuilder text = new StringBuilder(8 * 1024);
+        final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+        final ByteBuffer bytes = ByteBuffer.allocate(CHUNK);
+    }
+
+    /// <summary>
+    /// Serialize <paramref name="cfg"/> and replace the contents of <paramref name="file"/>.
+    /// </summary>
+    /// <param name="file">Target <c>.yml</c> file.</param>
+    /// <param name="cfg">Config to write.</param>
+    /// <param name="version">Value written to <c>__meta.version</c>.</param>
+    public static void write(Path file, IDreamConfig cfg, int version) throws Exception {
+        var buffers = BUFFERS.get();
+        var text = buffers.text;
+        text.setLength(0);
+        try {
+            new YamlStreamWriter(text).document(cfg, version);
+            var crc = ParsedDocumentCache.verifiesHash() ? new CRC32C() : null;
+            var written = flush(file, text, buffers, crc);
+            ParsedDocumentCache.recordWrite(file, written, text, crc == null ? ParsedDocumentCache.NO_HASH : crc.getValue());
+        } finally {
+            if (text.capacity() > MAX_POOLED_CHARS) {
+                text.setLength(0);
+                text.trimToSize();
+            }
+        }
+    }
+
+    /// <summary>
+    /// Write an already-serialized document (plain maps, lists and scalars) to <paramref name="file"/>, e.g. when
+    /// exporting a binary document for inspection.
+    /// </summary>
+    /// <param name="file">Target <c>.yml</c> file.</param>
+    /// <param name="documentId">Document id the fields are nested under.</param>
+    /// <param name="version">Value written to <c>__meta.version</c>.</param>
+    /// <param name="fields">Field values keyed by save name.</param>
+    public static void write(Path file, String documentId, int version, Map<?, ?> fields) throws IOException {
+        var buffers = BUFFERS.get();
+        var text = buffers.text;
+        text.setLength(0);
+        try {
+            var writer = new YamlStreamWriter(text);
+            writer.mapBody(writer.root(documentId, version), fields);
+            var crc = ParsedDocumentCache.verifiesHash() ? new CRC32C() : null;
+            var written = flush(file, text, buffers, crc);
+            ParsedDocumentCache.recordWrite(file, written, text, crc == null ? ParsedDocumentCache.NO_HASH : crc.getValue());
+        } finally {
+            if (text.capacity() > MAX_POOLED_CHARS) {
+                text.setLength(0);
+                text.trimToSize();
+            }
+        }
+    }
+
+    /* --------------------------- document --------------------------- */
+
+    private void document(IDreamConfig cfg, int version) throws Exception {
+        var type = cfg.getClass();
+        var header = type.getAnnotation(DreamConfigHeader.class);
+        if (header != null) commentBlock(header.value()).append('\n');
+
+        int indent = root(cfg.documentID(), version);
+
+        for (var pf : FieldPlan.of(type).fields()) {
+            var value = pf.resolve(cfg);
+            if (value == null) continue;
+            if (pf.comment() != null)
+                indent(indent).out.append("# +------------------").append(pf.comment()).append("------------------+ #\n");
+            entry(indent, pf.saveName(), CodecRegistry.write(value));
+        }
+
+        var footer = type.getAnnotation(DreamConfigFooter.class);
+        if (footer != null) commentBlock(footer.value()).append('\n');
+    }
+
+    /// <summary>Open the nested document-id keys and write <c>__meta</c>; returns the field indent.</summary>
+    private int root(String documentId, int version) {
+        int indent = 0;
+        for (var part : documentId.split("\\.", -1)) {
+            indent(indent).key(part).out.append(":\n");
+            indent += 2;
+        }
+        indent(indent).out.append(MetadataKeys.META_ROOT).append(":\n");
+        indent(indent + 2).out.append("version: ").append(version).append('\n');
+        return indent;
+    }
+
+    private StringBuilder commentBlock(String[] lines) {
+        out.append(BANNER).append('\n');
+        for (var line : lines) {
+            if (!line.startsWith("#")) out.append("# ");
+            out.append(line).append('\n');
+        }
+        return out.append(BANNER);
+    }
+
+    /* --------------------------- nodes --------------------------- */
+
+    private void entry(int indent, Object key, Object value) {
+        indent(indent).key(key).out.append(':');
+        if (value instanceof Map<?, ?> map && hasEntries(map)) {
+            out.append('\n');
+            mapBody(indent + 2, map);
+        } else if (value instanceof List<?> list && !list.isEmpty()) {
+            out.append('\n');
+            list(indent, list);
+        } else {
+            out.append(' ');
+            scalar(value);
+            out.append('\n');
+        }
+    }
+
+    private void mapBody(int indent, Map<?, ?> map) {
+        for (var e : map.entrySet()) {
+            var value = e.getValue();
+            if (value == null) continue;
+            if (isComment(e.getKey(), value)) indent(indent).out.append(e.getKey()).append(value).append('\n');
+            else entry(indent, e.getKey(), value);
+        }
+    }
+
+    private void list(int indent, List<?> list) {
+        for (var item : list) {
+            indent(indent).out.append('-');
+            if (item instanceof Map<?, ?> map && hasEntries(map)) {
+                out.append(' ');
+                inlineMap(indent + 2, map);
+            } else if (item instanceof List<?> nested && !nested.isEmpty()) {
+                out.append('\n');
+                list(indent + 2, nested);
+            } else {
+                out.append(' ');
+                scalar(item);
+                out.append('\n');
+            }
+        }
+    }
+
+    /// <summary>Emit a map whose first entry continues the current <c>- </c> line.</summary>
+    private void inlineMap(int indent, Map<?, ?> map) {
+        boolean first = true;
+        for (var e : map.entrySet()) {
+            var value = e.getValue();
+            if (value == null) continue;
+            if (isComment(e.getKey(), value)) {
+                if (first) { out.append('\n'); first = false; }
+                indent(indent).out.append(e.getKey()).append(value).append('\n');
+                continue;
+            }
+            if (first) {
+                first = false;
+                key(e.getKey()).out.append(':');
+                inlineValue(indent, value);
+            } else {
+                entry(indent, e.getKey(), value);
+            }
+        }
+    }
+
+    private void inlineValue(int indent, Object value) {
+        if (value instanceof Map<?, ?> map && hasEntries(map)) {
+            out.append('\n');
+            mapBody(indent + 2, map);
+        } else if (value instanceof List<?> list && !list.isEmpty()) {
+            out.append('\n');
+            list(indent, list);
+        } else {
+            out.append(' ');
+            scalar(value);
+            out.append('\n');
+        }
+    }
+
+    private static boolean isComment(Object key, Object value) {
+        return key instanceof String s && s.startsWith("# +") && value instanceof String;
+    }
+
+    private static boolean hasEntries(Map<?, ?> map) {
+        for (var v : map.values()) if (v != null) return true;
+        return false;
+    }
+
+    /* --------------------------- scalars --------------------------- */
+
+    private YamlStreamWriter key(Object key) {
+        var s = String.valueOf(key);
+        if (isPlainKey(s)) out.append(s);
+        else quoted(s);
+        return this;
+    }
+
+    private static boolean isPlainKey(String s) {
+        if (s.isEmpty() || RESERVED.contains(s.toLowerCase())) return false;
+        char c0 = s.charAt(0);
+        if (!(Character.isLetter(c0) || c0 == '_')) return false;
+        for (int i = 1; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (!(Character.isLetterOrDigit(c) || c == '_' || c == '-')) return false;
+        }
+        return true;
+    }
+
+    private void scalar(Object v) {
+        if (v == null) out.append("null");
+        else if (v instanceof Map<?, ?>) out.append("{}");
+        else if (v instanceof List<?>) out.append("[]");
+        else if (v instanceof Boolean || v instanceof Integer || v instanceof Long
+                || v instanceof Short || v instanceof Byte || v instanceof BigInteger) out.append(v);
+        else if (v instanceof Double || v instanceof Float) floating(((Number) v).doubleValue(), v);
+        else if (v instanceof Enum<?> e) quoted(e.name());
+        else quoted(String.valueOf(v));
+    }
+
+    private void floating(double d, Object original) {
+        if (Double.isNaN(d)) out.append(".NaN");
+        else if (d == Double.POSITIVE_INFINITY) out.append(".inf");
+        else if (d == Double.NEGATIVE_INFINITY) out.append("-.inf");
+        else out.append(original);
+    }
+
+    private void quoted(String s) {
+        out.append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20 || (c >= 0x7f && c <= 0x9f) || c == '\u2028' || c == '\u2029' || c == '\ufeff')
+                        out.append("\\u").append(String.format("%04x", (int) c));
+                    else out.append(c);
+                }
+            }
+        }
+        out.append('"');
+    }
+
+    private YamlStreamWriter indent(int spaces) {
+        for (int i = 0; i < spaces; i++) out.append(' ');
+        return this;
+    }
+
+    /* --------------------------- output --------------------------- */
+
+    /// <returns>CRC32C of the bytes written, or <see cref="ParsedDocumentCache#NO_HASH"/> when hashes are not verified.</returns>
+    private static BasicFileAttributes flush(Path file, CharSequence text, Buffers buffers, CRC32C crc) throws IOException {
+        var encoder = buffers.encoder.reset();
+        var bytes = buffers.bytes.clear();
+        var chars = CharBuffer.wrap(text);
+        return AtomicFiles.write(file, channel -> {
+            CoderResult result;
+            do {
+                result = encoder.encode(chars, bytes, true);
+                if (result.isError()) result.throwException();
+                drain(bytes, channel, crc);
+            } while (result.isOverflow());
+            do {
+                result = encoder.flush(bytes);
+                drain(bytes, channel, crc);
+            } while (result.isOverflow());
+        });
+    }
+
+    private static void drain(ByteBuffer bytes, FileChannel channel, CRC32C crc) throws IOException {
+        bytes.flip();
+        if (crc != null) crc.update(bytes.duplicate());
+        while (bytes.hasRemaining()) channel.write(bytes);
+        bytes.clear();
+    }
+}
@@ -67,21 +67,29 @@ public abstract class DynamicPulseConfig<T extends DynamicPulseConfig<T>> implem
         return list;
     }
 
-    /// <summary>Loads all stored documents of this class and caches them asynchronously.</summary>
+    /// <summary>Loads all stored documents of this class in parallel and caches them asynchronously.</summary>
     /// <param name="plugin">Owning plugin.</param>
     /// <param name="clazz">Config subclass type.</param>
+    /// <remarks>
+    /// Backed by <see cref="DreamConfigAPI.loadAllParallel"/>: documents that fail to load are reported
+    /// on the console and skipped, the rest are still cached.
+    /// </remarks>
     public static <T extends DynamicPulseConfig<T>> void loadAllAsync(JavaPlugin plugin, Class<T> clazz) {
         try {
             T probe = clazz.getDeclaredConstructor().newInstance();
-            DreamConfigAPI.loadAll(plugin, probe).thenAccept(map -> map.forEach((name, cfg) -> {
-                try {
-                    T typed = clazz.cast(cfg);
-                    DreamConfig.DYNAMIC_CACHE.put(typed.documentID(), typed);
-                    DreamChat.SendMessageToConsole("&9Registered DynamicPulseConfig " + typed.documentID(), DreamMessageSettings.all());
-                } catch (ClassCastException e) {
-                    DreamChat.SendMessageToConsole("&cFailed to cast DynamicPulseConfig " + name, DreamMessageSettings.all());
-                }
-            }));
+            DreamConfigAPI.loadAllParallel(plugin, probe).thenAccept(result -> {
+                result.loaded().forEach((name, cfg) -> {
+                    try {
+                        T typed = clazz.cast(cfg);
+                        DreamConfig.DYNAMIC_CACHE.put(typed.documentID(), typed);
+                        DreamChat.SendMessageToConsole("&9Registered DynamicPulseConfig " + typed.documentID(), DreamMessageSettings.all());
+                    } catch (ClassCastException e) {
+                        DreamChat.SendMessageToConsole("&cFailed to cast DynamicPulseConfig " + name, DreamMessageSettings.all());
+                    }
+                });
+                result.failed().forEach((name, error) ->
+                        DreamChat.SendMessageToConsole("&cFailed to load DynamicPulseConfig " + name + ": " + error, DreamMessageSettings.all()));
+            });
         } catch (Exception e) {
             throw new RuntimeException("Failed to initialize DynamicPulseConfig for " + clazz.getSimpleName(), e);
         }
@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Model.Serialization;
+
+/// <summary>
+/// Converts values of one type to and from their repository-storable form.
+/// </summary>
+/// <typeparam name="T">Handled value type.</typeparam>
+/// <remarks>
+/// Codecs are resolved once per concrete class by <see cref="CodecRegistry"/> and shared by the YAML and Mongo
+/// serializers. Implementations must be thread-safe and stateless per call.
+/// </remarks>
+/// <example>
+/// <code>
+/// CodecRegistry.register(UUID.class, Codec.of(UUID::toString, (raw, current) -&gt; UUID.fromString(raw.toString())));
+/// </code>
+/// </example>
+public interface Codec<T> {
+    /// <summary>Serialize <paramref name="value"/> into a storable value (primitive, String, Map or List).</summary>
+    /// <param name="value">Non-null value.</param>
+    Object write(T value) throws Exception;
+
+    /// <summary>Deserialize <paramref name="raw"/>.</summary>
+    /// <param name="raw">Non-null stored value.</param>
+    /// <param name="current">Current field value; may be populated in place and returned.</param>
+    /// <returns>The value to assign to the field.</returns>
+    T read(Object raw, T current) throws Exception;
+
+    /// <summary>Write half of a codec built with <see cref="of"/>.</summary>
+    @FunctionalInterface
+    interface Writer<T> { Object write(T value) throws Exception; }
+
+    /// <summary>Read half of a codec built with <see cref="of"/>.</summary>
+    @FunctionalInterface
+    interface Reader<T> { T read(Object raw, T current) throws Exception; }
+
+    /// <summary>Build a codec from two lambdas.</summary>
+    /// <param name="writer">Serialization function.</param>
+    /// <param name="reader">Deserialization function.</param>
+    static <T> Codec<T> of(Writer<T> writer, Reader<T> reader) {
+        return new Codec<>() {
+            @Override public Object write(T value) throws Exception { return writer.write(value); }
+            @Override public T read(Object raw, T current) throws Exception { return reader.read(raw, current); }
+        };
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Model.Serialization;
+
+import com.dreamfirestudios.dreamconfig.Enum.StorageType;
+import com.dreamfirestudios.dreamconfig.Internal.Reflection.DreamConfigDeSerializer;
+import com.dreamfirestudios.dreamconfig.Internal.Reflection.DreamConfigSerializer;
+import com.dreamfirestudios.dreamconfig.Model.Interfaces.IPulseClass;
+import com.dreamfirestudios.dreamconfig.Saveable.ICustomVariable;
+import com.dreamfirestudios.dreamconfig.Saveable.SaveableArrayList;
+import com.dreamfirestudios.dreamconfig.Saveable.SaveableHashmap;
+import com.dreamfirestudios.dreamconfig.Saveable.SaveableLinkedHashMap;
+import com.dreamfirestudios.dreamcore.DreamVariable.DreamVariableTestAPI;
+import org.bukkit.configuration.serialization.ConfigurationSerializable;
+
+import java.lang.reflect.Constructor;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/// <summary>
+/// Type-indexed lookup of <see cref="Codec"/>s shared by the YAML and Mongo serializers.
+/// </summary>
+/// <remarks>
+/// <para>
+/// The codec for a class is resolved once and cached in a <see cref="ClassValue"/>, so each value costs a single
+/// lookup. Resolution order:
+/// 1) codecs registered for the exact class via <see cref="register"/>,
+/// 2) <see cref="CustomSerialize"/> on the class (strategies are instantiated once per class),
+/// 3) codecs registered for a supertype via <see cref="registerHierarchy"/> (registration order),
+/// 4) built-ins: <see cref="IPulseClass"/>, Saveable collections, <see cref="ICustomVariable"/>,
+///    <see cref="ConfigurationSerializable"/>, date/time types (<see cref="DateTimeCodecs"/>), DreamCore primitive adapters,
+/// 5) pass-through.
+/// </para>
+/// <para>Registering or unregistering a codec invalidates the cache.</para>
+/// </remarks>
+/// <example>
+/// <code>
+/// CodecRegistry.register(UUID.class, Codec.of(UUID::toString, (raw, cur) -&gt; UUID.fromString(raw.toString())));
+/// Object stored = CodecRegistry.write(someUuid);
+/// </code>
+/// </example>
+public final class CodecRegistry {
+    private static final Map<Class<?>, Codec<?>> EXACT = new ConcurrentHashMap<>();
+    private static final List<Map.Entry<Class<?>, Codec<?>>> HIERARCHY = new CopyOnWriteArrayList<>();
+    private static volatile ClassValue<Codec<Object>> resolved = newCache();
+
+    private static final Codec<Object> PASS_THROUGH = Codec.of(v -> v, (raw, current) -> raw);
+
+    private static final Codec<Object> PULSE = Codec.of(
+            v -> {
+                var pc = (IPulseClass) v;
+                pc.BeforeSaveConfig();
+                var data = DreamConfigSerializer.writeObject(pc.getClass(), pc);
+                pc.AfterSaveConfig();
+                return data;
+            },
+            (raw, current) -> {
+                var pulse = (IPulseClass) current;
+                pulse.BeforeLoadConfig();
+                var res = DreamConfigDeSerializer.readObject(asMap(raw), pulse.getClass(), pulse);
+                pulse.AfterLoadConfig();
+                return res;
+            });
+
+    private static final Codec<Object> SAVEABLE_HASHMAP = Codec.of(
+            v -> ((SaveableHashmap<?, ?>) v).serialize(CodecRegistry::writeUnchecked),
+            (raw, current) -> {
+                ((SaveableHashmap<?, ?>) current).deSerializeData(StorageType.CONFIG, asMap(raw));
+                return current;
+            });
+
+    private static final Codec<Object> SAVEABLE_LINKED_HASHMAP = Codec.of(
+            v -> ((SaveableLinkedHashMap<?, ?>) v).serialize(CodecRegistry::writeUnchecked),
+            (raw, current) -> {
+                ((SaveableLinkedHashMap<?, ?>) current).deSerializeData(StorageType.CONFIG, asMap(raw));
+                return current;
+            });
+
+    private static final Codec<Object> SAVEABLE_ARRAY_LIST = Codec.of(
+            v -> ((SaveableArrayList<?>) v).serialize(CodecRegistry::writeUnchecked),
+            (raw, current) -> {
+                ((SaveableArrayList<?>) current).deSerializeData(StorageType.CONFIG, asList(raw));
+                return current;
+            });
+
+    private CodecRegistry() {}
+
+    /// <summary>Register a codec for exactly <paramref name="type"/>, overriding every built-in.</summary>
+    /// <param name="type">Concrete class.</param>
+    /// <param name="codec">Codec to use.</param>
+    public static <T> void register(Class<T> type, Codec<T> codec) {
+        EXACT.put(type, codec);
+        invalidate();
+    }
+
+    /// <summary>Register a codec for <paramref name="base"/> and all of its subtypes.</summary>
+    /// <param name="base">Supertype or interface.</param>
+    /// <param name="codec">Codec receiving instances of any subtype.</param>
+    /// <remarks>Exact registrations and <see cref="CustomSerialize"/> still take precedence.</remarks>
+    public static <T> void registerHierarchy(Class<T> base, Codec<? super T> codec) {
+        HIERARCHY.removeIf(e -> e.getKey() == base);
+        HIERARCHY.add(Map.entry(base, codec));
+        invalidate();
+    }
+
+    /// <summary>Remove exact and hierarchy registrations for <paramref name="type"/>.</summary>
+    /// <param name="type">Previously registered class.</param>
+    public static void unregister(Class<?> type) {
+        EXACT.remove(type);
+        HIERARCHY.removeIf(e -> e.getKey() == type);
+        invalidate();
+    }
+
+    /// <summary>Resolve (and cache) the codec for <paramref name="type"/>.</summary>
+    /// <param name="type">Value class.</param>
+    /// <returns>Never <c>null</c>; unknown types get a pass-through codec.</returns>
+    public static Codec<Object> codecFor(Class<?> type) {
+        return resolved.get(type);
+    }
+
+    /// <summary>
+    /// True if <paramref name="codec"/> is the built-in <see cref="IPulseClass"/> codec, i.e. nested objects of
+    /// that type may be bound field-by-field by streaming loaders.
+    /// </summary>
+    /// <param name="codec">Codec returned by <see cref="codecFor"/>.</param>
+    public static boolean isPulseCodec(Codec<?> codec) {
+        return codec == PULSE;
+    }
+
+    /// <summary>Serialize <paramref name="value"/> with the codec of its concrete class.</summary>
+    /// <param name="value">Value (may be null).</param>
+    /// <returns>Storable representation, or <c>null</c> for null input.</returns>
+    public static Object write(Object value) throws Exception {
+        if (value == null) return null;
+        return codecFor(value.getClass()).write(value);
+    }
+
+    /// <summary>Deserialize <paramref name="raw"/> with the codec of <paramref name="type"/>.</summary>
+    /// <param name="type">Class whose codec is used.</param>
+    /// <param name="current">Current value (receiver for in-place codecs).</param>
+    /// <param name="raw">Stored value.</param>
+    /// <returns>Deserialized value, or <c>null</c> if <paramref name="current"/> or <paramref name="raw"/> is null.</returns>
+    public static Object read(Class<?> type, Object current, Object raw) throws Exception {
+        if (current == null || raw == null) return null;
+        return codecFor(type).read(raw, current);
+    }
+
+    /* --------------------------- resolution --------------------------- */
+
+    private static ClassValue<Codec<Object>> newCache() {
+        return new ClassValue<>() {
+            @Override protected Codec<Object> computeValue(Class<?> type) { return resolve(type); }
+        };
+    }
+
+    private static void invalidate() {
+        resolved = newCache();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Codec<Object> resolve(Class<?> type) {
+        var exact = EXACT.get(type);
+        if (exact != null) return (Codec<Object>) exact;
+
+        var custom = type.getAnnotation(CustomSerialize.class);
+        if (custom != null) return strategyCodec(type, custom);
+
+        for (var e : HIERARCHY) if (e.getKey().isAssignableFrom(type)) return (Codec<Object>) e.getValue();
+
+        if (IPulseClass.class.isAssignableFrom(type)) return PULSE;
+        if (SaveableHashmap.class.isAssignableFrom(type)) return SAVEABLE_HASHMAP;
+        if (SaveableLinkedHashMap.class.isAssignableFrom(type)) return SAVEABLE_LINKED_HASHMAP;
+        if (SaveableArrayList.class.isAssignableFrom(type)) return SAVEABLE_ARRAY_LIST;
+        if (ICustomVariable.class.isAssignableFrom(type)) return customVariableCodec(type);
+
+        var primitive = DreamVariableTestAPI.returnTestFromType(type);
+        Codec.Reader<Object> primitiveReader = primitive == null ? (raw, current) -> raw : (raw, current) -> primitive.DeSerializeData(raw);
+        if (ConfigurationSerializable.class.isAssignableFrom(type))
+            return Codec.of(v -> ((ConfigurationSerializable) v).serialize(), primitiveReader);
+        if (Date.class.isAssignableFrom(type)) return (Codec<Object>) (Codec<?>) DateTimeCodecs.DATE;
+        if (type == Instant.class) return (Codec<Object>) (Codec<?>) DateTimeCodecs.INSTANT;
+        if (type == LocalDateTime.class) return (Codec<Object>) (Codec<?>) DateTimeCodecs.LOCAL_DATE_TIME;
+        if (type == Duration.class) return (Codec<Object>) (Codec<?>) DateTimeCodecs.DURATION;
+        if (primitive != null) return Codec.of(primitive::SerializeData, primitiveReader);
+        return PASS_THROUGH;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Codec<Object> strategyCodec(Class<?> type, CustomSerialize ann) {
+        try {
+            var writer = (SerializationStrategy<?>) ann.serializationStrategy().getDeclaredConstructor().newInstance();
+            var reader = (DeserializationStrategy<Object>) ann.deserializationStrategy().getDeclaredConstructor().newInstance();
+            return Codec.of(writer::serialize, (raw, current) -> reader.deserialize(raw));
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException("Cannot instantiate @CustomSerialize strategies for " + type.getName(), e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Codec<Object> customVariableCodec(Class<?> type) {
+        Constructor<?> ctor;
+        try {
+            ctor = type.getDeclaredConstructor();
+            ctor.trySetAccessible();
+        } catch (NoSuchMethodException e) {
+            ctor = null;
+        }
+        final var constructor = ctor;
+        return Codec.of(
+                v -> {
+                    var cv = (ICustomVariable) v;
+                    cv.BeforeSave();
+                    var data = cv.SerializeData();
+                    cv.AfterSave();
+                    return data;
+                },
+                (raw, current) -> {
+                    if (constructor == null) throw new NoSuchMethodException(type.getName() + ".<init>()");
+                    var cv = (ICustomVariable) constructor.newInstance();
+                    cv.BeforeLoad();
+                    cv.DeSerializeData(raw instanceof LinkedHashMap<?, ?> lm ? (LinkedHashMap<Object, Object>) lm : new LinkedHashMap<>(asMap(raw)));
+                    cv.AfterLoad();
+                    return cv;
+                });
+    }
+
+    /* --------------------------- helpers --------------------------- */
+
+    private static Object writeUnchecked(Object value) {
+        try { return write(value); } catch (Exception e) { throw new RuntimeException(e); }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Object, Object> asMap(Object raw) {
+        if (raw instanceof Map<?, ?> m) return (Map<Object, Object>) m;
+        throw new IllegalArgumentException("Expected Map-like value but got: " + raw.getClass().getName());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> asList(Object raw) {
+        if (raw instanceof List<?> l) return (List<Object>) l;
+        throw new IllegalArgumentException("Expected List-like value but got: " + raw.getClass().getName());
+    }
+}
@@ -30,7 +30,7 @@ import java.lang.annotation.*;
 /// </summary>
 /// <remarks>
 /// Both <see cref="serializationStrategy"/> and <see cref="deserializationStrategy"/> must be provided.
-/// The serializer will instantiate them reflectively during runtime.
+/// Both strategies are instantiated once per annotated type and cached by <see cref="CodecRegistry"/>.
 /// </remarks>
 /// <example>
 /// <code>
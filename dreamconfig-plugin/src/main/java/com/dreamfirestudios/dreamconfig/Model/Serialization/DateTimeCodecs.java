@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Model.Serialization;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.Locale;
+
+/// <summary>
+/// Thread-safe codecs for <see cref="Date"/>, <see cref="Instant"/>, <see cref="LocalDateTime"/> and
+/// <see cref="Duration"/>, registered as built-ins by <see cref="CodecRegistry"/>.
+/// </summary>
+/// <remarks>
+/// <para>
+/// In the default <see cref="Storage#FORMATTED"/> mode, <see cref="Date"/> keeps the historic
+/// <c>yyyy-MMM-dd-HH-mm-ss</c> (Locale.ENGLISH, system zone) string. <see cref="Instant"/>,
+/// <see cref="LocalDateTime"/> and <see cref="Duration"/> use their lossless ISO-8601 text.
+/// </para>
+/// <para>
+/// <see cref="Storage#EPOCH_MILLIS"/> stores every temporal value as a <c>long</c>: epoch milliseconds, or
+/// milliseconds for <see cref="Duration"/>. Readers accept both forms regardless of the current mode, so
+/// switching modes never breaks existing files. Select the mode with <see cref="setStorage"/> or
+/// <c>-Ddreamconfig.dates=epoch-millis</c>.
+/// </para>
+/// </remarks>
+/// <example>
+/// <code>
+/// DateTimeCodecs.setStorage(DateTimeCodecs.Storage.EPOCH_MILLIS);
+/// Object stored = CodecRegistry.write(Instant.now()); // 1760774400000L
+/// </code>
+/// </example>
+public final class DateTimeCodecs {
+    /// <summary>How temporal values are written.</summary>
+    public enum Storage {
+        /// <summary>Human-readable strings (default).</summary>
+        FORMATTED,
+        /// <summary>Numbers: epoch milliseconds, or milliseconds for durations.</summary>
+        EPOCH_MILLIS
+    }
+
+    /// <summary>Zone used for <see cref="Date"/> and <see cref="LocalDateTime"/> text and epoch conversion.</summary>
+    public static final ZoneId ZONE = ZoneId.systemDefault();
+
+    /// <summary>
+    /// Immutable legacy date format (<c>yyyy-MMM-dd-HH-mm-ss</c>, Locale.ENGLISH, <see cref="ZONE"/>).
+    /// </summary>
+    public static final DateTimeFormatter DATE_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MMM-dd-HH-mm-ss", Locale.ENGLISH).withZone(ZONE);
+
+    private static volatile Storage storage =
+            "epoch-millis".equalsIgnoreCase(System.getProperty("dreamconfig.dates", "")) ? Storage.EPOCH_MILLIS : Storage.FORMATTED;
+
+    /// <summary>Codec for <see cref="Date"/>.</summary>
+    public static final Codec<Date> DATE = Codec.of(
+            DateTimeCodecs::writeDate,
+            (raw, current) -> {
+                if (raw instanceof Date d) return d;
+                if (raw instanceof Number n) return new Date(n.longValue());
+                return Date.from(Instant.from(DATE_FORMAT.parse(raw.toString())));
+            });
+
+    /// <summary>Codec for <see cref="Instant"/>.</summary>
+    public static final Codec<Instant> INSTANT = Codec.of(
+            v -> storage == Storage.EPOCH_MILLIS ? (Object) v.toEpochMilli() : v.toString(),
+            (raw, current) -> {
+                if (raw instanceof Instant i) return i;
+                if (raw instanceof Date d) return d.toInstant();
+                if (raw instanceof Number n) return Instant.ofEpochMilli(n.longValue());
+                return Instant.parse(raw.toString());
+            });
+
+    /// <summary>Codec for <see cref="LocalDateTime"/>.</summary>
+    public static final Codec<LocalDateTime> LOCAL_DATE_TIME = Codec.of(
+            v -> storage == Storage.EPOCH_MILLIS ? (Object) v.atZone(ZONE).toInstant().toEpochMilli() : v.toString(),
+            (raw, current) -> {
+                if (raw instanceof LocalDateTime t) return t;
+                if (raw instanceof Date d) return LocalDateTime.ofInstant(d.toInstant(), ZONE);
+                if (raw instanceof Number n) return LocalDateTime.ofInstant(Instant.ofEpochMilli(n.longValue()), ZONE);
+                return LocalDateTime.parse(raw.toString());
+            });
+
+    /// <summary>Codec for <see cref="Duration"/>.</summary>
+    public static final Codec<Duration> DURATION = Codec.of(
+            v -> storage == Storage.EPOCH_MILLIS ? (Object) v.toMillis() : v.toString(),
+            (raw, current) -> {
+                if (raw instanceof Duration d) return d;
+                if (raw instanceof Number n) return Duration.ofMillis(n.longValue());
+                return Duration.parse(raw.toString());
+            });
+
+    private DateTimeCodecs() {}
+
+    /// <summary>Write a <see cref="Date"/> in the current storage mode.</summary>
+    /// <param name="value">Non-null date.</param>
+    /// <returns>Formatted string or epoch milliseconds.</returns>
+    public static Object writeDate(Date value) {
+        return storage == Storage.EPOCH_MILLIS ? (Object) value.getTime() : DATE_FORMAT.format(value.toInstant());
+    }
+
+    /// <summary>Current storage mode.</summary>
+    public static Storage getStorage() { return storage; }
+
+    /// <summary>Change how temporal values are written from now on.</summary>
+    /// <param name="mode">New mode; <c>null</c> resets to <see cref="Storage#FORMATTED"/>.</param>
+    public static void setStorage(Storage mode) { storage = mode == null ? Storage.FORMATTED : mode; }
+}
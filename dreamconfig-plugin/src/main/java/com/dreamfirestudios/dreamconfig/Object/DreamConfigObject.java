@@ -24,6 +24,8 @@
 package com.dreamfirestudios.dreamconfig.Object;
 
 import com.dreamfirestudios.dreamconfig.DreamConfig;
+import com.dreamfirestudios.dreamconfig.Internal.Storage.AtomicFiles;
+import com.dreamfirestudios.dreamconfig.Internal.Yaml.ParsedDocumentCache;
 import com.dreamfirestudios.dreamconfig.Model.Interfaces.DreamConfigFooter;
 import com.dreamfirestudios.dreamconfig.Model.Interfaces.DreamConfigHeader;
 import org.bukkit.Bukkit;
@@ -33,6 +35,8 @@ import org.bukkit.plugin.java.JavaPlugin;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.*;
 
 /// <summary>
@@ -40,7 +44,8 @@ import java.util.*;
 /// </summary>
 /// <remarks>
 /// Handles first-time file creation, header/footer application, deep-section extraction,
-/// and basic set/save/delete operations. Use alongside the YAML repository.
+/// and basic set/save/delete operations. Use alongside the YAML repository. The YAML is only parsed
+/// when one of those operations needs it.
 /// </remarks>
 /// <example>
 /// <code>
@@ -51,29 +56,59 @@ import java.util.*;
 /// </example>
 public final class DreamConfigObject {
     private final File file;
-    private final FileConfiguration config;
+    private FileConfiguration config;
     private final boolean firstLoad;
 
     /// <summary>
-    /// Construct and load a YAML config file under the plugin's data folder.
+    /// Bind a YAML config file under the plugin's data folder, creating it if missing.
     /// </summary>
+    /// <remarks>
+    /// The file is parsed lazily on the first call that needs the in-memory YAML (<see cref="asDeepMap"/>,
+    /// <see cref="set"/>, <see cref="save"/>, ...), so repositories that stream the file never parse it twice.
+    /// </remarks>
     /// <param name="plugin">Owning plugin (defaults to <see cref="DreamConfig.get()"/> if null).</param>
     /// <param name="configPath">Relative path inside the plugin data folder.</param>
     /// <param name="documentId">File name (without extension).</param>
     public DreamConfigObject(JavaPlugin plugin, String configPath, String documentId) {
+        this(plugin, configPath, documentId, ".yml");
+    }
+
+    /// <summary>
+    /// Bind a config file with a repository-specific <paramref name="extension"/> (e.g. <c>.dcb</c>),
+    /// creating it if missing.
+    /// </summary>
+    /// <remarks>The YAML helpers (<see cref="set"/>, <see cref="save"/>, ...) only make sense for <c>.yml</c> files.</remarks>
+    /// <param name="plugin">Owning plugin (defaults to <see cref="DreamConfig.get()"/> if null).</param>
+    /// <param name="configPath">Relative path inside the plugin data folder.</param>
+    /// <param name="documentId">File name (without extension).</param>
+    /// <param name="extension">File extension including the dot, or <c>null</c> to only record the location without creating a file.</param>
+    public DreamConfigObject(JavaPlugin plugin, String configPath, String documentId, String extension) {
         if (plugin == null) plugin = DreamConfig.get();
         var dir = new File(plugin.getDataFolder(), configPath);
         if (!dir.exists() && !dir.mkdirs()) plugin.getLogger().severe("Could not create directory: " + dir.getPath());
-        this.file = new File(dir, documentId + ".yml");
+        this.file = new File(dir, extension == null ? documentId : documentId + extension);
         this.firstLoad = !file.exists();
-        if (firstLoad) firstCreate(plugin);
-        this.config = YamlConfiguration.loadConfiguration(file);
-        if (firstLoad) save();
+        if (firstLoad && extension != null) firstCreate(plugin);
     }
 
     /// <summary>True if the file was created on this load.</summary>
     public boolean isFirstLoad() { return firstLoad; }
 
+    /// <summary>Backing file (<c>.yml</c> unless another extension was given).</summary>
+    public File getFile() { return file; }
+
+    /// <summary>
+    /// Drop the in-memory YAML after the file was rewritten elsewhere (e.g. by the streaming writer);
+    /// it is re-read on next access.
+    /// </summary>
+    public void invalidate() { config = null; }
+
+    /// <summary>In-memory YAML, parsed on first use and re-read from disk after <see cref="invalidate"/>.</summary>
+    private FileConfiguration config() {
+        if (config == null) config = YamlConfiguration.loadConfiguration(file);
+        return config;
+    }
+
     /// <summary>
     /// Return a deep map view of a configuration section.
     /// </summary>
@@ -86,12 +121,12 @@ public final class DreamConfigObject {
     /// </example>
     public HashMap<Object, Object> asDeepMap(String path) {
         var out = new HashMap<Object, Object>();
-        var section = config.getConfigurationSection(path);
+        var section = config().getConfigurationSection(path);
         if (section == null) return out;
         for (var key : section.getKeys(false)) {
             var full = path + "." + key;
-            if (config.isConfigurationSection(full)) out.put(key, asDeepMap(full));
-            else out.put(key, config.get(full));
+            if (config().isConfigurationSection(full)) out.put(key, asDeepMap(full));
+            else out.put(key, config().get(full));
         }
         return out;
     }
@@ -99,16 +134,26 @@ public final class DreamConfigObject {
     /// <summary>Set a YAML value at the given path.</summary>
     /// <param name="path">YAML path.</param>
     /// <param name="value">Value to store.</param>
-    public void set(String path, Object value) { config.set(path, value); }
+    public void set(String path, Object value) { config().set(path, value); }
 
-    /// <summary>Persist YAML to disk.</summary>
+    /// <summary>Persist YAML to disk, replacing the file atomically (see <see cref="AtomicFiles"/>).</summary>
     public void save() {
-        try { config.save(file); }
+        try {
+            var parent = file.getAbsoluteFile().getParentFile();
+            if (parent != null) Files.createDirectories(parent.toPath());
+            var text = config().saveToString();
+            var bytes = text.getBytes(StandardCharsets.UTF_8);
+            var written = AtomicFiles.write(file.toPath(), bytes);
+            ParsedDocumentCache.recordWrite(file.toPath(), written, text, ParsedDocumentCache.hashOf(bytes));
+        }
         catch (IOException e) { throw new RuntimeException("Failed to save YAML: " + file, e); }
     }
 
     /// <summary>Delete the YAML file (best-effort).</summary>
-    public void delete() { if (!file.delete()) file.deleteOnExit(); }
+    public void delete() {
+        ParsedDocumentCache.invalidate(file.toPath());
+        if (!file.delete()) file.deleteOnExit();
+    }
 
     /// <summary>Apply a header block from <see cref="DreamConfigHeader"/>.</summary>
     /// <param name="header">Header annotation instance.</param>
@@ -117,7 +162,7 @@ public final class DreamConfigObject {
         lines.add("# +----------------------------------------------------+ #");
         lines.addAll(Arrays.asList(header.value()));
         lines.add("# +----------------------------------------------------+ #");
-        config.options().setHeader(lines);
+        config().options().setHeader(lines);
     }
 
     /// <summary>Apply a footer block from <see cref="DreamConfigFooter"/>.</summary>
@@ -127,7 +172,7 @@ public final class DreamConfigObject {
         lines.add("# +----------------------------------------------------+ #");
         lines.addAll(Arrays.asList(footer.value()));
         lines.add("# +----------------------------------------------------+ #");
-        config.options().setFooter(lines);
+        config().options().setFooter(lines);
     }
 
     /// <summary>
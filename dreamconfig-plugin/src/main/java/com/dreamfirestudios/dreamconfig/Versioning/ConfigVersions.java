@@ -0,0 +1,73 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Versioning;
+
+import java.util.Map;
+
+/// <summary>
+/// Helpers for resolving target and stored config versions.
+/// </summary>
+/// <remarks>
+/// Classes without <see cref="ConfigVersion"/> are version 1. Stored versions live under
+/// <see cref="MetadataKeys#META_VERSION"/> and may be a number or a numeric string.
+/// </remarks>
+/// <example>
+/// <code>
+/// int target = ConfigVersions.target(cfg.getClass());
+/// int stored = ConfigVersions.fromTree(obj.asDeepMap(cfg.documentID()));
+/// </code>
+/// </example>
+public final class ConfigVersions {
+    private ConfigVersions() {}
+
+    /// <summary>Version declared by <see cref="ConfigVersion"/>, or 1.</summary>
+    /// <param name="type">Config class.</param>
+    public static int target(Class<?> type) {
+        var ann = type.getAnnotation(ConfigVersion.class);
+        return ann != null ? ann.value() : 1;
+    }
+
+    /// <summary>
+    /// Read <c>__meta.version</c> from a document tree (the map under the document id).
+    /// </summary>
+    /// <param name="root">Document tree; may be null.</param>
+    /// <returns>Stored version, or 1 if missing or invalid.</returns>
+    public static int fromTree(Map<?, ?> root) {
+        if (root == null || root.isEmpty()) return 1;
+        if (!(root.get(MetadataKeys.META_ROOT) instanceof Map<?, ?> meta)) return 1;
+        return parse(meta.get("version"));
+    }
+
+    /// <summary>Coerce a stored version value (Number or String) to an int, defaulting to 1.</summary>
+    /// <param name="value">Raw stored value.</param>
+    public static int parse(Object value) {
+        if (value == null) return 1;
+        if (value instanceof Number n) return n.intValue();
+        try {
+            return Integer.parseInt(String.valueOf(value).trim());
+        } catch (NumberFormatException ignored) {
+            return 1;
+        }
+    }
+}
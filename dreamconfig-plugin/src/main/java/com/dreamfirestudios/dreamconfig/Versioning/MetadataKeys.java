@@ -35,4 +35,6 @@ public final class MetadataKeys {
     public static final String META_ROOT = "__meta";
     /// <summary>Full path to the version node.</summary>
     public static final String META_VERSION = "__meta.version";
+    /// <summary>Full path to the node holding the config class name, used to scan documents by type.</summary>
+    public static final String META_TYPE = "__meta.type";
 }
\ No newline at end of file
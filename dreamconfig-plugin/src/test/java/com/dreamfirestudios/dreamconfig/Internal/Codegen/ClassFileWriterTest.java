@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Internal.Codegen;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.Supplier;
+
+import static com.dreamfirestudios.dreamconfig.Internal.Codegen.ClassFileWriter.*;
+import static com.dreamfirestudios.dreamconfig.Internal.Codegen.ClassFileWriter.Code.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/// <summary>
+/// Defines classes emitted by <see cref="ClassFileWriter"/> and runs them, so the verifier checks the output.
+/// </summary>
+class ClassFileWriterTest {
+    private static final String PACKAGE = ClassFileWriterTest.class.getPackageName().replace('.', '/') + "/";
+
+    @Test
+    void poolEntriesAreShared() {
+        var cw = new ClassFileWriter();
+        int first = cw.classRef("java/lang/Object");
+        assertEquals(first, cw.classRef("java/lang/Object"));
+        assertEquals(cw.methodRef("java/lang/Integer", "valueOf", "(I)Ljava/lang/Integer;"),
+                cw.methodRef("java/lang/Integer", "valueOf", "(I)Ljava/lang/Integer;"));
+        assertNotEquals(first, cw.classRef("java/lang/Integer"));
+    }
+
+    @Test
+    void pushesIntConstantsOfEveryWidth() throws Throwable {
+        for (int value : new int[]{0, 5, 6, 127, 128, 300, Short.MAX_VALUE}) {
+            assertEquals(value, supplier("Constant", value).get(), "pushInt(" + value + ")");
+        }
+    }
+
+    @Test
+    void storesConstructorArgumentInField() throws Throwable {
+        var name = PACKAGE + "Holder";
+        var cw = new ClassFileWriter();
+        int ref = cw.fieldRef(name, "value", "Ljava/lang/Object;");
+        cw.field(ACC_PRIVATE | ACC_FINAL, "value", "Ljava/lang/Object;");
+        cw.method(ACC_PUBLIC, "<init>", "(Ljava/lang/Object;)V", 2, 2, new Code()
+                .op(ALOAD_0).op(INVOKESPECIAL, cw.methodRef("java/lang/Object", "<init>", "()V"))
+                .op(ALOAD_0).op(ALOAD_1).op(PUTFIELD, ref)
+                .op(RETURN));
+        cw.method(ACC_PUBLIC, "get", "()Ljava/lang/Object;", 1, 1, new Code()
+                .op(ALOAD_0).op(GETFIELD, ref).op(ARETURN));
+        var bytes = cw.toByteArray(ACC_PUBLIC | ACC_FINAL | ACC_SUPER, name, "java/lang/Object", "java/util/function/Supplier");
+
+        var hidden = MethodHandles.lookup().defineHiddenClass(bytes, true);
+        var ctor = hidden.findConstructor(hidden.lookupClass(), MethodType.methodType(void.class, Object.class));
+        var supplier = (Supplier<?>) ctor.invoke("stored");
+        assertEquals("stored", supplier.get());
+        assertTrue(hidden.lookupClass().isHidden());
+    }
+
+    /// <summary>Hidden <c>Supplier</c> whose <c>get()</c> returns <c>Integer.valueOf(value)</c>.</summary>
+    private static Supplier<?> supplier(String simpleName, int value) throws Throwable {
+        var name = PACKAGE + simpleName;
+        var cw = new ClassFileWriter();
+        cw.method(ACC_PUBLIC, "<init>", "()V", 1, 1, new Code()
+                .op(ALOAD_0).op(INVOKESPECIAL, cw.methodRef("java/lang/Object", "<init>", "()V"))
+                .op(RETURN));
+        cw.method(ACC_PUBLIC, "get", "()Ljava/lang/Object;", 1, 1, new Code()
+                .pushInt(value)
+                .op(INVOKESTATIC, cw.methodRef("java/lang/Integer", "valueOf", "(I)Ljava/lang/Integer;"))
+                .op(ARETURN));
+        var bytes = cw.toByteArray(ACC_PUBLIC | ACC_FINAL | ACC_SUPER, name, "java/lang/Object", "java/util/function/Supplier");
+        var hidden = MethodHandles.lookup().defineHiddenClass(bytes, true);
+        return (Supplier<?>) hidden.findConstructor(hidden.lookupClass(), MethodType.methodType(void.class)).invoke();
+    }
+}
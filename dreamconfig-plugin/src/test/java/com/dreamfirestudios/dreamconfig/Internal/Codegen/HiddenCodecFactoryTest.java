@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Internal.Codegen;
+
+import com.dreamfirestudios.dreamconfig.Model.Interfaces.IPulseClass;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// <summary>
+/// Runtime codecs: opt-in, generated only with a registered lookup, and equivalent to the reflection path.
+/// </summary>
+class HiddenCodecFactoryTest {
+    public static class Fixture implements IPulseClass {
+        public long count = 1L;
+        public short small = 2;
+        public String label = "x";
+        public final List<String> items = new ArrayList<>(List.of("a"));
+    }
+
+    @AfterEach
+    void disable() { HiddenCodecFactory.setEnabled(false); }
+
+    @Test
+    void offByDefault() {
+        assertFalse(HiddenCodecFactory.isEnabled());
+        assertNull(HiddenCodecFactory.find(Fixture.class));
+    }
+
+    @Test
+    void rejectsLookupWithoutFullPrivilege() {
+        assertThrows(IllegalArgumentException.class, () -> HiddenCodecFactory.register(MethodHandles.publicLookup()));
+    }
+
+    @Test
+    void generatesCodecInRegisteredPackage() throws Exception {
+        HiddenCodecFactory.setEnabled(true);
+        HiddenCodecFactory.register(MethodHandles.lookup());
+        var codec = HiddenCodecFactory.find(Fixture.class);
+        assertNotNull(codec);
+        assertTrue(codec.getClass().isHidden());
+        assertEquals(Fixture.class.getPackageName(), codec.getClass().getPackageName());
+
+        Map<Object, Object> data = new HashMap<>();
+        data.put("count", 40);
+        data.put("small", 70_000);
+        data.put("label", "y");
+        var cfg = new Fixture();
+        codec.read(data, cfg);
+        assertEquals(40L, cfg.count);
+        assertEquals((short) 2, cfg.small);
+        assertEquals("y", cfg.label);
+
+        cfg.items.add("b");
+        var written = codec.write(cfg);
+        assertEquals(List.of("count", "small", "label", "items"), new ArrayList<>(written.keySet()));
+        assertEquals(List.of("a", "b"), written.get("items"));
+    }
+}
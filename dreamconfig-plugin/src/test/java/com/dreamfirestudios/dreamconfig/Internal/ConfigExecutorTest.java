@@ -0,0 +1,163 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Internal;
+
+import com.dreamfirestudios.dreamconfig.Enum.ConfigPriority;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// <summary>Per-document ordering of <see cref="ConfigExecutor"/>.</summary>
+class ConfigExecutorTest {
+    @BeforeEach
+    void start() { ConfigExecutor.init(new ConfigExecutor.Settings(ConfigExecutor.Mode.PLATFORM, 2, 256, 64, 50)); }
+
+    @AfterEach
+    void stop() { ConfigExecutor.shutdown(); }
+
+    @Test
+    void tasksForOneKeyRunInSubmissionOrder() throws Exception {
+        var order = Collections.synchronizedList(new ArrayList<Integer>());
+        for (int i = 0; i < 200; i++) {
+            int n = i;
+            var priority = i % 3 == 0 ? ConfigPriority.INTERACTIVE : ConfigPriority.BACKGROUND;
+            ConfigExecutor.runOrdered("doc", priority, () -> order.add(n));
+        }
+        ConfigExecutor.supplyOrdered("doc", () -> null).get(5, TimeUnit.SECONDS);
+        var expected = new ArrayList<Integer>();
+        for (int i = 0; i < 200; i++) expected.add(i);
+        assertEquals(expected, order);
+    }
+
+    @Test
+    void urgentTaskDoesNotWaitForOtherDocuments() throws Exception {
+        var release = new CountDownLatch(1);
+        var blocked = List.of("a", "b", "c", "d", "e", "f", "g", "h");
+        ConfigExecutor.runOrdered(blocked.get(0), () -> await(release));
+        for (var key : blocked) ConfigExecutor.runOrdered(key, () -> { });
+
+        var urgent = ConfigExecutor.supplyOrdered("player-1", ConfigPriority.INTERACTIVE, () -> "loaded");
+        assertEquals("loaded", urgent.get(2, TimeUnit.SECONDS));
+        release.countDown();
+        ConfigExecutor.supplyOrdered(blocked.get(0), () -> null).get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void tasksWaitingOnLanesDoNotHoldTheirSlots() throws Exception {
+        var waiters = new ArrayList<CompletableFuture<String>>();
+        for (int i = 0; i < 4; i++) {
+            var key = "doc-" + i;
+            waiters.add(ConfigExecutor.supplyAsync(() -> ConfigExecutor.await(ConfigExecutor.supplyOrdered(key, () -> key))));
+        }
+        for (int i = 0; i < 4; i++) assertEquals("doc-" + i, waiters.get(i).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void batchIsOrderedWithEveryKeyItSpans() throws Exception {
+        var order = Collections.synchronizedList(new ArrayList<String>());
+        var release = new CountDownLatch(1);
+        ConfigExecutor.runOrdered("a", () -> { await(release); order.add("a-before"); });
+        var batch = ConfigExecutor.supplyOrdered(List.of("a", "b"), ConfigPriority.NORMAL, () -> order.add("batch"));
+        ConfigExecutor.runOrdered("b", () -> order.add("b-after"));
+        var other = ConfigExecutor.supplyOrdered("c", () -> "c");
+
+        assertEquals("c", other.get(2, TimeUnit.SECONDS));
+        assertTrue(order.isEmpty());
+        release.countDown();
+        batch.get(5, TimeUnit.SECONDS);
+        ConfigExecutor.supplyOrdered("b", () -> null).get(5, TimeUnit.SECONDS);
+        assertEquals(List.of("a-before", "batch", "b-after"), order);
+    }
+
+    @Test
+    void overlappingBatchesDoNotDeadlock() throws Exception {
+        var batches = new ArrayList<CompletableFuture<Integer>>();
+        for (int i = 0; i < 50; i++) {
+            int n = i;
+            var keys = i % 2 == 0 ? List.of("x", "y", "z") : List.of("z", "y", "x");
+            batches.add(ConfigExecutor.supplyOrdered(keys, ConfigPriority.NORMAL, () -> n));
+        }
+        for (int i = 0; i < 50; i++) assertEquals(Integer.valueOf(i), batches.get(i).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shutdownDrainsAcceptedWorkAndRejectsNewWork() throws Exception {
+        var order = Collections.synchronizedList(new ArrayList<String>());
+        var release = new CountDownLatch(1);
+        ConfigExecutor.runOrdered("doc", () -> {
+            await(release);
+            order.add("first");
+            ConfigExecutor.runOrdered("other", () -> order.add("follow-up"));
+        });
+        for (int i = 0; i < 3; i++) {
+            int n = i;
+            ConfigExecutor.runOrdered("doc", () -> order.add("queued-" + n));
+        }
+
+        ConfigExecutor.shutdown();
+        assertThrows(RejectedExecutionException.class, () -> ConfigExecutor.runOrdered("doc", () -> order.add("late")));
+        assertFalse(ConfigExecutor.awaitTermination(50, TimeUnit.MILLISECONDS));
+        release.countDown();
+        assertTrue(ConfigExecutor.awaitTermination(5, TimeUnit.SECONDS));
+        assertEquals(5, order.size());
+        assertEquals(List.of("first", "queued-0", "queued-1", "queued-2"), order.stream().filter(s -> !s.equals("follow-up")).toList());
+        assertTrue(order.contains("follow-up"));
+    }
+
+    @Test
+    void listingErrorFromHasNextFailsForEachParallel() {
+        var seen = Collections.synchronizedList(new ArrayList<Integer>());
+        var items = new Iterator<Integer>() {
+            int next;
+
+            @Override public boolean hasNext() {
+                if (next == 3) throw new UncheckedIOException(new IOException("listing failed"));
+                return true;
+            }
+
+            @Override public Integer next() { return next++; }
+        };
+        var error = assertThrows(UncheckedIOException.class, () -> ConfigExecutor.forEachParallel(items, 4, seen::add));
+        assertEquals("listing failed", error.getCause().getMessage());
+        assertEquals(3, seen.size());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try { latch.await(10, TimeUnit.SECONDS); }
+        catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+    }
+}
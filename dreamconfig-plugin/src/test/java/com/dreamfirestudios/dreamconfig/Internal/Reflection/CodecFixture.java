@@ -0,0 +1,45 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Internal.Reflection;
+
+import com.dreamfirestudios.dreamconfig.Model.Interfaces.IPulseClass;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/// <summary>
+/// Test fixture compiled with <c>DreamConfigCodecProcessor</c>; its <c>CodecFixture_DreamCodec</c> is generated
+/// into the test output.
+/// </summary>
+public class CodecFixture implements IPulseClass {
+    public long longValue = 1L;
+    public short shortValue = 2;
+    public byte byteValue = 3;
+    public float floatValue = 4f;
+    public double doubleValue = 5d;
+    public int intValue = 6;
+    public Long boxedLong = 7L;
+    public String name = "fixture";
+    public final List<String> tags = new ArrayList<>(List.of("a"));
+}
@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Internal.Reflection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// <summary>
+/// Checks the codec generated for <see cref="CodecFixture"/> against the values YAML and <c>.dcb</c> actually
+/// decode: integers as <c>Integer</c>, decimals as <c>Double</c>.
+/// </summary>
+class GeneratedCodecTest {
+    @Test
+    void usesBuildTimeCodec() {
+        var codec = GeneratedCodecs.find(CodecFixture.class);
+        assertNotNull(codec);
+        assertEquals(GeneratedCodecs.codecName(CodecFixture.class), codec.getClass().getName());
+        assertFalse(codec.getClass().isHidden());
+    }
+
+    @Test
+    void widensDecodedNumbers() throws Exception {
+        Map<Object, Object> data = new HashMap<>();
+        data.put("longValue", 10);
+        data.put("shortValue", 20);
+        data.put("byteValue", 30);
+        data.put("floatValue", 4.5d);
+        data.put("doubleValue", 50);
+        data.put("intValue", 60L);
+        data.put("boxedLong", 70);
+
+        var cfg = read(data);
+        assertEquals(10L, cfg.longValue);
+        assertEquals((short) 20, cfg.shortValue);
+        assertEquals((byte) 30, cfg.byteValue);
+        assertEquals(4.5f, cfg.floatValue);
+        assertEquals(50d, cfg.doubleValue);
+        assertEquals(60, cfg.intValue);
+        assertEquals(Long.valueOf(70L), cfg.boxedLong);
+    }
+
+    @Test
+    void keepsCurrentValueWhenStoredValueDoesNotFit() throws Exception {
+        Map<Object, Object> data = new HashMap<>();
+        data.put("shortValue", 70_000);
+        data.put("byteValue", 1.5d);
+        data.put("intValue", "sixty");
+        data.put("name", 12);
+
+        var cfg = read(data);
+        assertEquals((short) 2, cfg.shortValue);
+        assertEquals((byte) 3, cfg.byteValue);
+        assertEquals(6, cfg.intValue);
+        assertEquals("fixture", cfg.name);
+    }
+
+    @Test
+    void roundTripsThroughGeneratedWrite() throws Exception {
+        var source = new CodecFixture();
+        source.longValue = Long.MAX_VALUE;
+        source.floatValue = 0.25f;
+        source.tags.add("b");
+
+        var written = GeneratedCodecs.find(CodecFixture.class).write(source);
+        var copy = read(new HashMap<>(written));
+        assertEquals(Long.MAX_VALUE, copy.longValue);
+        assertEquals(0.25f, copy.floatValue);
+        assertEquals(List.of("a", "b"), copy.tags);
+    }
+
+    private static CodecFixture read(Map<Object, Object> data) throws Exception {
+        var cfg = new CodecFixture();
+        GeneratedCodecs.find(CodecFixture.class).read(data, cfg);
+        return cfg;
+    }
+}
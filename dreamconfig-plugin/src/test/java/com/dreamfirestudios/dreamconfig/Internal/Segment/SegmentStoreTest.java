@@ -0,0 +1,190 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Internal.Segment;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// <summary>Recovery, torn tails, checkpoints and compaction of <see cref="SegmentStore"/>.</summary>
+class SegmentStoreTest {
+    @TempDir Path dir;
+
+    @Test
+    void replaysAllSegmentsWithoutCheckpoint() throws Exception {
+        try (var store = SegmentStore.open(dir)) {
+            store.putAll(Map.of("a", bytes("1"), "b", bytes("2")));
+            store.put("a", bytes("3"));
+            store.delete("b");
+        }
+        Files.delete(dir.resolve("index.ckpt"));
+
+        try (var store = SegmentStore.open(dir)) {
+            assertEquals("3", text(store.get("a")));
+            assertNull(store.get("b"));
+            assertEquals(1, store.size());
+        }
+    }
+
+    @Test
+    void replaysRecordsAfterCheckpoint() throws Exception {
+        var crashed = SegmentStore.open(dir);
+        crashed.put("a", bytes("1"));
+        crashed.put("b", bytes("2"));
+        crashed.checkpoint();
+        crashed.put("a", bytes("3"));
+        crashed.delete("b");
+        crashed.put("c", bytes("4"));
+
+        // Reopened without close(): only the checkpoint and the appended records are on disk.
+        try (var store = SegmentStore.open(dir)) {
+            assertEquals("3", text(store.get("a")));
+            assertNull(store.get("b"));
+            assertEquals("4", text(store.get("c")));
+        }
+        crashed.close();
+    }
+
+    @Test
+    void unreadableCheckpointFallsBackToFullReplay() throws Exception {
+        try (var store = SegmentStore.open(dir)) {
+            store.put("a", bytes("1"));
+        }
+        Files.write(dir.resolve("index.ckpt"), new byte[] { 1, 2, 3 });
+
+        try (var store = SegmentStore.open(dir)) {
+            assertEquals("1", text(store.get("a")));
+        }
+    }
+
+    @Test
+    void truncatesTornTail() throws Exception {
+        try (var store = SegmentStore.open(dir)) {
+            store.put("a", bytes("1"));
+        }
+        var segment = onlySegment();
+        long intact = Files.size(segment);
+        // Header of a record whose payload never made it to disk.
+        Files.write(segment, new byte[] { 0, 0, 0, 40, 1, 2, 3, 4, 1, 0 }, StandardOpenOption.APPEND);
+
+        try (var store = SegmentStore.open(dir)) {
+            assertEquals(intact, Files.size(segment));
+            assertEquals("1", text(store.get("a")));
+            store.put("b", bytes("2"));
+        }
+        try (var store = SegmentStore.open(dir)) {
+            assertEquals("1", text(store.get("a")));
+            assertEquals("2", text(store.get("b")));
+        }
+    }
+
+    @Test
+    void compactionKeepsLiveRecordsAndDropsOldSegments() throws Exception {
+        try (var store = SegmentStore.open(dir)) {
+            for (int i = 0; i < 50; i++) store.put("a", bytes("a" + i));
+            store.put("b", bytes("b"));
+            store.put("c", bytes("c"));
+            store.delete("c");
+            store.compact();
+
+            assertEquals("a49", text(store.get("a")));
+            assertEquals("b", text(store.get("b")));
+            assertNull(store.get("c"));
+            assertEquals(List.of("segment-0000000001.log"), segmentNames());
+        }
+        try (var store = SegmentStore.open(dir)) {
+            assertEquals("a49", text(store.get("a")));
+            assertEquals("b", text(store.get("b")));
+            assertNull(store.get("c"));
+        }
+        Files.delete(dir.resolve("index.ckpt"));
+        try (var store = SegmentStore.open(dir)) {
+            assertEquals(2, store.size());
+            assertNull(store.get("c"));
+        }
+    }
+
+    @Test
+    void compactionNeverCopiesOverANewerPutOrDelete() throws Exception {
+        var ids = List.of("a", "b", "c", "d");
+        try (var store = SegmentStore.open(dir)) {
+            for (int round = 0; round < 50; round++) {
+                for (var id : ids) store.put(id, bytes("seed" + round));
+                int r = round;
+                var stop = new AtomicBoolean();
+                var failure = new AtomicReference<Throwable>();
+                var writer = new Thread(() -> {
+                    try {
+                        for (int n = 0; !stop.get(); n++) {
+                            var id = ids.get(n % ids.size());
+                            if (n % 3 == 0) store.delete(id);
+                            else store.put(id, bytes(r + ":" + n));
+                        }
+                    } catch (Throwable t) {
+                        failure.set(t);
+                    }
+                });
+                writer.start();
+                store.compact();
+                stop.set(true);
+                writer.join();
+                assertNull(failure.get());
+
+                // Full replay of the files as they stand applies records in file order, so a stale copy
+                // appended behind a newer put or tombstone would win.
+                var replay = Files.createDirectories(dir.resolve("replay-" + round));
+                for (var name : segmentNames()) Files.copy(dir.resolve(name), replay.resolve(name));
+                try (var copy = SegmentStore.open(replay)) {
+                    for (var id : ids) assertEquals(text(store.get(id)), text(copy.get(id)));
+                }
+            }
+        }
+    }
+
+    private Path onlySegment() throws Exception {
+        var names = segmentNames();
+        assertEquals(1, names.size());
+        return dir.resolve(names.get(0));
+    }
+
+    private List<String> segmentNames() throws Exception {
+        try (var files = Files.list(dir)) {
+            return files.map(f -> f.getFileName().toString()).filter(n -> n.startsWith("segment-")).sorted().toList();
+        }
+    }
+
+    private static byte[] bytes(String s) { return s.getBytes(StandardCharsets.UTF_8); }
+
+    private static String text(byte[] b) { return b == null ? null : new String(b, StandardCharsets.UTF_8); }
+}
@@ -0,0 +1,85 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Internal.Storage;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// <summary>Atomic replacement and cleanup of temp files left by an earlier run.</summary>
+class AtomicFilesTest {
+    @TempDir Path dir;
+
+    @Test
+    void replacesTarget() throws Exception {
+        var target = dir.resolve("doc.yml");
+        Files.writeString(target, "old");
+        AtomicFiles.write(target, "new".getBytes());
+        assertEquals("new", Files.readString(target));
+        try (var children = Files.list(dir)) { assertEquals(1L, children.count()); }
+    }
+
+    @Test
+    void returnsStampOfWhatWasWritten() throws Exception {
+        var target = dir.resolve("doc.yml");
+        var written = AtomicFiles.write(target, "0123456789".getBytes());
+        Files.writeString(target, "edited by hand");
+        assertEquals(10L, written.size());
+        assertNotEquals(Files.size(target), written.size());
+    }
+
+    @Test
+    void collectsThisThreadsWritesUntilTaken() throws Exception {
+        var target = dir.resolve("doc.yml");
+        AtomicFiles.write(target, "before".getBytes());
+        AtomicFiles.collectWrites();
+        AtomicFiles.write(target, "one".getBytes());
+        var last = AtomicFiles.write(target, "three".getBytes());
+
+        var writes = AtomicFiles.takeWrites();
+        assertEquals(1, writes.size());
+        assertEquals(last.size(), writes.get(target.toAbsolutePath().normalize()).size());
+        AtomicFiles.write(target, "after".getBytes());
+        assertTrue(AtomicFiles.takeWrites().isEmpty());
+    }
+
+    @Test
+    void firstWriteDeletesStaleTempFiles() throws Exception {
+        var stale = Files.writeString(dir.resolve(".doc.yml.17.tmp"), "half");
+        var otherStale = Files.writeString(dir.resolve(".other.yml.3.tmp"), "half");
+        var unrelated = Files.writeString(dir.resolve(".notes.tmp"), "keep");
+        var hidden = Files.writeString(dir.resolve(".doc.yml.draft.tmp"), "keep");
+
+        AtomicFiles.write(dir.resolve("doc.yml"), "data".getBytes());
+
+        assertFalse(Files.exists(stale));
+        assertFalse(Files.exists(otherStale));
+        assertTrue(Files.exists(unrelated));
+        assertTrue(Files.exists(hidden));
+    }
+}
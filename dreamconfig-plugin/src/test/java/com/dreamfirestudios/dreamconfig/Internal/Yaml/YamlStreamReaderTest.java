@@ -0,0 +1,138 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Internal.Yaml;
+
+import com.dreamfirestudios.dreamconfig.Model.Interfaces.IDreamConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/// <summary>
+/// Unsupported YAML must be detected before anything is bound, so the fallback loader starts from an untouched
+/// config.
+/// </summary>
+class YamlStreamReaderTest {
+    public static class Sample implements IDreamConfig {
+        public List<String> first = new ArrayList<>();
+        public String name = "default";
+        public List<String> second = new ArrayList<>();
+
+        @Override public String documentID() { return "sample"; }
+    }
+
+    @TempDir Path dir;
+
+    @BeforeEach
+    void disableCache() { ParsedDocumentCache.configure(0, false); }
+
+    @Test
+    void bindsSupportedDocument() throws Exception {
+        var cfg = read("""
+                sample:
+                  __meta:
+                    version: 3
+                  first: [a, b]
+                  name: "x"
+                  second: [c]
+                """);
+        assertEquals(3, YamlStreamReader.read(dir.resolve("sample.yml"), new Sample()).getAsInt());
+        assertEquals(List.of("a", "b"), cfg.first);
+        assertEquals("x", cfg.name);
+        assertEquals(List.of("c"), cfg.second);
+    }
+
+    @Test
+    void aliasAfterBoundFieldsLeavesConfigUntouched() throws Exception {
+        assertUnsupported("""
+                sample:
+                  first: &items [a, b]
+                  name: "x"
+                  second: *items
+                """);
+    }
+
+    @Test
+    void mergeKeyIsUnsupported() throws Exception {
+        assertUnsupported("""
+                base: &base {name: "x"}
+                sample:
+                  first: [a]
+                  <<: *base
+                """);
+    }
+
+    @Test
+    void customTagIsUnsupported() throws Exception {
+        assertUnsupported("""
+                sample:
+                  first: [a]
+                  name: !custom x
+                """);
+    }
+
+    @Test
+    void complexKeyIsUnsupported() throws Exception {
+        assertUnsupported("""
+                sample:
+                  first: [a]
+                  ? [k]
+                  : v
+                """);
+    }
+
+    @Test
+    void quotedMergeLookalikeIsAPlainKey() throws Exception {
+        var cfg = read("""
+                sample:
+                  "<<": ignored
+                  name: "x"
+                """);
+        assertEquals("x", cfg.name);
+    }
+
+    private void assertUnsupported(String yaml) throws Exception {
+        var file = dir.resolve("sample.yml");
+        Files.writeString(file, yaml);
+        var cfg = new Sample();
+        assertTrue(YamlStreamReader.read(file, cfg).isEmpty());
+        assertEquals(List.of(), cfg.first);
+        assertEquals("default", cfg.name);
+        assertEquals(List.of(), cfg.second);
+    }
+
+    private Sample read(String yaml) throws Exception {
+        var file = dir.resolve("sample.yml");
+        Files.writeString(file, yaml);
+        var cfg = new Sample();
+        assertTrue(YamlStreamReader.read(file, cfg).isPresent());
+        return cfg;
+    }
+}
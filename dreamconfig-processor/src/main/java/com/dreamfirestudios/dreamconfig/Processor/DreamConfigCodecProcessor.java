@@ -0,0 +1,306 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Dreamfire Studio
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.dreamfirestudios.dreamconfig.Processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.*;
+
+/// <summary>
+/// Annotation processor that generates a reflection-free <c>GeneratedCodec</c> for every concrete
+/// <c>IDreamConfig</c> / <c>IPulseClass</c> type in the compilation.
+/// </summary>
+/// <remarks>
+/// The generated class (<c>&lt;Outer_Inner&gt;_DreamCodec</c>, same package) follows the runtime rules of
+/// <c>FieldPlan</c>:
+/// - skips <c>static</c>, <c>private</c>, <c>protected</c> and <c>@DontSave</c> fields,
+/// - uses <c>@SaveName</c> (non-blank) as the persisted key,
+/// - emits the <c>@StorageComment</c> banner entry before the field,
+/// - appends <c>StaticEnumPulseConfig</c> superclass fields for enum configs,
+/// - delegates defaults (and therefore <c>@DontDefault</c>) and values (including <c>@CustomSerialize</c> types)
+///   to the same runtime helpers as the reflection path.
+/// Fields are read and written directly; only <c>final</c> fields or fields not accessible from the config's
+/// package go through the runtime <c>FieldPlan</c> accessor. Decoded values pass through
+/// <c>FieldAccessor.convert</c> before assignment, so an <c>Integer</c> read from YAML lands in a <c>long</c> or
+/// <c>short</c> field exactly as on the reflection path, and a value that does not fit keeps the current one. Generic, abstract, local and private types are
+/// skipped and keep using reflection.
+/// <para/>
+/// Enable by adding this artifact to <c>annotationProcessorPaths</c> of the plugin's compiler configuration.
+/// </remarks>
+/// <example>
+/// <code>
+/// &lt;annotationProcessorPaths&gt;
+///   &lt;path&gt;
+///     &lt;groupId&gt;com.dreamfirestudios&lt;/groupId&gt;
+///     &lt;artifactId&gt;dreamconfig-processor&lt;/artifactId&gt;
+///     &lt;version&gt;1.0.0-SNAPSHOT&lt;/version&gt;
+///   &lt;/path&gt;
+/// &lt;/annotationProcessorPaths&gt;
+/// </code>
+/// </example>
+@SupportedAnnotationTypes("*")
+public final class DreamConfigCodecProcessor extends AbstractProcessor {
+    private static final String BASE = "com.dreamfirestudios.dreamconfig.";
+    private static final String I_DREAM_CONFIG = BASE + "Model.Interfaces.IDreamConfig";
+    private static final String I_PULSE_CLASS = BASE + "Model.Interfaces.IPulseClass";
+    private static final String STATIC_ENUM_CONFIG = BASE + "Model.StaticEnumPulseConfig";
+    private static final String DONT_SAVE = BASE + "Model.Interfaces.DontSave";
+    private static final String SAVE_NAME = BASE + "Model.Interfaces.SaveName";
+    private static final String STORAGE_COMMENT = BASE + "Model.Interfaces.StorageComment";
+    private static final String CODEC = BASE + "Internal.Reflection.GeneratedCodec";
+    private static final String PLAN = BASE + "Internal.Reflection.FieldPlan";
+    private static final String SERIALIZER = BASE + "Internal.Reflection.DreamConfigSerializer";
+    private static final String DESERIALIZER = BASE + "Internal.Reflection.DreamConfigDeSerializer";
+    private static final String ACCESSOR = BASE + "Internal.Reflection.FieldAccessor";
+    private static final String SUFFIX = "_DreamCodec";
+
+    private final Set<String> generated = new HashSet<>();
+
+    @Override public SourceVersion getSupportedSourceVersion() { return SourceVersion.latestSupported(); }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        var elements = processingEnv.getElementUtils();
+        var roots = new ArrayList<TypeElement>();
+        for (var name : List.of(I_DREAM_CONFIG, I_PULSE_CLASS)) {
+            var root = elements.getTypeElement(name);
+            if (root != null) roots.add(root);
+        }
+        if (roots.isEmpty()) return false;
+        var enumConfig = elements.getTypeElement(STATIC_ENUM_CONFIG);
+        for (var element : round.getRootElements()) scan(element, roots, enumConfig);
+        return false;
+    }
+
+    /// <summary>Visit a type and its member types, generating codecs for candidates.</summary>
+    private void scan(Element element, List<TypeElement> roots, TypeElement enumConfig) {
+        if (!(element instanceof TypeElement type)) return;
+        if (isCandidate(type, roots)) {
+            try { generate(type, enumConfig); }
+            catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                        "DreamConfig: could not generate codec for " + type.getQualifiedName() + ": " + e.getMessage(), type);
+            }
+        }
+        for (var enclosed : type.getEnclosedElements()) scan(enclosed, roots, enumConfig);
+    }
+
+    /// <summary>Concrete, non-generic, referenceable class implementing one of the config roots.</summary>
+    private boolean isCandidate(TypeElement type, List<TypeElement> roots) {
+        if (type.getKind() != ElementKind.CLASS) return false;
+        if (type.getModifiers().contains(Modifier.ABSTRACT) || !type.getTypeParameters().isEmpty()) return false;
+        for (Element e = type; e instanceof TypeElement t; e = t.getEnclosingElement()) {
+            if (t.getNestingKind() != NestingKind.TOP_LEVEL && t.getNestingKind() != NestingKind.MEMBER) return false;
+            if (t.getModifiers().contains(Modifier.PRIVATE)) return false;
+            if (t.getNestingKind() == NestingKind.MEMBER && !t.getModifiers().contains(Modifier.STATIC)) return false;
+        }
+        for (var root : roots) if (isSubtype(type, root)) return true;
+        return false;
+    }
+
+    private boolean isSubtype(TypeElement type, TypeElement of) {
+        var types = processingEnv.getTypeUtils();
+        return of != null && types.isAssignable(types.erasure(type.asType()), types.erasure(of.asType()));
+    }
+
+    /// <summary>Collect persisted fields in declaration order, mirroring <c>FieldPlan</c>.</summary>
+    private void collect(TypeElement declaring, TypeElement enumConfig, boolean enumCfg, List<VariableElement> out) {
+        for (var field : ElementFilter.fieldsIn(declaring.getEnclosedElements())) {
+            var mods = field.getModifiers();
+            if (mods.contains(Modifier.STATIC) || mods.contains(Modifier.PRIVATE) || mods.contains(Modifier.PROTECTED)) continue;
+            if (annotation(field, DONT_SAVE) != null) continue;
+            out.add(field);
+        }
+        if (!enumCfg) return;
+        var sup = declaring.getSuperclass();
+        if (sup.getKind() != TypeKind.DECLARED) return;
+        var supElement = (TypeElement) ((DeclaredType) sup).asElement();
+        if (isSubtype(supElement, enumConfig)) collect(supElement, enumConfig, true, out);
+    }
+
+    private void generate(TypeElement type, TypeElement enumConfig) throws IOException {
+        var elements = processingEnv.getElementUtils();
+        var pkg = elements.getPackageOf(type).getQualifiedName().toString();
+        var binary = elements.getBinaryName(type).toString();
+        var simple = (pkg.isEmpty() ? binary : binary.substring(pkg.length() + 1)).replace('$', '_') + SUFFIX;
+        var qualified = pkg.isEmpty() ? simple : pkg + "." + simple;
+        if (!generated.add(qualified)) return;
+
+        var fields = new ArrayList<VariableElement>();
+        collect(type, enumConfig, isSubtype(type, enumConfig), fields);
+        var target = type.getQualifiedName().toString();
+
+        var file = processingEnv.getFiler().createSourceFile(qualified, type);
+        try (var w = new PrintWriter(file.openWriter())) {
+            if (!pkg.isEmpty()) w.println("package " + pkg + ";");
+            w.println();
+            w.println("/** Generated by DreamConfigCodecProcessor for {@link " + target + "}. Do not edit. */");
+            w.println("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")");
+            w.println("@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+            w.println("public final class " + simple + " implements " + CODEC + "<" + target + "> {");
+            w.println("    private static final " + PLAN + " PLAN = " + PLAN + ".of(" + target + ".class);");
+            for (int i = 0; i < fields.size(); i++)
+                w.println("    private static final " + PLAN + ".PlannedField F" + i + " = PLAN.field(" + literal(saveName(fields.get(i))) + ");");
+            w.println();
+            w.println("    public " + simple + "() {}");
+            w.println();
+
+            w.println("    @Override");
+            w.println("    public java.util.LinkedHashMap<String, Object> write(" + target + " instance) throws Exception {");
+            w.println("        final java.util.LinkedHashMap<String, Object> out = new java.util.LinkedHashMap<>(" + Math.max(4, fields.size() * 2) + ");");
+            w.println("        Object v;");
+            for (int i = 0; i < fields.size(); i++) {
+                var f = fields.get(i);
+                var ref = "F" + i;
+                w.println("        v = " + read(f, pkg, "instance", ref) + ";");
+                if (!f.asType().getKind().isPrimitive()) w.println("        if (v == null) v = " + ref + ".resolve(instance);");
+                w.println("        if (v != null) {");
+                var comment = stringValue(f, STORAGE_COMMENT);
+                if (comment != null && !comment.isBlank())
+                    w.println("            out.put(" + literal("# +------------------" + comment) + ", \"------------------+ #\");");
+                w.println("            out.put(" + literal(saveName(f)) + ", " + SERIALIZER + ".writeValue(v));");
+                w.println("        }");
+            }
+            w.println("        return out;");
+            w.println("    }");
+            w.println();
+
+            w.println("    @Override");
+            w.println("    public void read(java.util.Map<Object, Object> data, " + target + " target) throws Exception {");
+            w.println("        Object cur;");
+            for (int i = 0; i < fields.size(); i++) {
+                var f = fields.get(i);
+                var ref = "F" + i;
+                var key = literal(saveName(f));
+                w.println("        cur = " + read(f, pkg, "target", ref) + ";");
+                if (!f.asType().getKind().isPrimitive()) w.println("        if (cur == null) cur = " + ref + ".resolve(target);");
+                w.println("        if (cur != null && data.containsKey(" + key + ")) {");
+                w.println("            final Object des = " + DESERIALIZER + ".readValue(cur.getClass(), cur, data.get(" + key + "));");
+                w.println("            " + write(f, pkg, "target", ref, "des", "cur") + ";");
+                w.println("        }");
+            }
+            w.println("    }");
+            w.println("}");
+        }
+    }
+
+    /// <summary>Expression reading the field, direct when accessible.</summary>
+    private String read(VariableElement f, String pkg, String owner, String ref) {
+        return directlyAccessible(f, pkg, false) ? owner + "." + f.getSimpleName() : ref + ".get(" + owner + ")";
+    }
+
+    /// <summary>
+    /// Statement storing a decoded value, direct when accessible and non-final. Stored numbers are converted to the
+    /// field type (<c>FieldAccessor.convert</c>); a value that does not fit leaves <paramref name="current"/> in place.
+    /// </summary>
+    private String write(VariableElement f, String pkg, String owner, String ref, String value, String current) {
+        if (!directlyAccessible(f, pkg, true)) return ref + ".assign(" + owner + ", " + value + ")";
+        var erased = processingEnv.getTypeUtils().erasure(f.asType());
+        return owner + "." + f.getSimpleName() + " = (" + castType(f.asType()) + ") "
+                + ACCESSOR + ".convert(" + erased + ".class, " + value + ", " + current + ")";
+    }
+
+    private boolean directlyAccessible(VariableElement f, String pkg, boolean forWrite) {
+        if (forWrite && f.getModifiers().contains(Modifier.FINAL)) return false;
+        var declaring = (TypeElement) f.getEnclosingElement();
+        var samePackage = processingEnv.getElementUtils().getPackageOf(declaring).getQualifiedName().contentEquals(pkg);
+        if (!samePackage && !f.getModifiers().contains(Modifier.PUBLIC)) return false;
+        return !forWrite || typeAccessible(f.asType(), pkg);
+    }
+
+    /// <summary>True if the (erased) type can be named from <paramref name="pkg"/>.</summary>
+    private boolean typeAccessible(TypeMirror type, String pkg) {
+        var types = processingEnv.getTypeUtils();
+        var erased = types.erasure(type);
+        if (erased.getKind().isPrimitive()) return true;
+        if (erased.getKind() == TypeKind.ARRAY) return typeAccessible(((javax.lang.model.type.ArrayType) erased).getComponentType(), pkg);
+        if (erased.getKind() != TypeKind.DECLARED) return false;
+        for (Element e = types.asElement(erased); e instanceof TypeElement t; e = t.getEnclosingElement()) {
+            var mods = t.getModifiers();
+            if (mods.contains(Modifier.PRIVATE)) return false;
+            var samePackage = processingEnv.getElementUtils().getPackageOf(t).getQualifiedName().contentEquals(pkg);
+            if (!samePackage && !mods.contains(Modifier.PUBLIC)) return false;
+        }
+        return true;
+    }
+
+    /// <summary>Erased (and boxed, for primitives) source name used for assignment casts.</summary>
+    private String castType(TypeMirror type) {
+        var types = processingEnv.getTypeUtils();
+        if (type.getKind().isPrimitive()) return types.boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        return types.erasure(type).toString();
+    }
+
+    private String saveName(VariableElement f) {
+        var value = stringValue(f, SAVE_NAME);
+        return value != null && !value.isBlank() ? value : f.getSimpleName().toString();
+    }
+
+    private static AnnotationMirror annotation(Element e, String qualifiedName) {
+        for (var mirror : e.getAnnotationMirrors()) {
+            var t = (TypeElement) mirror.getAnnotationType().asElement();
+            if (t.getQualifiedName().contentEquals(qualifiedName)) return mirror;
+        }
+        return null;
+    }
+
+    private static String stringValue(Element e, String annotation) {
+        var mirror = annotation(e, annotation);
+        if (mirror == null) return null;
+        for (var entry : mirror.getElementValues().entrySet())
+            if (entry.getKey().getSimpleName().contentEquals("value")) return String.valueOf(entry.getValue().getValue());
+        return null;
+    }
+
+    /// <summary>Java string literal for <paramref name="s"/>.</summary>
+    private static String literal(String s) {
+        var sb = new StringBuilder(s.length() + 2).append('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7e) sb.append(String.format("\\u%04x", (int) c));
+                    else sb.append(c);
+                }
+            }
+        }
+        return sb.append('"').toString();
+    }
+}